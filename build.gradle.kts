@@ -1,6 +1,7 @@
 plugins {
     `maven-publish`
     id("hytale-mod") version "0.+"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.veilcore"
@@ -20,6 +21,13 @@ java {
 
 dependencies {
     compileOnly(files("libs/HytaleServer.jar"))
+    jmh(files("libs/HytaleServer.jar"))
+}
+
+// Benchmarks live in src/jmh/java; run them with ./gradlew jmh
+jmh {
+    // Report allocation per operation alongside the timings
+    profilers.add("gc")
 }
 
 tasks.jar {
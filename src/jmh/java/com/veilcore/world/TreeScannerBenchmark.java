@@ -0,0 +1,153 @@
+package com.veilcore.world;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.veilcore.resources.ResourceSnapshot;
+
+/**
+ * Tree scans over synthetic trees, from a bare trunk up to one that hits the log and leaf caps
+ * Run with ./gradlew jmh; the gc profiler is enabled in the build, so gc.alloc.rate.norm shows the
+ * bytes allocated per scan, which should stay at 0 once the scanner's buffers have grown.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TreeScannerBenchmark {
+
+    private static final int AIR = 0;
+    private static final int LOG = 1;
+    private static final int LEAVES = 2;
+    private static final int LEAF_REACH = 3;
+
+    /**
+     * Trunk height, branch length and the height at which branches start
+     */
+    public enum TreeShape {
+        SMALL(6, 0, 0),
+        LARGE(24, 4, 8),
+        MASSIVE(96, 7, 4);
+
+        final int trunkHeight;
+        final int branchLength;
+        final int branchStart;
+
+        TreeShape(int trunkHeight, int branchLength, int branchStart) {
+            this.trunkHeight = trunkHeight;
+            this.branchLength = branchLength;
+            this.branchStart = branchStart;
+        }
+    }
+
+    @Param({"SMALL", "LARGE", "MASSIVE"})
+    public TreeShape shape;
+
+    private final ResourceSnapshot resources = ResourceSnapshot.ofTrees(3, new int[]{LOG}, new int[]{LEAVES});
+    private final TreeScanner scanner = new TreeScanner();
+    private SyntheticTree tree;
+
+    @Setup
+    public void setUp() {
+        tree = new SyntheticTree(shape);
+    }
+
+    @Benchmark
+    public int scanLogs() {
+        return scanner.scan(tree, resources, 0, 0, 0, 0);
+    }
+
+    @Benchmark
+    public int scanLogsAndLeaves() {
+        return scanner.scan(tree, resources, 0, 0, 0, LEAF_REACH);
+    }
+
+    /**
+     * A single tree in a dense block array, centred on the trunk at x = z = 0
+     * The trunk rises from y = 0; branches stick out in all four directions on every other level from
+     * branchStart, and every air block next to a branch or the trunk top becomes leaves.
+     */
+    static final class SyntheticTree implements BlockSource {
+
+        private static final int HALF = TreeScanner.MAX_HORIZONTAL_DISTANCE + 2;
+        private static final int WIDTH = HALF * 2 + 1;
+
+        private final int height;
+        private final byte[] blocks;
+
+        SyntheticTree(TreeShape shape) {
+            this.height = shape.trunkHeight + 2;
+            this.blocks = new byte[WIDTH * height * WIDTH];
+
+            for (int y = 0; y < shape.trunkHeight; y++) {
+                set(0, y, 0, LOG);
+            }
+            if (shape.branchLength > 0) {
+                for (int y = shape.branchStart; y < shape.trunkHeight; y += 2) {
+                    for (int i = 1; i <= shape.branchLength; i++) {
+                        set(i, y, 0, LOG);
+                        set(-i, y, 0, LOG);
+                        set(0, y, i, LOG);
+                        set(0, y, -i, LOG);
+                    }
+                }
+            }
+
+            int top = shape.trunkHeight - 1;
+            for (int y = Math.max(1, shape.branchStart - 1); y < height; y++) {
+                for (int x = -HALF + 1; x < HALF; x++) {
+                    for (int z = -HALF + 1; z < HALF; z++) {
+                        if (getBlock(x, y, z) == AIR && (nextToBranch(x, y, z) || y >= top && Math.abs(x) <= 2 && Math.abs(z) <= 2)) {
+                            set(x, y, z, LEAVES);
+                        }
+                    }
+                }
+            }
+        }
+
+        @Override
+        public int getBlock(int x, int y, int z) {
+            int ix = x + HALF;
+            int iz = z + HALF;
+            if (ix < 0 || ix >= WIDTH || iz < 0 || iz >= WIDTH || y < 0 || y >= height) {
+                return AIR;
+            }
+            return blocks[(y * WIDTH + iz) * WIDTH + ix];
+        }
+
+        @Override
+        public boolean isPlaced(int x, int y, int z) {
+            return false;
+        }
+
+        private boolean nextToBranch(int x, int y, int z) {
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dx = -1; dx <= 1; dx++) {
+                    for (int dz = -1; dz <= 1; dz++) {
+                        if ((x + dx != 0 || z + dz != 0) && getBlock(x + dx, y + dy, z + dz) == LOG) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+
+        private void set(int x, int y, int z, int blockId) {
+            blocks[(y * WIDTH + z + HALF) * WIDTH + x + HALF] = (byte) blockId;
+        }
+    }
+}
@@ -1,13 +1,22 @@
 package com.veilcore;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 
 import javax.annotation.Nonnull;
 
+import com.hypixel.hytale.assetstore.event.LoadedAssetsEvent;
+import com.hypixel.hytale.component.ComponentType;
+import com.hypixel.hytale.component.ResourceType;
+import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
 import com.hypixel.hytale.server.core.event.events.player.PlayerDisconnectEvent;
 import com.hypixel.hytale.server.core.event.events.player.PlayerReadyEvent;
 import com.hypixel.hytale.server.core.plugin.JavaPlugin;
 import com.hypixel.hytale.server.core.plugin.JavaPluginInit;
+import com.hypixel.hytale.server.core.universe.world.storage.ChunkStore;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.hypixel.hytale.server.npc.AllNPCsLoadedEvent;
+import com.veilcore.commands.CombatStatsCommand;
 import com.veilcore.commands.DebugHealthCommand;
 import com.veilcore.commands.DiscordCommand;
 import com.veilcore.commands.EntitySpawnCommand;
@@ -15,6 +24,9 @@ import com.veilcore.commands.GiveSkillTokensCommand;
 import com.veilcore.commands.GiveSkillXpCommand;
 import com.veilcore.commands.NameplateTestCommand;
 import com.veilcore.commands.ProfileCommand;
+import com.veilcore.commands.ReloadResourcesCommand;
+import com.veilcore.commands.ReloadSkillTreesCommand;
+import com.veilcore.commands.RngStatsCommand;
 import com.veilcore.commands.SetSkillLevelCommand;
 import com.veilcore.commands.SetStatsCommand;
 import com.veilcore.commands.SkillsCommand;
@@ -22,29 +34,75 @@ import com.veilcore.commands.SpawnGuardCommand;
 import com.veilcore.commands.StatsCommand;
 import com.veilcore.commands.TestDeathCommand;
 import com.veilcore.commands.TestMineOreCommand;
+import com.veilcore.commands.TreasureSenseCommand;
+import com.veilcore.commands.XpStatsCommand;
+import com.veilcore.components.DamageContributors;
+import com.veilcore.components.MiningSpeed;
+import com.veilcore.components.RegenRates;
+import com.veilcore.components.SurvivalNeeds;
 import com.veilcore.listeners.BlockBreakListener;
-import com.veilcore.listeners.HealthRegenSystem;
+import com.veilcore.listeners.BlockPlaceListener;
+import com.veilcore.listeners.BlockRemovalSystem;
+import com.veilcore.listeners.DropAggregatorSystem;
 import com.veilcore.listeners.HealthSyncListener;
 import com.veilcore.listeners.LifestealListener;
+import com.veilcore.listeners.ManaSyncListener;
+import com.veilcore.listeners.MiningSpeedSystem;
+import com.veilcore.listeners.NpcDamageTracker;
+import com.veilcore.listeners.NpcDeathListener;
 import com.veilcore.listeners.NPCNameplateSystem;
 import com.veilcore.listeners.NPCNameplateUpdateSystem;
 import com.veilcore.listeners.PhysicalDamageListener;
+import com.veilcore.listeners.PlacedBlockBreakSystem;
+import com.veilcore.listeners.OreSummaryChunkSystem;
+import com.veilcore.listeners.PlacedBlocksChunkSystem;
 import com.veilcore.listeners.PlayerDeathListener;
 import com.veilcore.listeners.PlayerEventListener;
+import com.veilcore.listeners.RegenerationSystem;
 import com.veilcore.listeners.SpeedSyncListener;
 import com.veilcore.listeners.StaminaRegenModifier;
-import com.veilcore.listeners.StaminaRegenSystem;
 import com.veilcore.listeners.StaminaSyncListener;
+import com.veilcore.listeners.StatSync;
+import com.veilcore.listeners.SurvivalNeedsSystem;
+import com.veilcore.listeners.VeinMiningListener;
 import com.veilcore.listeners.WoodcuttingListener;
+import com.veilcore.listeners.XpFlushSystem;
 import com.veilcore.profile.PlayerProfileManager;
+import com.veilcore.profile.Profile;
 import com.veilcore.profile.ProfileRepository;
 import com.veilcore.profile.ProfileStateManager;
+import com.veilcore.resources.ResourceClassifier;
+import com.veilcore.world.BlockRemovalQueue;
+import com.veilcore.world.DropAggregator;
+import com.veilcore.world.OreSummary;
+import com.veilcore.world.PlacedBlocks;
+import com.veilcore.rng.RngService;
+import com.veilcore.skills.notifications.XpNotificationQueue;
+import com.veilcore.skills.trees.SkillTreeRegistry;
+import com.veilcore.skills.trees.SkillTreeSnapshot;
+import com.veilcore.skills.xp.CombatXpTable;
+import com.veilcore.skills.xp.XpService;
+import com.veilcore.telemetry.CombatTelemetry;
 import com.veilcore.trackers.PlaytimeTracker;
 
 public class VeilCorePlugin extends JavaPlugin {
     private static VeilCorePlugin instance;
     private PlayerProfileManager profileManager;
     private ProfileStateManager stateManager;
+    private RngService rngService;
+    private final CombatTelemetry combatTelemetry = new CombatTelemetry();
+    private final XpNotificationQueue xpNotifications = XpNotificationQueue.fromSystemProperties(java.util.logging.Logger.getLogger("VeilCore"));
+    private XpService xpService;
+    private ResourceClassifier resourceClassifier;
+    private CombatXpTable combatXpTable;
+    private ComponentType<EntityStore, RegenRates> regenRatesComponentType;
+    private ComponentType<EntityStore, SurvivalNeeds> survivalNeedsComponentType;
+    private ComponentType<EntityStore, MiningSpeed> miningSpeedComponentType;
+    private ComponentType<EntityStore, DamageContributors> damageContributorsComponentType;
+    private ComponentType<ChunkStore, PlacedBlocks> placedBlocksComponentType;
+    private ComponentType<ChunkStore, OreSummary> oreSummaryComponentType;
+    private ResourceType<EntityStore, BlockRemovalQueue> blockRemovalQueueResourceType;
+    private ResourceType<EntityStore, DropAggregator> dropAggregatorResourceType;
     private java.util.concurrent.ScheduledExecutorService playtimeScheduler;
     private final java.util.Set<java.util.UUID> pendingProfileCreation = new java.util.concurrent.ConcurrentHashMap<java.util.UUID, Boolean>().keySet(true);
 
@@ -62,17 +120,63 @@ public class VeilCorePlugin extends JavaPlugin {
         ProfileRepository repository = new ProfileRepository(dataFolder, java.util.logging.Logger.getLogger("VeilCore"));
         profileManager = new PlayerProfileManager(repository, java.util.logging.Logger.getLogger("VeilCore"), dataFolder);
         stateManager = new ProfileStateManager(repository, java.util.logging.Logger.getLogger("VeilCore"));
+        xpService = new XpService(profileManager, xpNotifications, java.util.logging.Logger.getLogger("VeilCore"));
         
         getLogger().at(Level.INFO).log("Profile system initialized");
 
+        // Initialize RNG service (optionally seeded via -Dveilcore.rng.seed)
+        rngService = RngService.fromSystemProperties();
+        if (rngService.getSeed() != null) {
+            getLogger().at(Level.INFO).log("RNG service seeded with " + rngService.getSeed());
+        }
+
+        // Build the skill trees from skill_trees.json while the block tables compile
+        CompletableFuture<SkillTreeSnapshot> skillTrees = CompletableFuture.supplyAsync(
+            () -> SkillTreeRegistry.getInstance().reload(dataFolder, java.util.logging.Logger.getLogger("VeilCore")));
+
+        // Compile gathering.json into block classification tables now and again whenever block assets reload
+        resourceClassifier = new ResourceClassifier(dataFolder, java.util.logging.Logger.getLogger("VeilCore"));
+        resourceClassifier.reload();
+        getEventRegistry().register(LoadedAssetsEvent.class, BlockType.class, resourceClassifier::onBlockTypesChanged);
+        getLogger().at(Level.INFO).log("Resource classifier built for " + resourceClassifier.size() + " block types");
+
+        // Combat XP per NPC role; role names are resolved to role indices on the first kill after NPC roles load
+        combatXpTable = new CombatXpTable(dataFolder, java.util.logging.Logger.getLogger("VeilCore"));
+        getLogger().at(Level.INFO).log("Loaded combat XP for " + combatXpTable.reload().getRoles().size() + " NPC roles");
+        getEventRegistry().register(AllNPCsLoadedEvent.class, combatXpTable::onNPCsLoaded);
+
+        SkillTreeSnapshot trees = skillTrees.join();
+        getLogger().at(Level.INFO).log("Loaded " + trees.size() + " skill trees (version " + trees.getVersion() + ")");
+
+        // Register ECS components
+        regenRatesComponentType = getEntityStoreRegistry().registerComponent(RegenRates.class, RegenRates::new);
+        survivalNeedsComponentType = getEntityStoreRegistry().registerComponent(SurvivalNeeds.class, SurvivalNeeds::new);
+        miningSpeedComponentType = getEntityStoreRegistry().registerComponent(MiningSpeed.class, MiningSpeed::new);
+        damageContributorsComponentType = getEntityStoreRegistry().registerComponent(DamageContributors.class, DamageContributors::new);
+        placedBlocksComponentType = getChunkStoreRegistry().registerComponent(PlacedBlocks.class, "VeilCorePlacedBlocks", PlacedBlocks.CODEC);
+        oreSummaryComponentType = getChunkStoreRegistry().registerComponent(OreSummary.class, OreSummary::new);
+        blockRemovalQueueResourceType = getEntityStoreRegistry().registerResource(BlockRemovalQueue.class, BlockRemovalQueue::new);
+        dropAggregatorResourceType = getEntityStoreRegistry().registerResource(DropAggregator.class, DropAggregator::new);
+
         // Register ECS systems
         getEntityStoreRegistry().registerSystem(new PlayerDeathListener(this));
+        getEntityStoreRegistry().registerSystem(new NpcDamageTracker());
+        getEntityStoreRegistry().registerSystem(new NpcDeathListener(this));
+        getEntityStoreRegistry().registerSystem(new XpFlushSystem(this));
         getEntityStoreRegistry().registerSystem(new BlockBreakListener(this));
+        getEntityStoreRegistry().registerSystem(new VeinMiningListener(this));
         getEntityStoreRegistry().registerSystem(new WoodcuttingListener(this));
+        getEntityStoreRegistry().registerSystem(new MiningSpeedSystem(this));
+        getEntityStoreRegistry().registerSystem(new BlockPlaceListener());
+        getEntityStoreRegistry().registerSystem(new PlacedBlockBreakSystem());
+        getChunkStoreRegistry().registerSystem(new PlacedBlocksChunkSystem());
+        getChunkStoreRegistry().registerSystem(new OreSummaryChunkSystem());
         getEntityStoreRegistry().registerSystem(new PhysicalDamageListener(this));
         getEntityStoreRegistry().registerSystem(new LifestealListener(this));
-        getEntityStoreRegistry().registerSystem(new HealthRegenSystem(this));
-        getEntityStoreRegistry().registerSystem(new StaminaRegenSystem(this));
+        getEntityStoreRegistry().registerSystem(new RegenerationSystem(this));
+        getEntityStoreRegistry().registerSystem(new SurvivalNeedsSystem(this));
+        getEntityStoreRegistry().registerSystem(new BlockRemovalSystem(this));
+        getEntityStoreRegistry().registerSystem(new DropAggregatorSystem(this));
         getEntityStoreRegistry().registerSystem(new NPCNameplateSystem());
         getEntityStoreRegistry().registerSystem(new NPCNameplateUpdateSystem());
         // Guard AI - handled by GuardRole.json with NEUTRAL attitude
@@ -84,10 +188,12 @@ public class VeilCorePlugin extends JavaPlugin {
         // Register event listeners
         HealthSyncListener healthSyncListener = new HealthSyncListener(this);
         StaminaSyncListener staminaSyncListener = new StaminaSyncListener(this);
+        ManaSyncListener manaSyncListener = new ManaSyncListener(this);
         StaminaRegenModifier staminaRegenModifier = new StaminaRegenModifier(this);
         SpeedSyncListener speedSyncListener = new SpeedSyncListener(this);
         getEventRegistry().registerGlobal(PlayerReadyEvent.class, healthSyncListener::onPlayerReady);
         getEventRegistry().registerGlobal(PlayerReadyEvent.class, staminaSyncListener::onPlayerReady);
+        getEventRegistry().registerGlobal(PlayerReadyEvent.class, manaSyncListener::onPlayerReady);
         getEventRegistry().registerGlobal(PlayerReadyEvent.class, staminaRegenModifier::onPlayerReady);
         getEventRegistry().registerGlobal(PlayerReadyEvent.class, speedSyncListener::onPlayerReady);
         getEventRegistry().registerGlobal(PlayerReadyEvent.class, PlayerEventListener::onPlayerReady);
@@ -112,6 +218,12 @@ public class VeilCorePlugin extends JavaPlugin {
         getCommandRegistry().registerCommand(new TestMineOreCommand(this));
         getCommandRegistry().registerCommand(new DebugHealthCommand(this));
         getCommandRegistry().registerCommand(new SpawnGuardCommand());
+        getCommandRegistry().registerCommand(new RngStatsCommand(this));
+        getCommandRegistry().registerCommand(new CombatStatsCommand(this));
+        getCommandRegistry().registerCommand(new ReloadResourcesCommand(this));
+        getCommandRegistry().registerCommand(new ReloadSkillTreesCommand(this));
+        getCommandRegistry().registerCommand(new TreasureSenseCommand(this));
+        getCommandRegistry().registerCommand(new XpStatsCommand(this));
         
         // Start playtime tracker (runs every second)
         playtimeScheduler = java.util.concurrent.Executors.newSingleThreadScheduledExecutor();
@@ -122,12 +234,21 @@ public class VeilCorePlugin extends JavaPlugin {
             java.util.concurrent.TimeUnit.SECONDS
         );
         
+        // Batched XP is applied by XpFlushSystem on each world's thread; merged XP toasts go out from here
+        playtimeScheduler.scheduleAtFixedRate(
+            xpNotifications,
+            XpNotificationQueue.FLUSH_PERIOD_MILLIS,
+            XpNotificationQueue.FLUSH_PERIOD_MILLIS,
+            java.util.concurrent.TimeUnit.MILLISECONDS
+        );
+        
         getLogger().at(Level.INFO).log("VeilCore fully loaded - Profile system active");
     }
     
     protected void teardown() {
-        // Save all active profiles before shutdown
+        // Save all active profiles before shutdown, including XP still queued this tick
         getLogger().at(Level.INFO).log("Saving all active profiles...");
+        xpService.run();
         int savedCount = profileManager.saveAllActiveProfiles();
         getLogger().at(Level.INFO).log("Saved " + savedCount + " active profiles");
         
@@ -143,6 +264,9 @@ public class VeilCorePlugin extends JavaPlugin {
             }
         }
         
+        // Saves queue ledger compaction, so stop the ledger writer last
+        profileManager.shutdown();
+        
         getLogger().at(Level.INFO).log("VeilCore plugin unloaded");
     }
     
@@ -158,6 +282,78 @@ public class VeilCorePlugin extends JavaPlugin {
         return stateManager;
     }
     
+    public RngService getRngService() {
+        return rngService;
+    }
+    
+    public CombatTelemetry getCombatTelemetry() {
+        return combatTelemetry;
+    }
+    
+    public XpNotificationQueue getXpNotifications() {
+        return xpNotifications;
+    }
+    
+    public XpService getXpService() {
+        return xpService;
+    }
+    
+    public ResourceClassifier getResourceClassifier() {
+        return resourceClassifier;
+    }
+    
+    public CombatXpTable getCombatXpTable() {
+        return combatXpTable;
+    }
+    
+    /**
+     * Re-read skill_trees.json and swap in the rebuilt trees under a new version
+     * Online players' tree stat contributions are re-applied against the new trees and synced on each
+     * player's own world thread.
+     */
+    public SkillTreeSnapshot reloadSkillTrees() {
+        SkillTreeSnapshot trees = SkillTreeRegistry.getInstance().reload(getDataFolder(), java.util.logging.Logger.getLogger("VeilCore"));
+        for (java.util.UUID playerUuid : profileManager.getActivePlayers()) {
+            Profile profile = profileManager.getActiveProfile(playerUuid);
+            if (profile != null) {
+                StatSync.reconcileOnWorld(playerUuid, profile);
+            }
+        }
+        return trees;
+    }
+    
+    public ComponentType<ChunkStore, PlacedBlocks> getPlacedBlocksComponentType() {
+        return placedBlocksComponentType;
+    }
+    
+    public ComponentType<ChunkStore, OreSummary> getOreSummaryComponentType() {
+        return oreSummaryComponentType;
+    }
+    
+    public ResourceType<EntityStore, BlockRemovalQueue> getBlockRemovalQueueResourceType() {
+        return blockRemovalQueueResourceType;
+    }
+    
+    public ResourceType<EntityStore, DropAggregator> getDropAggregatorResourceType() {
+        return dropAggregatorResourceType;
+    }
+    
+    public ComponentType<EntityStore, RegenRates> getRegenRatesComponentType() {
+        return regenRatesComponentType;
+    }
+    
+    public ComponentType<EntityStore, SurvivalNeeds> getSurvivalNeedsComponentType() {
+        return survivalNeedsComponentType;
+    }
+    
+    public ComponentType<EntityStore, MiningSpeed> getMiningSpeedComponentType() {
+        return miningSpeedComponentType;
+    }
+    
+    public ComponentType<EntityStore, DamageContributors> getDamageContributorsComponentType() {
+        return damageContributorsComponentType;
+    }
+    
     public java.util.concurrent.ScheduledExecutorService getScheduler() {
         return playtimeScheduler;
     }
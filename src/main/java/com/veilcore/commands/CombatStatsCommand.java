@@ -0,0 +1,77 @@
+package com.veilcore.commands;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.command.system.basecommands.AbstractPlayerCommand;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.veilcore.VeilCorePlugin;
+import com.veilcore.telemetry.CombatTelemetry;
+import com.veilcore.telemetry.DamageHistogram;
+
+/**
+ * Shows combat telemetry: global hit counts, proc rates, damage distribution,
+ * the caller's own totals and the most-damaged NPC roles
+ */
+public class CombatStatsCommand extends AbstractPlayerCommand {
+
+    private static final int MAX_ROLES_SHOWN = 5;
+
+    private final VeilCorePlugin plugin;
+
+    public CombatStatsCommand(VeilCorePlugin plugin) {
+        super("combatstats", "Show combat telemetry");
+        this.plugin = plugin;
+    }
+
+    @Override
+    protected void execute(
+            @Nonnull CommandContext context,
+            @Nonnull Store<EntityStore> store,
+            @Nonnull Ref<EntityStore> ref,
+            @Nonnull PlayerRef playerRef,
+            @Nonnull World world
+    ) {
+        CombatTelemetry telemetry = plugin.getCombatTelemetry();
+        DamageHistogram damageHistogram = telemetry.getDamageHistogram();
+
+        playerRef.sendMessage(Message.raw("=== Combat Statistics ===").color("#FFAA00"));
+        playerRef.sendMessage(Message.raw(String.format("Hits: %d melee, %d ranged",
+            telemetry.getMeleeHits(), telemetry.getRangedHits())).color("#AAAAAA"));
+        playerRef.sendMessage(Message.raw(String.format("Crit rate: %.2f%% (%d crits)",
+            telemetry.getCriticalRate(), telemetry.getCriticalHits())).color("#AAAAAA"));
+        playerRef.sendMessage(Message.raw(String.format("Lifesteal rate: %.2f%% (%.1f healed)",
+            telemetry.getLifestealRate(), telemetry.getTotalHealed())).color("#AAAAAA"));
+        playerRef.sendMessage(Message.raw(String.format("Damage: %.1f total | %.1f DPS (last %ds)",
+            telemetry.getTotalDamage(), telemetry.getDamagePerSecond(), telemetry.getDpsWindowSeconds())).color("#AAAAAA"));
+        playerRef.sendMessage(Message.raw(String.format("Per hit: p50 %.1f | p95 %.1f | p99 %.1f",
+            damageHistogram.getPercentile(50), damageHistogram.getPercentile(95), damageHistogram.getPercentile(99))).color("#AAAAAA"));
+
+        CombatTelemetry.CombatCounters own = telemetry.getPlayerCounters(playerRef.getUuid());
+        if (own != null) {
+            playerRef.sendMessage(Message.raw("--- You ---").color("#FFAA00"));
+            playerRef.sendMessage(Message.raw(String.format("%d hits | %.1f damage | %.2f%% crit | %.1f healed",
+                own.getHits(), own.getDamage(), own.getCriticalRate(), own.getHealed())).color("#FFFFFF"));
+        }
+
+        List<Map.Entry<String, CombatTelemetry.CombatCounters>> roles = new ArrayList<>(telemetry.getRoleCounters().entrySet());
+        if (!roles.isEmpty()) {
+            roles.sort((a, b) -> Double.compare(b.getValue().getDamage(), a.getValue().getDamage()));
+            playerRef.sendMessage(Message.raw("--- Damage taken by NPC role ---").color("#FFAA00"));
+            for (int i = 0; i < Math.min(MAX_ROLES_SHOWN, roles.size()); i++) {
+                Map.Entry<String, CombatTelemetry.CombatCounters> entry = roles.get(i);
+                playerRef.sendMessage(Message.raw(String.format("%s: %d hits | %.1f damage",
+                    entry.getKey(), entry.getValue().getHits(), entry.getValue().getDamage())).color("#FFFFFF"));
+            }
+        }
+    }
+}
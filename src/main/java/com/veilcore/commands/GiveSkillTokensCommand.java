@@ -101,12 +101,12 @@ public class GiveSkillTokensCommand extends AbstractPlayerCommand {
             return;
         }
 
-        // Add tokens
+        // Add tokens; the grant is appended to the profile's ledger instead of saving the whole profile
         PlayerSkillTreeData treeData = profile.getSkills().getTreeData();
-        treeData.addTokens(skill.getId(), tier, amount);
-
-        // Save profile
-        plugin.getProfileManager().saveProfile(profile);
+        if (treeData.begin(skill.getId(), "admin_grant").grant(tier, amount).commit(null) == null) {
+            playerRef.sendMessage(Message.raw(targetName + " doesn't have enough tokens to remove!").color("#FF5555"));
+            return;
+        }
 
         // Notify target player
         PacketHandler targetPacket = targetPlayerRef.getPacketHandler();
@@ -21,7 +21,6 @@ import com.veilcore.VeilCorePlugin;
 import com.veilcore.profile.Profile;
 import com.veilcore.skills.ProfileSkills;
 import com.veilcore.skills.Skill;
-import com.veilcore.skills.notifications.SkillLevelUpNotifier;
 
 import javax.annotation.Nonnull;
 
@@ -88,19 +87,13 @@ public class GiveSkillXpCommand extends AbstractPlayerCommand {
             return;
         }
 
+        // Exact amount, applied now; the XP service marks the profile dirty and queues any level-up toast
         ProfileSkills skills = profile.getSkills();
-        int oldLevel = skills.getLevel(skill);
-        int levelsGained = skills.addXp(skill, xpAmount);
+        int levelsGained = plugin.getXpService().applyNow(targetPlayer.getUuid(), profile, skill, xpAmount);
         int newLevel = skills.getLevel(skill);
 
-        // Save profile
-        plugin.getProfileManager().saveProfile(profile);
-
         // Notify target player
-        if (levelsGained > 0) {
-            SkillLevelUpNotifier notifier = new SkillLevelUpNotifier();
-            notifier.notifyLevelUp(targetPlayerRef, skill, newLevel, levelsGained, skills.getTreeData());
-        } else {
+        if (levelsGained == 0) {
             PacketHandler targetPacket = targetPlayerRef.getPacketHandler();
             Message primary = Message.raw(String.format("+%d %s XP", xpAmount, skill.getDisplayName())).color("#55FF55");
             Message secondary = Message.raw(String.format("Level %d: %d/%d XP", newLevel, skills.getXp(skill), skills.getXpToNextLevel(skill))).color("#AAAAAA");
@@ -0,0 +1,57 @@
+package com.veilcore.commands;
+
+import javax.annotation.Nonnull;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.command.system.basecommands.AbstractPlayerCommand;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.veilcore.VeilCorePlugin;
+import com.veilcore.resources.GatheringDefinitions;
+import com.veilcore.resources.ResourceSnapshot;
+import com.veilcore.skills.xp.CombatXpDefinitions;
+
+/**
+ * Re-reads gathering.json and swaps in the recompiled ore, wood and crop tables, and re-reads combat_xp.json
+ */
+public class ReloadResourcesCommand extends AbstractPlayerCommand {
+
+    private final VeilCorePlugin plugin;
+
+    public ReloadResourcesCommand(VeilCorePlugin plugin) {
+        super("reloadresources", "Reload gathering.json and combat_xp.json");
+        this.plugin = plugin;
+    }
+
+    @Override
+    protected void execute(
+            @Nonnull CommandContext context,
+            @Nonnull Store<EntityStore> store,
+            @Nonnull Ref<EntityStore> ref,
+            @Nonnull PlayerRef playerRef,
+            @Nonnull World world
+    ) {
+        ResourceSnapshot snapshot = plugin.getResourceClassifier().reload();
+        GatheringDefinitions definitions = snapshot.getDefinitions();
+        CombatXpDefinitions combatXp = plugin.getCombatXpTable().reload();
+
+        playerRef.sendMessage(Message.raw(String.format(
+            "Reloaded %s: %d ores, %d wood tiers, %d crops across %d block types",
+            GatheringDefinitions.FILE_NAME,
+            definitions.getOres().size(),
+            definitions.getWoods().size(),
+            definitions.getCrops().size(),
+            snapshot.size()
+        )).color("#55FF55"));
+        playerRef.sendMessage(Message.raw(String.format(
+            "Reloaded %s: %d NPC roles, %d XP for other kills",
+            CombatXpDefinitions.FILE_NAME,
+            combatXp.getRoles().size(),
+            combatXp.getDefaultXp()
+        )).color("#55FF55"));
+    }
+}
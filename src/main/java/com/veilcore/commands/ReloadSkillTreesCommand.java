@@ -0,0 +1,48 @@
+package com.veilcore.commands;
+
+import javax.annotation.Nonnull;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.command.system.basecommands.AbstractPlayerCommand;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.veilcore.VeilCorePlugin;
+import com.veilcore.skills.trees.SkillTreeDefinitions;
+import com.veilcore.skills.trees.SkillTreeSnapshot;
+
+/**
+ * Re-reads skill_trees.json and swaps in the rebuilt trees
+ * Online players' tree stat contributions are re-applied on their own world threads; other cached data picks up the new
+ * version on its next use
+ */
+public class ReloadSkillTreesCommand extends AbstractPlayerCommand {
+
+    private final VeilCorePlugin plugin;
+
+    public ReloadSkillTreesCommand(VeilCorePlugin plugin) {
+        super("reloadskilltrees", "Reload skill tree definitions from skill_trees.json");
+        this.plugin = plugin;
+    }
+
+    @Override
+    protected void execute(
+            @Nonnull CommandContext context,
+            @Nonnull Store<EntityStore> store,
+            @Nonnull Ref<EntityStore> ref,
+            @Nonnull PlayerRef playerRef,
+            @Nonnull World world
+    ) {
+        SkillTreeSnapshot trees = plugin.reloadSkillTrees();
+
+        playerRef.sendMessage(Message.raw(String.format(
+            "Reloaded %s: %d skill trees (version %d)",
+            SkillTreeDefinitions.FILE_NAME,
+            trees.size(),
+            trees.getVersion()
+        )).color("#55FF55"));
+    }
+}
@@ -0,0 +1,55 @@
+package com.veilcore.commands;
+
+import javax.annotation.Nonnull;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.command.system.basecommands.AbstractPlayerCommand;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.veilcore.VeilCorePlugin;
+import com.veilcore.rng.RngService;
+import com.veilcore.rng.RollType;
+
+/**
+ * Shows observed vs expected outcome rates for each RNG mechanic
+ */
+public class RngStatsCommand extends AbstractPlayerCommand {
+
+    private final VeilCorePlugin plugin;
+
+    public RngStatsCommand(VeilCorePlugin plugin) {
+        super("rngstats", "Show roll outcome counters per mechanic");
+        this.plugin = plugin;
+    }
+
+    @Override
+    protected void execute(
+            @Nonnull CommandContext context,
+            @Nonnull Store<EntityStore> store,
+            @Nonnull Ref<EntityStore> ref,
+            @Nonnull PlayerRef playerRef,
+            @Nonnull World world
+    ) {
+        RngService rng = plugin.getRngService();
+        Long seed = rng.getSeed();
+
+        playerRef.sendMessage(Message.raw("=== RNG Statistics ===").color("#FFAA00"));
+        playerRef.sendMessage(Message.raw("Seed: " + (seed != null ? seed : "random")).color("#AAAAAA"));
+
+        for (RollType type : RollType.values()) {
+            RngService.RollCounter counter = rng.getCounter(type);
+            playerRef.sendMessage(Message.raw(String.format(
+                "%s: %d/%d procs | observed %.2f%% | expected %.2f%%",
+                type.getDisplayName(),
+                counter.getSuccesses(),
+                counter.getRolls(),
+                counter.getObservedRate(),
+                counter.getExpectedRate()
+            )).color("#FFFFFF"));
+        }
+    }
+}
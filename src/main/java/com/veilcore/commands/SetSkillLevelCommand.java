@@ -41,7 +41,7 @@ public class SetSkillLevelCommand extends AbstractPlayerCommand {
         
         // Define arguments
         this.skillArg = withRequiredArg("skill", "Skill name: mining, combat, farming, fishing", ArgTypes.STRING);
-        this.levelArg = withRequiredArg("level", "Target level (1-100)", ArgTypes.INTEGER);
+        this.levelArg = withRequiredArg("level", "Target level (1 to the skill's level cap)", ArgTypes.INTEGER);
         this.targetArg = withRequiredArg("player", "Target player's username", ArgTypes.STRING);
     }
 
@@ -82,8 +82,9 @@ public class SetSkillLevelCommand extends AbstractPlayerCommand {
         }
         
         // Validate level
-        if (level < 1 || level > 100) {
-            playerRef.sendMessage(Message.raw("Level must be between 1 and 100!").color("#FF5555"));
+        int maxLevel = skill.getXpCurve().getMaxLevel();
+        if (level < 1 || level > maxLevel) {
+            playerRef.sendMessage(Message.raw("Level must be between 1 and " + maxLevel + "!").color("#FF5555"));
             return;
         }
         
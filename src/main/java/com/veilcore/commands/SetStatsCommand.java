@@ -105,6 +105,15 @@ public class SetStatsCommand extends AbstractPlayerCommand {
                     );
                 }
                 
+                // If a mana stat was modified, update the player's mana pool
+                if (statName.equals("mana") || statName.equals("totalmana")) {
+                    com.veilcore.listeners.ManaSyncListener.updatePlayerManaByUuid(
+                        plugin,
+                        targetPlayer.getUuid(),
+                        stats
+                    );
+                }
+                
                 // If stamina regen stat was modified, suppress default builtin regen
                 if (statName.equals("staminaregen") || statName.equals("stamina_regen")) {
                     com.veilcore.listeners.StaminaRegenModifier.updatePlayerStaminaRegenByUuid(
@@ -113,6 +122,23 @@ public class SetStatsCommand extends AbstractPlayerCommand {
                     );
                 }
                 
+                // If a regen stat was modified, refresh the cached regen rates
+                if (statName.equals("healthregen") || statName.equals("regen")
+                        || statName.equals("staminaregen") || statName.equals("stamina_regen")
+                        || statName.equals("manaregen")) {
+                    com.veilcore.listeners.RegenerationSystem.invalidateRegenRatesByUuid(targetPlayer.getUuid());
+                }
+                
+                // If mining speed was modified, refresh the cached mining speed
+                if (statName.equals("miningspeed")) {
+                    com.veilcore.listeners.MiningSpeedSystem.invalidateMiningSpeedByUuid(targetPlayer.getUuid());
+                }
+                
+                // If a hunger stat was modified, reload the player's survival needs
+                if (statName.equals("foodlevel") || statName.equals("saturation") || statName.equals("exhaustion")) {
+                    com.veilcore.listeners.SurvivalNeedsSystem.reloadNeedsByUuid(targetPlayer.getUuid(), profile);
+                }
+                
                 // If speed stat was modified, update the player's movement speed
                 if (statName.equals("speed")) {
                     com.veilcore.listeners.SpeedSyncListener.updatePlayerSpeedByUuid(
@@ -2,24 +2,18 @@ package com.veilcore.commands;
 
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
-import com.hypixel.hytale.protocol.ItemWithAllMetadata;
 import com.hypixel.hytale.server.core.Message;
 import com.hypixel.hytale.server.core.command.system.CommandContext;
 import com.hypixel.hytale.server.core.command.system.arguments.system.RequiredArg;
 import com.hypixel.hytale.server.core.command.system.arguments.types.ArgTypes;
 import com.hypixel.hytale.server.core.command.system.basecommands.AbstractPlayerCommand;
 import com.hypixel.hytale.server.core.entity.entities.Player;
-import com.hypixel.hytale.server.core.inventory.ItemStack;
-import com.hypixel.hytale.server.core.io.PacketHandler;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
-import com.hypixel.hytale.server.core.util.NotificationUtil;
 import com.veilcore.VeilCorePlugin;
 import com.veilcore.profile.Profile;
 import com.veilcore.skills.Skill;
-import com.veilcore.skills.SkillLevel;
-import com.veilcore.skills.ProfileSkills;
 import com.veilcore.skills.subskills.mining.OreExtraction;
 
 import javax.annotation.Nonnull;
@@ -30,6 +24,7 @@ import javax.annotation.Nonnull;
  * Usage: /testmineore <rarity>
  * 
  * Note: The actual ore extraction happens automatically via BlockBreakListener (ESC event)
+ * XP goes through the XP service, so multipliers and toasts match real breaks
  * This command is for manual testing and debugging
  */
 public class TestMineOreCommand extends AbstractPlayerCommand {
@@ -75,54 +70,12 @@ public class TestMineOreCommand extends AbstractPlayerCommand {
         // Calculate XP from ore rarity
         long xpGained = OreExtraction.calculateXp(rarity);
         
-        // Get current level before adding XP
-        ProfileSkills skills = profile.getSkills();
-        SkillLevel miningLevel = skills.getSkillLevel(Skill.MINING);
-        int oldLevel = miningLevel.getLevel();
-        
-        // Add XP to mining skill
-        int levelsGained = skills.addXp(Skill.MINING, xpGained);
-        
-        // Save profile
-        plugin.getProfileManager().saveProfile(profile);
-        
-        // Send XP gained notification
-        PacketHandler packetHandler = playerRef.getPacketHandler();
-        Message primaryMsg = Message.raw(String.format("+%d Mining XP", xpGained))
-            .color("#FFD700")
-            .bold(true);
-        Message secondaryMsg = Message.raw(String.format("Ore Extraction: %s ore", rarity.name()))
-            .color("#FFFFFF");
-        
-        ItemWithAllMetadata icon = new ItemStack("Rubble_Calcite_Medium", 1).toPacket();
-        NotificationUtil.sendNotification(
-            packetHandler,
-            primaryMsg,
-            secondaryMsg,
-            icon
-        );
-        
-        // Send level up notification if leveled up
-        if (levelsGained > 0) {
-            int newLevel = oldLevel + levelsGained;
-            
-            Message levelUpPrimary = Message.raw(String.format("Mining Level %d", newLevel))
-                .color("#FFD700")
-                .bold(true);
-            Message levelUpSecondary = Message.raw(String.format("Level up! +%d level%s", 
-                levelsGained, levelsGained > 1 ? "s" : ""))
-                .color("#FFFFFF");
-            
-            NotificationUtil.sendNotification(
-                packetHandler,
-                levelUpPrimary,
-                levelUpSecondary,
-                icon
-            );
-        }
+        // Queue it like a real ore break; the XP service applies multipliers and sends the toasts next tick
+        plugin.getXpService().grant(player.getUuid(), Skill.MINING, xpGained, 1, "ores",
+            String.format("Ore Extraction: %s ore", rarity.name()));
         
         // Send chat confirmation
-        playerRef.sendMessage(Message.raw(String.format("Mined %s ore! +%d XP (Level: %d)", 
-            rarity.name(), xpGained, miningLevel.getLevel())).color("#55FF55"));
+        playerRef.sendMessage(Message.raw(String.format("Mined %s ore! +%d base XP (Level: %d)", 
+            rarity.name(), xpGained, profile.getSkills().getLevel(Skill.MINING))).color("#55FF55"));
     }
 }
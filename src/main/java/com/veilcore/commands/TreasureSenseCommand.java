@@ -0,0 +1,110 @@
+package com.veilcore.commands;
+
+import java.util.List;
+
+import javax.annotation.Nonnull;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.math.vector.Vector3d;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.command.system.basecommands.AbstractPlayerCommand;
+import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.veilcore.VeilCorePlugin;
+import com.veilcore.profile.Profile;
+import com.veilcore.resources.GatheringDefinitions;
+import com.veilcore.resources.ResourceSnapshot;
+import com.veilcore.skills.Skill;
+import com.veilcore.world.OreRadar;
+
+/**
+ * Reveals the ores around the player
+ * The radius comes from the Ore Finder node (16 blocks) plus one block per point of treasure sense,
+ * capped at 32 blocks.
+ * Usage: /treasuresense
+ */
+public class TreasureSenseCommand extends AbstractPlayerCommand {
+
+    public static final String ORE_FINDER_NODE_ID = "ore_finder";
+    private static final int ORE_FINDER_RADIUS = 16;
+    private static final int MAX_RADIUS = 32;
+
+    private final VeilCorePlugin plugin;
+
+    public TreasureSenseCommand(VeilCorePlugin plugin) {
+        super("treasuresense", "Reveal nearby ores using your treasure sense");
+        this.plugin = plugin;
+    }
+
+    @Override
+    protected void execute(
+            @Nonnull CommandContext context,
+            @Nonnull Store<EntityStore> store,
+            @Nonnull Ref<EntityStore> ref,
+            @Nonnull PlayerRef playerRef,
+            @Nonnull World world
+    ) {
+        Profile profile = plugin.getProfileManager().getActiveProfile(playerRef.getUuid());
+        if (profile == null) {
+            playerRef.sendMessage(Message.raw("You don't have an active profile!").color("#FF5555"));
+            return;
+        }
+
+        int radius = getRadius(profile);
+        if (radius <= 0) {
+            playerRef.sendMessage(Message.raw("You can't sense treasure yet. Unlock Ore Finder in the Mining tree.").color("#FF5555"));
+            return;
+        }
+
+        TransformComponent transform = store.getComponent(ref, TransformComponent.getComponentType());
+        if (transform == null) {
+            return;
+        }
+        Vector3d position = transform.getPosition();
+        int x = (int) Math.floor(position.getX());
+        int y = (int) Math.floor(position.getY());
+        int z = (int) Math.floor(position.getZ());
+
+        ResourceSnapshot resources = plugin.getResourceClassifier().getSnapshot();
+        // Commands run on each world's own thread, so every scan gets its own radar
+        List<OreRadar.Hit> hits = new OreRadar().scan(world, resources, x, y, z, radius);
+
+        playerRef.sendMessage(Message.raw(String.format("=== Treasure Sense (%d blocks) ===", radius)).color("#FFAA00"));
+        if (hits.isEmpty()) {
+            playerRef.sendMessage(Message.raw("You sense no ores nearby.").color("#AAAAAA"));
+            return;
+        }
+
+        List<GatheringDefinitions.OreDefinition> ores = resources.getDefinitions().getOres();
+        for (OreRadar.Hit hit : hits) {
+            GatheringDefinitions.OreDefinition ore = ores.get(hit.getOreGroup());
+            playerRef.sendMessage(Message.raw(String.format(
+                "%s x%d | nearest %.1f blocks at %d, %d, %d",
+                getOreName(ore.getPrefix()),
+                hit.getCount(),
+                hit.getNearestDistance(),
+                hit.getNearestX(),
+                hit.getNearestY(),
+                hit.getNearestZ()
+            )).color("#FFFFFF"));
+        }
+    }
+
+    private static int getRadius(Profile profile) {
+        int radius = profile.getSkills().getTreeData().isNodeUnlocked(Skill.MINING.getId(), ORE_FINDER_NODE_ID) ? ORE_FINDER_RADIUS : 0;
+        radius += (int) profile.getStats().getTreasureSense();
+        return Math.min(radius, MAX_RADIUS);
+    }
+
+    /**
+     * "Ore_Iron" -> "Iron"
+     */
+    private static String getOreName(String prefix) {
+        String name = prefix.startsWith("Ore_") ? prefix.substring(4) : prefix;
+        return name.replace('_', ' ');
+    }
+}
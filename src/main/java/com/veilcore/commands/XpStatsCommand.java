@@ -0,0 +1,51 @@
+package com.veilcore.commands;
+
+import javax.annotation.Nonnull;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.command.system.basecommands.AbstractPlayerCommand;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.veilcore.VeilCorePlugin;
+import com.veilcore.profile.Profile;
+import com.veilcore.skills.Skill;
+import com.veilcore.skills.xp.XpService;
+
+/**
+ * Shows server-wide XP/second per skill and the caller's current XP multipliers
+ */
+public class XpStatsCommand extends AbstractPlayerCommand {
+
+    private final VeilCorePlugin plugin;
+
+    public XpStatsCommand(VeilCorePlugin plugin) {
+        super("xpstats", "Show XP rates and your XP multipliers");
+        this.plugin = plugin;
+    }
+
+    @Override
+    protected void execute(
+            @Nonnull CommandContext context,
+            @Nonnull Store<EntityStore> store,
+            @Nonnull Ref<EntityStore> ref,
+            @Nonnull PlayerRef playerRef,
+            @Nonnull World world
+    ) {
+        XpService xpService = plugin.getXpService();
+        Profile profile = plugin.getProfileManager().getActiveProfile(playerRef.getUuid());
+
+        playerRef.sendMessage(Message.raw("=== XP Statistics (last 60s) ===").color("#FFAA00"));
+        for (Skill skill : Skill.values()) {
+            String line = String.format("%s: %.1f XP/s", skill.getDisplayName(), xpService.getXpPerSecond(skill));
+            if (profile != null) {
+                line += String.format(" | your multiplier x%.2f",
+                    xpService.getMultipliers().getMultiplier(playerRef.getUuid(), profile, skill));
+            }
+            playerRef.sendMessage(Message.raw(line).color(skill.getColor()));
+        }
+    }
+}
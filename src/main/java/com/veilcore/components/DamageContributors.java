@@ -0,0 +1,119 @@
+package com.veilcore.components;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.hypixel.hytale.component.Component;
+import com.hypixel.hytale.component.ComponentType;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.veilcore.VeilCorePlugin;
+
+/**
+ * Damage dealt to an NPC per player, used to credit kills and assists when it dies
+ * Added to an NPC the first time a player hits it. Contributors are kept in two parallel arrays searched
+ * linearly, which stays cheaper than a map for the handful of players that fight one NPC; once MAX_CONTRIBUTORS
+ * are recorded, damage from further players is not tracked.
+ */
+public class DamageContributors implements Component<EntityStore> {
+
+    public static final int MAX_CONTRIBUTORS = 8;
+
+    private UUID[] players = new UUID[2];
+    private float[] damage = new float[2];
+    private int count;
+    private float total;
+
+    public static ComponentType<EntityStore, DamageContributors> getComponentType() {
+        return VeilCorePlugin.getInstance().getDamageContributorsComponentType();
+    }
+
+    /**
+     * Record damage from a player
+     * @param player The attacking player's UUID
+     * @param amount Damage dealt
+     */
+    public void add(@Nonnull UUID player, float amount) {
+        if (amount <= 0) {
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            if (players[i].equals(player)) {
+                damage[i] += amount;
+                total += amount;
+                return;
+            }
+        }
+        if (count == MAX_CONTRIBUTORS) {
+            return;
+        }
+        if (count == players.length) {
+            int capacity = Math.min(MAX_CONTRIBUTORS, count * 2);
+            players = Arrays.copyOf(players, capacity);
+            damage = Arrays.copyOf(damage, capacity);
+        }
+        players[count] = player;
+        damage[count] = amount;
+        count++;
+        total += amount;
+    }
+
+    /**
+     * @return Whether damage from the player has been recorded
+     */
+    public boolean contains(@Nonnull UUID player) {
+        for (int i = 0; i < count; i++) {
+            if (players[i].equals(player)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    @Nonnull
+    public UUID getPlayer(int i) {
+        return players[i];
+    }
+
+    public float getDamage(int i) {
+        return damage[i];
+    }
+
+    /**
+     * @return Damage recorded from all contributors
+     */
+    public float getTotal() {
+        return total;
+    }
+
+    /**
+     * @return The contributor who dealt the most damage, or null if nobody did
+     */
+    @Nullable
+    public UUID getTopContributor() {
+        int top = -1;
+        for (int i = 0; i < count; i++) {
+            if (top < 0 || damage[i] > damage[top]) {
+                top = i;
+            }
+        }
+        return top >= 0 ? players[top] : null;
+    }
+
+    @Nonnull
+    @Override
+    public Component<EntityStore> clone() {
+        DamageContributors copy = new DamageContributors();
+        copy.players = Arrays.copyOf(this.players, this.players.length);
+        copy.damage = Arrays.copyOf(this.damage, this.damage.length);
+        copy.count = this.count;
+        copy.total = this.total;
+        return copy;
+    }
+}
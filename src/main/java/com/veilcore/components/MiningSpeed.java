@@ -0,0 +1,106 @@
+package com.veilcore.components;
+
+import java.util.UUID;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.hypixel.hytale.component.Component;
+import com.hypixel.hytale.component.ComponentType;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.veilcore.VeilCorePlugin;
+import com.veilcore.profile.Profile;
+import com.veilcore.profile.ProfileStats;
+import com.veilcore.resources.ResourceSnapshot;
+import com.veilcore.skills.Skill;
+import com.veilcore.skills.trees.PlayerSkillTreeData;
+
+/**
+ * Per-player cache of the effective mining speed multiplier
+ * Filled from the active profile's mining speed stat and mining_speed node so block damage events never
+ * have to look the profile up. Also remembers whether the last held item was a mining tool, so the tool
+ * check is a reference comparison until the player switches items.
+ * Marked dirty whenever the stat or node changes and rebuilt on the next swing, or after the skill trees
+ * are reloaded.
+ */
+public class MiningSpeed implements Component<EntityStore> {
+
+    public static final String NODE_ID = "mining_speed";
+
+    @Nullable
+    private UUID profileId;
+    private float multiplier = 1.0f;
+    private int treeVersion = -1;
+    private volatile boolean dirty = true;
+
+    @Nullable
+    private String toolItemId;
+    @Nullable
+    private ResourceSnapshot toolSnapshot;
+    private boolean toolMatches;
+
+    public static ComponentType<EntityStore, MiningSpeed> getComponentType() {
+        return VeilCorePlugin.getInstance().getMiningSpeedComponentType();
+    }
+
+    /**
+     * Recompute the multiplier from a profile
+     * The stat is relative to its default (0.5 = normal speed) and the node adds its declared value in percent.
+     *
+     * @param profile The player's active profile
+     */
+    public void update(@Nonnull Profile profile) {
+        ProfileStats stats = profile.getStats();
+        double statMultiplier = stats.getDefaultMiningSpeed() > 0 ? stats.getMiningSpeed() / stats.getDefaultMiningSpeed() : 1.0;
+        PlayerSkillTreeData treeData = profile.getSkills().getTreeData();
+        double nodeMultiplier = 1.0 + treeData.getNodeValue(Skill.MINING.getId(), NODE_ID) / 100.0;
+
+        this.profileId = profile.getProfileId();
+        this.treeVersion = treeData.getTreeVersion();
+        this.multiplier = (float) Math.max(0.0, statMultiplier * nodeMultiplier);
+        this.dirty = false;
+    }
+
+    /**
+     * Check whether the cache must be rebuilt before use
+     * @param activeProfileId The player's currently active profile ID
+     * @param currentTreeVersion The SkillTreeRegistry version
+     * @return true if the stats changed, the player switched profile or the skill trees were reloaded
+     */
+    public boolean isStale(@Nullable UUID activeProfileId, int currentTreeVersion) {
+        return dirty || treeVersion != currentTreeVersion || activeProfileId == null || !activeProfileId.equals(profileId);
+    }
+
+    public void markDirty() {
+        this.dirty = true;
+    }
+
+    public float getMultiplier() {
+        return multiplier;
+    }
+
+    /**
+     * Whether an item counts as a mining tool, re-checked only when the item or the definitions change
+     * @param itemId The held item's ID, or null for an empty hand
+     * @param resources The current classification tables
+     */
+    public boolean isMiningTool(@Nullable String itemId, @Nonnull ResourceSnapshot resources) {
+        if (itemId != toolItemId || resources != toolSnapshot) {
+            toolItemId = itemId;
+            toolSnapshot = resources;
+            toolMatches = resources.isMiningTool(itemId);
+        }
+        return toolMatches;
+    }
+
+    @Nonnull
+    @Override
+    public Component<EntityStore> clone() {
+        MiningSpeed copy = new MiningSpeed();
+        copy.profileId = this.profileId;
+        copy.multiplier = this.multiplier;
+        copy.treeVersion = this.treeVersion;
+        copy.dirty = this.dirty;
+        return copy;
+    }
+}
@@ -0,0 +1,98 @@
+package com.veilcore.components;
+
+import java.util.UUID;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.hypixel.hytale.component.Component;
+import com.hypixel.hytale.component.ComponentType;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.veilcore.VeilCorePlugin;
+import com.veilcore.profile.Profile;
+import com.veilcore.profile.ProfileStats;
+
+/**
+ * Per-player cache of regeneration rates (points per second)
+ * Filled from the active profile's stats so the regen tick never has to look the profile up.
+ * Marked dirty whenever the underlying stats change and rebuilt on the next regen pass.
+ */
+public class RegenRates implements Component<EntityStore> {
+
+    @Nullable
+    private UUID profileId;
+    private float healthPerSecond;
+    private float staminaPerSecond;
+    private float manaPerSecond;
+    private float pendingMana;
+    private volatile boolean dirty = true;
+
+    public static ComponentType<EntityStore, RegenRates> getComponentType() {
+        return VeilCorePlugin.getInstance().getRegenRatesComponentType();
+    }
+
+    /**
+     * Copy the regen stats of a profile into this cache
+     * @param profile The player's active profile
+     */
+    public void update(@Nonnull Profile profile) {
+        ProfileStats stats = profile.getStats();
+        this.profileId = profile.getProfileId();
+        this.healthPerSecond = (float) stats.getHealthRegen();
+        this.staminaPerSecond = (float) stats.getStaminaRegen();
+        this.manaPerSecond = stats.getManaRegen();
+        this.dirty = false;
+    }
+
+    /**
+     * Check whether the cache must be rebuilt before use
+     * @param activeProfileId The player's currently active profile ID
+     * @return true if the stats changed or the player switched profile
+     */
+    public boolean isStale(@Nullable UUID activeProfileId) {
+        return dirty || activeProfileId == null || !activeProfileId.equals(profileId);
+    }
+
+    public void markDirty() {
+        this.dirty = true;
+    }
+
+    public float getHealthPerSecond() {
+        return healthPerSecond;
+    }
+
+    public float getStaminaPerSecond() {
+        return staminaPerSecond;
+    }
+
+    public float getManaPerSecond() {
+        return manaPerSecond;
+    }
+
+    /**
+     * Buffer regenerated mana that has not been written to the stat map yet
+     * @param amount Mana regenerated since the last pass
+     * @return The total buffered mana
+     */
+    public float addPendingMana(float amount) {
+        pendingMana += amount;
+        return pendingMana;
+    }
+
+    public void clearPendingMana() {
+        pendingMana = 0.0f;
+    }
+
+    @Nonnull
+    @Override
+    public Component<EntityStore> clone() {
+        RegenRates copy = new RegenRates();
+        copy.profileId = this.profileId;
+        copy.healthPerSecond = this.healthPerSecond;
+        copy.staminaPerSecond = this.staminaPerSecond;
+        copy.manaPerSecond = this.manaPerSecond;
+        copy.pendingMana = this.pendingMana;
+        copy.dirty = this.dirty;
+        return copy;
+    }
+}
@@ -0,0 +1,147 @@
+package com.veilcore.components;
+
+import java.util.UUID;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.hypixel.hytale.component.Component;
+import com.hypixel.hytale.component.ComponentType;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.veilcore.VeilCorePlugin;
+import com.veilcore.profile.ProfileStats;
+
+/**
+ * Per-player hunger state (food level, saturation, exhaustion)
+ * Events only add exhaustion here; SurvivalNeedsSystem turns it into saturation/food loss on a slow tick.
+ * The state is copied into ProfileStats on the world thread right before the profile is saved.
+ * Food is only ever lost: there is no item consumption hook to restore it from yet, so hunger doesn't
+ * affect regeneration either.
+ */
+public class SurvivalNeeds implements Component<EntityStore> {
+
+    public static final int MAX_FOOD_LEVEL = 20;
+    public static final float MAX_EXHAUSTION = 40.0f;
+    /** Exhaustion needed to burn one point of saturation (or food once saturation is gone) */
+    public static final float EXHAUSTION_PER_POINT = 4.0f;
+
+    // Exhaustion costs per action
+    public static final float EXHAUSTION_PER_BLOCK_MOVED = 0.01f;
+    public static final float EXHAUSTION_ATTACK = 0.1f;
+    public static final float EXHAUSTION_DAMAGE_TAKEN = 0.1f;
+    public static final float EXHAUSTION_BLOCK_BREAK = 0.025f;
+
+    @Nullable
+    private UUID profileId;
+    private int foodLevel = MAX_FOOD_LEVEL;
+    private float saturation;
+    private float exhaustion;
+    private double lastX;
+    private double lastY;
+    private double lastZ;
+    private boolean hasLastPosition;
+
+    public static ComponentType<EntityStore, SurvivalNeeds> getComponentType() {
+        return VeilCorePlugin.getInstance().getSurvivalNeedsComponentType();
+    }
+
+    /**
+     * Load the hunger state of a profile
+     * @param profileId The profile's ID
+     * @param stats The profile's stats
+     */
+    public void load(@Nonnull UUID profileId, @Nonnull ProfileStats stats) {
+        this.profileId = profileId;
+        this.foodLevel = Math.max(0, Math.min(stats.getFoodLevel(), MAX_FOOD_LEVEL));
+        this.saturation = Math.max(0.0f, Math.min(stats.getSaturation(), foodLevel));
+        this.exhaustion = Math.max(0.0f, Math.min(stats.getExhaustion(), MAX_EXHAUSTION));
+    }
+
+    /**
+     * Write the hunger state back into profile stats
+     * @param stats The profile's stats
+     */
+    public void saveTo(@Nonnull ProfileStats stats) {
+        stats.setFoodLevel(foodLevel);
+        stats.setSaturation(saturation);
+        stats.setExhaustion(exhaustion);
+    }
+
+    /**
+     * Add exhaustion from an action; cheap enough to call from event handlers
+     * @param amount The exhaustion to add
+     */
+    public void addExhaustion(float amount) {
+        exhaustion = Math.min(exhaustion + amount, MAX_EXHAUSTION);
+    }
+
+    /**
+     * Add exhaustion for the distance moved since the last call
+     * The first call only records the position.
+     * @param maxDistance Moves longer than this are treated as teleports and ignored
+     */
+    public void trackMovement(double x, double y, double z, double maxDistance) {
+        if (hasLastPosition) {
+            double dx = x - lastX;
+            double dy = y - lastY;
+            double dz = z - lastZ;
+            double distance = Math.sqrt(dx * dx + dy * dy + dz * dz);
+            if (distance <= maxDistance) {
+                addExhaustion((float) (distance * EXHAUSTION_PER_BLOCK_MOVED));
+            }
+        }
+        lastX = x;
+        lastY = y;
+        lastZ = z;
+        hasLastPosition = true;
+    }
+
+    /**
+     * Burn accumulated exhaustion into saturation, then food
+     */
+    public void drain() {
+        while (exhaustion >= EXHAUSTION_PER_POINT) {
+            exhaustion -= EXHAUSTION_PER_POINT;
+            if (saturation > 0) {
+                saturation = Math.max(0.0f, saturation - 1.0f);
+            } else if (foodLevel > 0) {
+                foodLevel--;
+            } else {
+                exhaustion = 0.0f;
+                break;
+            }
+        }
+    }
+
+    @Nullable
+    public UUID getProfileId() {
+        return profileId;
+    }
+
+    public int getFoodLevel() {
+        return foodLevel;
+    }
+
+    public float getSaturation() {
+        return saturation;
+    }
+
+    public float getExhaustion() {
+        return exhaustion;
+    }
+
+    @Nonnull
+    @Override
+    public Component<EntityStore> clone() {
+        SurvivalNeeds copy = new SurvivalNeeds();
+        copy.profileId = this.profileId;
+        copy.foodLevel = this.foodLevel;
+        copy.saturation = this.saturation;
+        copy.exhaustion = this.exhaustion;
+        copy.lastX = this.lastX;
+        copy.lastY = this.lastY;
+        copy.lastZ = this.lastZ;
+        copy.hasLastPosition = this.hasLastPosition;
+        return copy;
+    }
+}
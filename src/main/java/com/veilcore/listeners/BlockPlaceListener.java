@@ -0,0 +1,50 @@
+package com.veilcore.listeners;
+
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.EntityEventSystem;
+import com.hypixel.hytale.math.vector.Vector3i;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.event.events.ecs.PlaceBlockEvent;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.veilcore.world.PlacedBlocks;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Listens for block place events using ECS event system
+ * Records every block a player places so breaking it again doesn't count as gathering
+ */
+public class BlockPlaceListener extends EntityEventSystem<EntityStore, PlaceBlockEvent> {
+
+    public BlockPlaceListener() {
+        super(PlaceBlockEvent.class);
+    }
+
+    @Nonnull
+    @Override
+    public Query<EntityStore> getQuery() {
+        // Only process place events for entities that have the Player component
+        return Query.and(Player.getComponentType());
+    }
+
+    @Override
+    public void handle(
+            int index,
+            @Nonnull ArchetypeChunk<EntityStore> chunk,
+            @Nonnull Store<EntityStore> store,
+            @Nonnull CommandBuffer<EntityStore> commandBuffer,
+            @Nonnull PlaceBlockEvent event
+    ) {
+        if (event.isCancelled()) {
+            return;
+        }
+        Vector3i pos = event.getTargetBlock();
+        PlacedBlocks placed = PlacedBlocks.get(store.getExternalData().getWorld(), pos.getX(), pos.getZ());
+        if (placed != null) {
+            placed.set(pos.getX(), pos.getY(), pos.getZ());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.veilcore.listeners;
+
+import com.hypixel.hytale.component.AddReason;
+import com.hypixel.hytale.component.Holder;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.system.tick.TickingSystem;
+import com.hypixel.hytale.math.vector.Vector3f;
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+import com.hypixel.hytale.server.core.modules.entity.item.ItemComponent;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.veilcore.VeilCorePlugin;
+import com.veilcore.resources.ResourceSnapshot;
+import com.veilcore.world.BlockRemovalJob;
+import com.veilcore.world.BlockRemovalQueue;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+
+/**
+ * ECS System that works through each world's BlockRemovalQueue under a per-tick block budget.
+ * Large removals (a felled MASSIVE tree, a mined vein) are spread over several ticks instead of landing
+ * in one, and a job's merged drops are spawned once it has finished.
+ */
+public class BlockRemovalSystem extends TickingSystem<EntityStore> {
+
+    private final VeilCorePlugin plugin;
+
+    public BlockRemovalSystem(VeilCorePlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public void tick(float dt, int systemIndex, @Nonnull Store<EntityStore> store) {
+        BlockRemovalQueue queue = store.getResource(BlockRemovalQueue.getResourceType());
+        if (queue.isEmpty()) {
+            return;
+        }
+
+        ResourceSnapshot resources = plugin.getResourceClassifier().getSnapshot();
+        int budget = resources.getDefinitions().getRemoval().getBlocksPerTick();
+
+        BlockRemovalJob job;
+        while (budget > 0 && (job = queue.peek()) != null) {
+            budget -= job.process(resources, budget);
+            if (!job.isDone()) {
+                break;
+            }
+            queue.removeFirst();
+            spawnDrops(store, job);
+            job.complete();
+        }
+    }
+
+    private static void spawnDrops(Store<EntityStore> store, BlockRemovalJob job) {
+        List<ItemStack> drops = job.collectDrops();
+        if (drops.isEmpty()) {
+            return;
+        }
+        Holder<EntityStore>[] itemEntities = ItemComponent.generateItemDrops(store, drops, job.getDropPosition(), new Vector3f(0, 0.2f, 0));
+        store.addEntities(itemEntities, AddReason.SPAWN);
+    }
+}
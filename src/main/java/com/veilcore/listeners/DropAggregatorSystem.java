@@ -0,0 +1,137 @@
+package com.veilcore.listeners;
+
+import com.hypixel.hytale.component.AddReason;
+import com.hypixel.hytale.component.Holder;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.system.tick.TickingSystem;
+import com.hypixel.hytale.math.util.ChunkUtil;
+import com.hypixel.hytale.math.vector.Vector3d;
+import com.hypixel.hytale.math.vector.Vector3f;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
+import com.hypixel.hytale.server.core.modules.entity.item.ItemComponent;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.veilcore.VeilCorePlugin;
+import com.veilcore.resources.GatheringDefinitions;
+import com.veilcore.world.DropAggregator;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ECS System that turns each world's merged bonus drops into items once their merge window closes.
+ * Drops go to the owner's inventory when enabled, then top up nearby bonus drop entities of the same item,
+ * and only then spawn new entities while the chunk is under its cap. Anything that still doesn't fit waits
+ * for the next window, so the number of bonus item entities per chunk stays bounded.
+ */
+public class DropAggregatorSystem extends TickingSystem<EntityStore> {
+
+    private final VeilCorePlugin plugin;
+    // Reused between ticks; the system only runs on world threads and is drained every tick
+    private final ThreadLocal<List<DropAggregator.PendingDrop>> due = ThreadLocal.withInitial(ArrayList::new);
+
+    public DropAggregatorSystem(VeilCorePlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public void tick(float dt, int systemIndex, @Nonnull Store<EntityStore> store) {
+        DropAggregator aggregator = store.getResource(DropAggregator.getResourceType());
+        if (aggregator.isEmpty()) {
+            return;
+        }
+
+        GatheringDefinitions.DropSettings settings = plugin.getResourceClassifier().getSnapshot().getDefinitions().getDrops();
+        List<DropAggregator.PendingDrop> drops = due.get();
+        aggregator.pollDue(dt, settings.getMergeWindowSeconds(), drops);
+        try {
+            for (DropAggregator.PendingDrop drop : drops) {
+                int remaining = deliver(store, aggregator, settings, drop);
+                if (remaining > 0) {
+                    aggregator.requeue(drop, remaining, settings.getMergeRadius());
+                }
+            }
+        } finally {
+            drops.clear();
+        }
+    }
+
+    /**
+     * Place a due drop, preferring the inventory, then existing entities, then new entities
+     * @return Quantity that couldn't be placed this time
+     */
+    private static int deliver(Store<EntityStore> store, DropAggregator aggregator, GatheringDefinitions.DropSettings settings,
+                               DropAggregator.PendingDrop drop) {
+        int remaining = drop.getQuantity();
+
+        if (settings.isDeliverToInventory() && drop.getOwner().isValid()) {
+            Player player = store.getComponent(drop.getOwner(), Player.getComponentType());
+            if (player != null) {
+                ItemStack leftover = player.getInventory().getCombinedHotbarFirst()
+                    .addItemStack(new ItemStack(drop.getItemId(), remaining)).getRemainder();
+                remaining = leftover != null ? leftover.getQuantity() : 0;
+                if (remaining == 0) {
+                    return 0;
+                }
+            }
+        }
+
+        Vector3d position = drop.getPosition();
+        long chunkIndex = ChunkUtil.indexChunkFromBlock(position.getX(), position.getZ());
+        List<Ref<EntityStore>> live = aggregator.getLiveDrops(chunkIndex);
+        boolean atCap = live.size() >= settings.getMaxEntitiesPerChunk();
+
+        // Top up bonus drops already on the ground; anywhere in the chunk once it is full
+        double reachSq = (double) settings.getMergeRadius() * settings.getMergeRadius();
+        for (int i = 0; i < live.size() && remaining > 0; i++) {
+            remaining = topUp(store, live.get(i), drop.getItemId(), remaining, atCap ? Double.MAX_VALUE : reachSq, position);
+        }
+        if (remaining == 0) {
+            return 0;
+        }
+
+        // Spawn new entities for the rest while the chunk has room
+        List<ItemStack> stacks = new ArrayList<>();
+        DropAggregator.addSplit(stacks, new ItemStack(drop.getItemId(), remaining));
+        int room = settings.getMaxEntitiesPerChunk() - live.size();
+        if (room <= 0) {
+            return remaining;
+        }
+        List<ItemStack> spawned = stacks.size() > room ? stacks.subList(0, room) : stacks;
+        for (ItemStack stack : spawned) {
+            remaining -= stack.getQuantity();
+        }
+
+        Holder<EntityStore>[] itemEntities = ItemComponent.generateItemDrops(store, spawned, position, new Vector3f(0, 0.2f, 0));
+        for (Ref<EntityStore> ref : store.addEntities(itemEntities, AddReason.SPAWN)) {
+            aggregator.track(chunkIndex, ref);
+        }
+        return remaining;
+    }
+
+    /**
+     * Add items to an existing drop entity of the same item, up to its max stack size
+     * @return Quantity still left to place
+     */
+    private static int topUp(Store<EntityStore> store, Ref<EntityStore> ref, String itemId, int remaining, double reachSq, Vector3d position) {
+        ItemComponent item = store.getComponent(ref, ItemComponent.getComponentType());
+        if (item == null || item.getItemStack() == null || !itemId.equals(item.getItemStack().getItemId())) {
+            return remaining;
+        }
+        TransformComponent transform = store.getComponent(ref, TransformComponent.getComponentType());
+        if (transform == null || transform.getPosition().distanceSquaredTo(position) > reachSq) {
+            return remaining;
+        }
+
+        ItemStack stack = item.getItemStack();
+        int add = Math.min(remaining, DropAggregator.getMaxStack(stack) - stack.getQuantity());
+        if (add <= 0) {
+            return remaining;
+        }
+        item.setItemStack(stack.withQuantity(stack.getQuantity() + add));
+        return remaining - add;
+    }
+}
@@ -133,5 +133,7 @@ public class LifestealListener extends DamageEventSystem {
         // Add heal amount, capped at max health
         float newHealth = Math.min(currentHealth + healAmount, maxHealth);
         attackerStatMap.setStatValue(healthIndex, newHealth);
+        
+        plugin.getCombatTelemetry().recordLifesteal(attackerPlayer.getUuid(), newHealth - currentHealth);
     }
 }
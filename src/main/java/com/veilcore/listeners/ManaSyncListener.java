@@ -0,0 +1,176 @@
+package com.veilcore.listeners;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.event.events.player.PlayerReadyEvent;
+import com.hypixel.hytale.server.core.modules.entitystats.EntityStatMap;
+import com.hypixel.hytale.server.core.modules.entitystats.EntityStatValue;
+import com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes;
+import com.hypixel.hytale.server.core.modules.entitystats.modifier.Modifier;
+import com.hypixel.hytale.server.core.modules.entitystats.modifier.StaticModifier;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.Universe;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.veilcore.VeilCorePlugin;
+import com.veilcore.profile.Profile;
+import com.veilcore.profile.ProfileStats;
+
+import javax.annotation.Nonnull;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * Syncs the player's ProfileStats mana values (totalMana as max, mana as current) to the built-in Mana stat.
+ * This is not an ECS system, but uses regular event registration.
+ */
+public class ManaSyncListener {
+
+    private static final String MANA_MODIFIER_ID = "veilcore_mana_stat";
+    private final VeilCorePlugin plugin;
+
+    public ManaSyncListener(VeilCorePlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Called when a player is ready to sync their mana.
+     */
+    public void onPlayerReady(@Nonnull PlayerReadyEvent event) {
+        Player player = event.getPlayer();
+
+        if (player == null || player.getWorld() == null || player.getReference() == null) {
+            return;
+        }
+
+        // Setting stat values before the client sent ClientReady crashes the client (see StaminaRegenModifier),
+        // so wait for the client to load and then apply on the world thread
+        UUID playerUUID = player.getUuid();
+        World world = player.getWorld();
+        Ref<EntityStore> ref = player.getReference();
+
+        plugin.getScheduler().schedule(() -> {
+            if (Universe.get().getPlayer(playerUUID) == null) {
+                return;
+            }
+            world.execute(() -> {
+                Profile profile = plugin.getProfileManager().getActiveProfile(playerUUID);
+                if (profile == null || !ref.isValid()) {
+                    return;
+                }
+                Store<EntityStore> store = world.getEntityStore().getStore();
+                ProfileStats stats = profile.getStats();
+                updatePlayerMaxMana(store, ref, stats.getTotalMana());
+                restorePlayerMana(store, ref, stats.getMana());
+            });
+        }, 3, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Updates the player's maximum mana based on their totalMana stat.
+     * Call this whenever the player's totalMana stat changes.
+     *
+     * @param store The entity store
+     * @param playerRef The player entity reference
+     * @param totalMana The totalMana stat value from ProfileStats
+     */
+    public static void updatePlayerMaxMana(Store<EntityStore> store, Ref<EntityStore> playerRef, int totalMana) {
+        EntityStatMap statMap = store.getComponent(playerRef, EntityStatMap.getComponentType());
+        if (statMap == null) {
+            return;
+        }
+
+        int manaIndex = DefaultEntityStatTypes.getMana();
+        EntityStatValue manaStat = statMap.get(manaIndex);
+        if (manaStat == null) {
+            return;
+        }
+
+        // Remove old modifier if it exists (use Predictable.ALL to force sync)
+        statMap.removeModifier(EntityStatMap.Predictable.ALL, manaIndex, MANA_MODIFIER_ID);
+
+        // The stat represents total max mana; the built-in max differs per asset, so read it back
+        // after removing our modifier instead of assuming a fixed base like health and stamina do
+        float manaBonus = totalMana - manaStat.getMax();
+
+        if (manaBonus != 0) {
+            StaticModifier maxManaModifier = new StaticModifier(
+                Modifier.ModifierTarget.MAX,
+                StaticModifier.CalculationType.ADDITIVE,
+                manaBonus
+            );
+
+            statMap.putModifier(EntityStatMap.Predictable.ALL, manaIndex, MANA_MODIFIER_ID, maxManaModifier);
+        }
+    }
+
+    /**
+     * Sets the player's current mana, capped at their max mana.
+     *
+     * @param store The entity store
+     * @param playerRef The player entity reference
+     * @param mana The current mana value from ProfileStats
+     */
+    public static void restorePlayerMana(Store<EntityStore> store, Ref<EntityStore> playerRef, int mana) {
+        EntityStatMap statMap = store.getComponent(playerRef, EntityStatMap.getComponentType());
+        if (statMap == null) {
+            return;
+        }
+
+        int manaIndex = DefaultEntityStatTypes.getMana();
+        EntityStatValue manaStat = statMap.get(manaIndex);
+        if (manaStat == null) {
+            return;
+        }
+
+        statMap.setStatValue(EntityStatMap.Predictable.ALL, manaIndex, Math.min(mana, manaStat.getMax()));
+    }
+
+    /**
+     * Copies the player's current mana back into their profile stats.
+     * Called when the player's state is saved so mana survives relogs and profile switches.
+     *
+     * @param store The entity store
+     * @param playerRef The player entity reference
+     * @param stats The profile stats to write to
+     */
+    public static void savePlayerMana(Store<EntityStore> store, Ref<EntityStore> playerRef, ProfileStats stats) {
+        EntityStatMap statMap = store.getComponent(playerRef, EntityStatMap.getComponentType());
+        if (statMap == null) {
+            return;
+        }
+
+        EntityStatValue manaStat = statMap.get(DefaultEntityStatTypes.getMana());
+        if (manaStat != null) {
+            stats.setMana((int) manaStat.get());
+        }
+    }
+
+    /**
+     * Helper method to update a player's max and current mana by UUID.
+     * Useful for commands and other systems that modify mana stats. Applied on the player's world thread.
+     *
+     * @param plugin The VeilCore plugin instance
+     * @param playerUuid The player's UUID
+     * @param stats The player's profile stats
+     */
+    public static void updatePlayerManaByUuid(VeilCorePlugin plugin, UUID playerUuid, ProfileStats stats) {
+        PlayerRef playerRef = Universe.get().getPlayer(playerUuid);
+        Ref<EntityStore> ref = playerRef != null ? playerRef.getReference() : null;
+        if (ref == null || !ref.isValid()) {
+            return;
+        }
+
+        Store<EntityStore> store = ref.getStore();
+        store.getExternalData().getWorld().execute(() -> {
+            if (!ref.isValid()) {
+                return;
+            }
+            updatePlayerMaxMana(store, ref, stats.getTotalMana());
+            restorePlayerMana(store, ref, stats.getMana());
+            plugin.getLogger().at(Level.INFO).log("Updated mana for player " + playerUuid + " to " + stats.getMana() + "/" + stats.getTotalMana());
+        });
+    }
+}
@@ -0,0 +1,136 @@
+package com.veilcore.listeners;
+
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.EntityEventSystem;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.event.events.ecs.DamageBlockEvent;
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.Universe;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.veilcore.VeilCorePlugin;
+import com.veilcore.components.MiningSpeed;
+import com.veilcore.profile.Profile;
+import com.veilcore.resources.ResourceClassifier;
+import com.veilcore.resources.ResourceSnapshot;
+import com.veilcore.skills.trees.SkillTreeRegistry;
+
+import javax.annotation.Nonnull;
+import java.util.UUID;
+
+/**
+ * Listens for block damage events using ECS event system
+ * Scales the damage dealt to stone and ores with a mining tool by the player's mining speed.
+ * Runs on every swing, so it reads the cached MiningSpeed component and the block-ID tables and
+ * only touches the profile when the cache is missing or stale.
+ */
+public class MiningSpeedSystem extends EntityEventSystem<EntityStore, DamageBlockEvent> {
+
+    private final VeilCorePlugin plugin;
+
+    public MiningSpeedSystem(VeilCorePlugin plugin) {
+        super(DamageBlockEvent.class);
+        this.plugin = plugin;
+    }
+
+    @Nonnull
+    @Override
+    public Query<EntityStore> getQuery() {
+        // Only process damage events for entities that have the Player component
+        return Query.and(Player.getComponentType());
+    }
+
+    @Override
+    public void handle(
+            int index,
+            @Nonnull ArchetypeChunk<EntityStore> chunk,
+            @Nonnull Store<EntityStore> store,
+            @Nonnull CommandBuffer<EntityStore> commandBuffer,
+            @Nonnull DamageBlockEvent event
+    ) {
+        if (event.isCancelled()) {
+            return;
+        }
+
+        ResourceClassifier classifier = plugin.getResourceClassifier();
+        ResourceSnapshot resources = classifier.getSnapshot();
+        if (!resources.isMineable(classifier.getBlockId(event.getBlockType()))) {
+            return;
+        }
+
+        PlayerRef playerRef = chunk.getComponent(index, PlayerRef.getComponentType());
+        if (playerRef == null) {
+            return;
+        }
+
+        MiningSpeed speed = chunk.getComponent(index, MiningSpeed.getComponentType());
+        UUID activeProfileId = plugin.getProfileManager().getActiveProfileId(playerRef.getUuid());
+
+        // Only touch the profile when the cached multiplier is missing or out of date
+        if (speed == null || speed.isStale(activeProfileId, SkillTreeRegistry.getInstance().getVersion())) {
+            if (activeProfileId == null) {
+                return;
+            }
+            Profile profile = plugin.getProfileManager().getActiveProfile(playerRef.getUuid());
+            if (profile == null) {
+                return;
+            }
+            if (speed == null) {
+                speed = new MiningSpeed();
+                speed.update(profile);
+                commandBuffer.addComponent(chunk.getReferenceTo(index), MiningSpeed.getComponentType(), speed);
+            } else {
+                speed.update(profile);
+            }
+        }
+
+        ItemStack item = event.getItemInHand();
+        if (!speed.isMiningTool(item != null ? item.getItemId() : null, resources)) {
+            return;
+        }
+
+        float multiplier = speed.getMultiplier();
+        if (multiplier != 1.0f) {
+            event.setDamage(event.getDamage() * multiplier);
+        }
+    }
+
+    /**
+     * Marks a player's cached mining speed as stale so the next swing reloads it from the profile.
+     * Call this whenever the mining speed stat or the mining_speed node changes.
+     *
+     * @param store The entity store
+     * @param playerRef The player entity reference
+     */
+    public static void invalidateMiningSpeed(Store<EntityStore> store, Ref<EntityStore> playerRef) {
+        MiningSpeed speed = store.getComponent(playerRef, MiningSpeed.getComponentType());
+        if (speed != null) {
+            speed.markDirty();
+        }
+    }
+
+    /**
+     * Helper method to invalidate a player's cached mining speed by UUID.
+     * Useful for commands and other systems that modify the mining speed stat.
+     *
+     * @param playerUuid The player's UUID
+     */
+    public static void invalidateMiningSpeedByUuid(UUID playerUuid) {
+        PlayerRef playerRef = Universe.get().getPlayer(playerUuid);
+        if (playerRef == null || !playerRef.isValid()) {
+            return;
+        }
+
+        Player playerEntity = playerRef.getComponent(Player.getComponentType());
+        if (playerEntity == null || playerEntity.getWorld() == null || playerEntity.getReference() == null) {
+            return;
+        }
+
+        Store<EntityStore> store = playerEntity.getWorld().getEntityStore().getStore();
+        invalidateMiningSpeed(store, playerEntity.getReference());
+    }
+}
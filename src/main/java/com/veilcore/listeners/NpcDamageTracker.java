@@ -0,0 +1,75 @@
+package com.veilcore.listeners;
+
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.SystemGroup;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.modules.entity.damage.Damage;
+import com.hypixel.hytale.server.core.modules.entity.damage.DamageEventSystem;
+import com.hypixel.hytale.server.core.modules.entity.damage.DamageModule;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.hypixel.hytale.server.npc.entities.NPCEntity;
+import com.veilcore.components.DamageContributors;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Records how much damage each player deals to an NPC, so NpcDeathListener can credit kills and assists.
+ * Runs in the inspect damage group, after the damage has been applied.
+ */
+public class NpcDamageTracker extends DamageEventSystem {
+
+    @Nullable
+    @Override
+    public SystemGroup<EntityStore> getGroup() {
+        return DamageModule.get().getInspectDamageGroup();
+    }
+
+    @Nonnull
+    @Override
+    public Query<EntityStore> getQuery() {
+        return Query.and(NPCEntity.getComponentType());
+    }
+
+    @Override
+    public void handle(
+            int index,
+            @Nonnull ArchetypeChunk<EntityStore> archetypeChunk,
+            @Nonnull Store<EntityStore> store,
+            @Nonnull CommandBuffer<EntityStore> commandBuffer,
+            @Nonnull Damage damage
+    ) {
+        if (damage.isCancelled() || damage.getAmount() <= 0) {
+            return;
+        }
+
+        Player attacker = resolvePlayer(store, damage);
+        if (attacker == null) {
+            return;
+        }
+
+        Ref<EntityStore> ref = archetypeChunk.getReferenceTo(index);
+        DamageContributors contributors = commandBuffer.ensureAndGetComponent(ref, DamageContributors.getComponentType());
+        contributors.add(attacker.getUuid(), damage.getAmount());
+    }
+
+    /**
+     * Find the player responsible for damage; projectile damage resolves to the shooter
+     * @return The attacking player, or null if the damage didn't come from one
+     */
+    @Nullable
+    public static Player resolvePlayer(@Nonnull Store<EntityStore> store, @Nullable Damage damage) {
+        if (damage == null || !(damage.getSource() instanceof Damage.EntitySource entitySource)) {
+            return null;
+        }
+        Ref<EntityStore> attackerRef = entitySource.getRef();
+        if (!attackerRef.isValid()) {
+            return null;
+        }
+        return store.getComponent(attackerRef, Player.getComponentType());
+    }
+}
@@ -0,0 +1,98 @@
+package com.veilcore.listeners;
+
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.modules.entity.damage.Damage;
+import com.hypixel.hytale.server.core.modules.entity.damage.DeathComponent;
+import com.hypixel.hytale.server.core.modules.entity.damage.DeathSystems;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.hypixel.hytale.server.npc.entities.NPCEntity;
+import com.veilcore.VeilCorePlugin;
+import com.veilcore.components.DamageContributors;
+import com.veilcore.profile.Profile;
+import com.veilcore.skills.Skill;
+import com.veilcore.skills.xp.CombatXpTable;
+
+import javax.annotation.Nonnull;
+import java.util.UUID;
+
+/**
+ * Grants Combat XP when an NPC dies.
+ * The player who landed the killing blow gets the role's full XP from combat_xp.json and a kill on their
+ * profile stats; if the killing blow didn't come from a player, the top damage dealer gets the kill instead.
+ * Other players who dealt at least the configured share of the NPC's damage get assist XP.
+ * XP is queued on the XpService, so kills in the same tick are merged into one grant per player.
+ */
+public class NpcDeathListener extends DeathSystems.OnDeathSystem {
+
+    private final VeilCorePlugin plugin;
+
+    public NpcDeathListener(VeilCorePlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Nonnull
+    @Override
+    public Query<EntityStore> getQuery() {
+        return Query.and(NPCEntity.getComponentType());
+    }
+
+    @Override
+    public void onComponentAdded(
+            @Nonnull Ref<EntityStore> ref,
+            @Nonnull DeathComponent component,
+            @Nonnull Store<EntityStore> store,
+            @Nonnull CommandBuffer<EntityStore> commandBuffer
+    ) {
+        NPCEntity npc = store.getComponent(ref, NPCEntity.getComponentType());
+        if (npc == null) {
+            return;
+        }
+
+        DamageContributors contributors = store.getComponent(ref, DamageContributors.getComponentType());
+        Damage deathInfo = component.getDeathInfo();
+        Player killerPlayer = NpcDamageTracker.resolvePlayer(store, deathInfo);
+
+        UUID killer = killerPlayer != null ? killerPlayer.getUuid()
+            : contributors != null ? contributors.getTopContributor() : null;
+        if (killer == null) {
+            return;
+        }
+
+        CombatXpTable table = plugin.getCombatXpTable();
+        long xp = table.getXp(npc.getRoleIndex());
+        String roleName = npc.getRoleName();
+
+        plugin.getXpService().grant(killer, Skill.COMBAT, xp, 1, "kills", roleName);
+        Profile profile = plugin.getProfileManager().getActiveProfile(killer);
+        if (profile != null) {
+            profile.getStats().incrementKills();
+            profile.markDirty();
+        }
+
+        if (contributors == null) {
+            return;
+        }
+
+        // The killing blow may not have been recorded yet; count it towards the total so shares stay fair
+        float total = contributors.getTotal();
+        if (killerPlayer != null && deathInfo != null && !contributors.contains(killer)) {
+            total += Math.max(0, deathInfo.getAmount());
+        }
+        if (total <= 0) {
+            return;
+        }
+
+        long assistXp = Math.round(xp * table.getAssistShare());
+        double minShare = table.getMinAssistDamage();
+        for (int i = 0; i < contributors.getCount(); i++) {
+            UUID player = contributors.getPlayer(i);
+            if (!player.equals(killer) && contributors.getDamage(i) / total >= minShare) {
+                plugin.getXpService().grant(player, Skill.COMBAT, assistXp, 1, "assists", roleName);
+            }
+        }
+    }
+}
@@ -6,32 +6,35 @@ import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.component.SystemGroup;
 import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.MetricSystem;
+import com.hypixel.hytale.metrics.MetricResults;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.modules.entity.damage.Damage;
 import com.hypixel.hytale.server.core.modules.entity.damage.DamageCause;
 import com.hypixel.hytale.server.core.modules.entity.damage.DamageEventSystem;
 import com.hypixel.hytale.server.core.modules.entity.damage.DamageModule;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.hypixel.hytale.server.npc.entities.NPCEntity;
 import com.veilcore.VeilCorePlugin;
+import com.veilcore.components.SurvivalNeeds;
 import com.veilcore.profile.Profile;
+import com.veilcore.rng.RollType;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.Random;
-import java.util.logging.Level;
 
 /**
  * Adds physical damage bonus from player stats to melee attacks and ranged damage bonus to projectile attacks.
  * Also applies critical hit mechanics to melee attacks based on criticalChance and criticalDamage stats.
+ * Hits also add exhaustion to both the attacker and the target (see SurvivalNeedsSystem).
+ * Every modified hit is recorded in the plugin's combat telemetry, which this system exposes as store metrics.
  */
-public class PhysicalDamageListener extends DamageEventSystem {
+public class PhysicalDamageListener extends DamageEventSystem implements MetricSystem<EntityStore> {
     
     private final VeilCorePlugin plugin;
-    private final Random random;
     
     public PhysicalDamageListener(VeilCorePlugin plugin) {
         this.plugin = plugin;
-        this.random = new Random();
     }
     
     @Nullable
@@ -60,7 +63,14 @@ public class PhysicalDamageListener extends DamageEventSystem {
         Damage.Source source = damage.getSource();
         DamageCause damageCause = damage.getCause();
         
+        // Taking damage is tiring, whoever dealt it
+        SurvivalNeeds targetNeeds = archetypeChunk.getComponent(index, SurvivalNeeds.getComponentType());
+        if (targetNeeds != null) {
+            targetNeeds.addExhaustion(SurvivalNeeds.EXHAUSTION_DAMAGE_TAKEN);
+        }
+        
         Player attackerPlayer = null;
+        Ref<EntityStore> attackerRef = null;
         boolean isMeleeAttack = false;
         boolean isRangedAttack = false;
         
@@ -82,6 +92,7 @@ public class PhysicalDamageListener extends DamageEventSystem {
             // Get the Player component from the shooter
             attackerPlayer = (Player) store.getComponent(shooterRef, Player.getComponentType());
             if (attackerPlayer != null) {
+                attackerRef = shooterRef;
                 isRangedAttack = true;
             }
         }
@@ -101,6 +112,7 @@ public class PhysicalDamageListener extends DamageEventSystem {
                 attackerPlayer = (Player) store.getComponent(sourceRef, Player.getComponentType());
                 
                 if (attackerPlayer != null) {
+                    attackerRef = sourceRef;
                     isRangedAttack = true;
                 } else {
                     return;
@@ -109,6 +121,7 @@ public class PhysicalDamageListener extends DamageEventSystem {
                 // Regular melee attack
                 attackerPlayer = (Player) store.getComponent(sourceRef, Player.getComponentType());
                 if (attackerPlayer != null) {
+                    attackerRef = sourceRef;
                     isMeleeAttack = true;
                 }
             }
@@ -119,6 +132,8 @@ public class PhysicalDamageListener extends DamageEventSystem {
             return;
         }
         
+        SurvivalNeedsSystem.addExhaustion(commandBuffer, attackerRef, SurvivalNeeds.EXHAUSTION_ATTACK);
+        
         // Get the player's active profile
         Profile profile = plugin.getProfileManager().getActiveProfile(attackerPlayer.getUuid());
         if (profile == null) {
@@ -141,7 +156,8 @@ public class PhysicalDamageListener extends DamageEventSystem {
             double criticalChance = profile.getStats().getCriticalChance();
             
             // Roll for critical hit (criticalChance is a percentage)
-            if (random.nextDouble() * 100 < criticalChance) {
+            String worldName = store.getExternalData().getWorld().getName();
+            if (plugin.getRngService().roll(worldName, RollType.CRITICAL_HIT, criticalChance)) {
                 isCriticalHit = true;
                 
                 // Multiply total damage by criticalDamage multiplier
@@ -158,25 +174,15 @@ public class PhysicalDamageListener extends DamageEventSystem {
         
         damage.setAmount(newDamage);
         
-        // Debug logging
-        if (isCriticalHit) {
-            plugin.getLogger().at(Level.FINE).log(
-                "CRITICAL HIT! " + attackerPlayer.getDisplayName() + 
-                " dealt " + currentDamage + " -> " + newDamage + " damage (×" + 
-                profile.getStats().getCriticalDamage() + " multiplier)"
-            );
-        } else if (isMeleeAttack) {
-            plugin.getLogger().at(Level.FINE).log(
-                "Physical damage applied: " + attackerPlayer.getDisplayName() + 
-                " dealt " + currentDamage + " -> " + newDamage + " damage (+" + 
-                (profile.getStats().getPhysicalDamage() - 1) + " physical)"
-            );
-        } else if (isRangedAttack) {
-            plugin.getLogger().at(Level.FINE).log(
-                "Ranged damage applied: " + attackerPlayer.getDisplayName() + 
-                " dealt " + currentDamage + " -> " + newDamage + " damage (+" + 
-                (profile.getStats().getRangedDamage() - 1) + " ranged)"
-            );
-        }
+        // Record the hit against the attacker and, for NPC targets, the target's role
+        NPCEntity targetNpc = archetypeChunk.getComponent(index, NPCEntity.getComponentType());
+        String targetRole = targetNpc != null ? targetNpc.getRoleName() : null;
+        plugin.getCombatTelemetry().recordHit(attackerPlayer.getUuid(), targetRole, newDamage, isMeleeAttack, isCriticalHit);
+    }
+    
+    @Nonnull
+    @Override
+    public MetricResults toMetricResults(Store<EntityStore> store) {
+        return plugin.getCombatTelemetry().toMetricResults();
     }
 }
@@ -0,0 +1,64 @@
+package com.veilcore.listeners;
+
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.dependency.Dependency;
+import com.hypixel.hytale.component.dependency.Order;
+import com.hypixel.hytale.component.dependency.SystemDependency;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.EntityEventSystem;
+import com.hypixel.hytale.math.vector.Vector3i;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.event.events.ecs.BreakBlockEvent;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.veilcore.world.PlacedBlocks;
+
+import javax.annotation.Nonnull;
+import java.util.Set;
+
+/**
+ * Listens for block break events using ECS event system
+ * Forgets a player-placed block once it has been broken. Runs after the gathering listeners so they all
+ * still see the block as placed while handling the same break.
+ */
+public class PlacedBlockBreakSystem extends EntityEventSystem<EntityStore, BreakBlockEvent> {
+
+    private final Set<Dependency<EntityStore>> dependencies = Set.of(
+        new SystemDependency<>(Order.AFTER, BlockBreakListener.class),
+        new SystemDependency<>(Order.AFTER, VeinMiningListener.class),
+        new SystemDependency<>(Order.AFTER, WoodcuttingListener.class)
+    );
+
+    public PlacedBlockBreakSystem() {
+        super(BreakBlockEvent.class);
+    }
+
+    @Nonnull
+    @Override
+    public Query<EntityStore> getQuery() {
+        // Only process break events for entities that have the Player component
+        return Query.and(Player.getComponentType());
+    }
+
+    @Nonnull
+    @Override
+    public Set<Dependency<EntityStore>> getDependencies() {
+        return dependencies;
+    }
+
+    @Override
+    public void handle(
+            int index,
+            @Nonnull ArchetypeChunk<EntityStore> chunk,
+            @Nonnull Store<EntityStore> store,
+            @Nonnull CommandBuffer<EntityStore> commandBuffer,
+            @Nonnull BreakBlockEvent event
+    ) {
+        Vector3i pos = event.getTargetBlock();
+        PlacedBlocks placed = PlacedBlocks.get(store.getExternalData().getWorld(), pos.getX(), pos.getZ());
+        if (placed != null) {
+            placed.clear(pos.getX(), pos.getY(), pos.getZ());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.veilcore.listeners;
+
+import com.hypixel.hytale.component.AddReason;
+import com.hypixel.hytale.component.Holder;
+import com.hypixel.hytale.component.RemoveReason;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.HolderSystem;
+import com.hypixel.hytale.server.core.universe.world.chunk.WorldChunk;
+import com.hypixel.hytale.server.core.universe.world.storage.ChunkStore;
+import com.veilcore.world.PlacedBlocks;
+
+import javax.annotation.Nonnull;
+
+/**
+ * ChunkStore system that gives every loaded chunk a PlacedBlocks component
+ * Chunks saved with one get it back from disk; the rest start empty.
+ */
+public class PlacedBlocksChunkSystem extends HolderSystem<ChunkStore> {
+
+    @Override
+    public Query<ChunkStore> getQuery() {
+        return WorldChunk.getComponentType();
+    }
+
+    @Override
+    public void onEntityAdd(@Nonnull Holder<ChunkStore> holder, @Nonnull AddReason reason, @Nonnull Store<ChunkStore> store) {
+        holder.ensureComponent(PlacedBlocks.getComponentType());
+    }
+
+    @Override
+    public void onEntityRemoved(@Nonnull Holder<ChunkStore> holder, @Nonnull RemoveReason reason, @Nonnull Store<ChunkStore> store) {
+    }
+}
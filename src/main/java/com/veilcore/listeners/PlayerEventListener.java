@@ -103,18 +103,24 @@ public class PlayerEventListener {
         // Remove from pending if they disconnect
         plugin.removePendingProfileCreation(playerUUID);
         
+        // Apply XP still queued for this tick before the profile is saved
+        plugin.getXpService().remove(playerUUID);
+        
         // Get active profile
         UUID activeProfileId = plugin.getProfileManager().getActiveProfileId(playerUUID);
         
         if (activeProfileId != null) {
-            // Save as last active (already done by setActiveProfile, but ensure persistence)
+            // Save again with the hunger state once the world thread has copied it in; clearing below
+            // saves right away without it in case the world no longer has the player
             Profile activeProfile = plugin.getProfileManager().getProfile(playerUUID, activeProfileId);
             if (activeProfile != null) {
-                plugin.getProfileManager().saveProfile(activeProfile);
+                SurvivalNeedsSystem.saveWithNeeds(plugin, playerUUID, activeProfile);
             }
         }
         
         // Clear from memory
         plugin.getProfileManager().clearActiveProfile(playerUUID);
+        plugin.getCombatTelemetry().removePlayer(playerUUID);
+        plugin.getXpNotifications().remove(playerUUID);
     }
 }
@@ -0,0 +1,186 @@
+package com.veilcore.listeners;
+
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.tick.DelayedEntitySystem;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.modules.entitystats.EntityStatMap;
+import com.hypixel.hytale.server.core.modules.entitystats.EntityStatValue;
+import com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.Universe;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.veilcore.VeilCorePlugin;
+import com.veilcore.components.RegenRates;
+import com.veilcore.profile.Profile;
+
+import javax.annotation.Nonnull;
+import java.util.UUID;
+
+/**
+ * ECS System that handles passive health, stamina and mana regeneration in a single pass.
+ * Runs once per second per store (timing is kept per store by DelayedEntitySystem) and
+ * reads the rates from the cached RegenRates component instead of the profile.
+ * Mana changes are coalesced into whole points so casters don't generate a stat sync every pass.
+ */
+public class RegenerationSystem extends DelayedEntitySystem<EntityStore> {
+
+    private static final float REGEN_INTERVAL = 1.0f; // Regenerate every 1 second
+    private static final float MANA_SYNC_STEP = 1.0f; // Only write mana in whole points
+
+    private final VeilCorePlugin plugin;
+    private final Query<EntityStore> query;
+
+    public RegenerationSystem(VeilCorePlugin plugin) {
+        super(REGEN_INTERVAL);
+        this.plugin = plugin;
+        this.query = Query.and(
+            Player.getComponentType(),
+            PlayerRef.getComponentType(),
+            EntityStatMap.getComponentType()
+        );
+    }
+
+    @Override
+    @Nonnull
+    public Query<EntityStore> getQuery() {
+        return query;
+    }
+
+    @Override
+    public boolean isParallel(int archetypeChunkSize, int taskCount) {
+        // Each player only touches its own stat map, so large chunks can be split across threads
+        return useParallel(archetypeChunkSize, taskCount);
+    }
+
+    @Override
+    public void tick(float dt, int index, @Nonnull ArchetypeChunk<EntityStore> chunk, @Nonnull Store<EntityStore> store, @Nonnull CommandBuffer<EntityStore> commandBuffer) {
+        PlayerRef playerRef = chunk.getComponent(index, PlayerRef.getComponentType());
+        if (playerRef == null) {
+            return;
+        }
+
+        RegenRates rates = chunk.getComponent(index, RegenRates.getComponentType());
+        UUID activeProfileId = plugin.getProfileManager().getActiveProfileId(playerRef.getUuid());
+
+        // Only touch the profile when the cached rates are missing or out of date
+        if (rates == null || rates.isStale(activeProfileId)) {
+            if (activeProfileId == null) {
+                return;
+            }
+            Profile profile = plugin.getProfileManager().getActiveProfile(playerRef.getUuid());
+            if (profile == null) {
+                return;
+            }
+            if (rates == null) {
+                rates = new RegenRates();
+                rates.update(profile);
+                commandBuffer.addComponent(chunk.getReferenceTo(index), RegenRates.getComponentType(), rates);
+            } else {
+                rates.update(profile);
+            }
+        }
+
+        EntityStatMap statMap = chunk.getComponent(index, EntityStatMap.getComponentType());
+        if (statMap == null) {
+            return;
+        }
+
+        // dt is the full elapsed time since the last pass, so late passes catch up
+        regenerate(statMap, DefaultEntityStatTypes.getHealth(), rates.getHealthPerSecond() * dt);
+        regenerate(statMap, DefaultEntityStatTypes.getStamina(), rates.getStaminaPerSecond() * dt);
+        regenerateMana(statMap, rates, rates.getManaPerSecond() * dt);
+    }
+
+    private static void regenerate(EntityStatMap statMap, int statIndex, float amount) {
+        if (amount <= 0) {
+            return; // No regeneration if stat is 0 or negative
+        }
+
+        EntityStatValue stat = statMap.get(statIndex);
+        if (stat == null) {
+            return;
+        }
+
+        float current = stat.get();
+        float max = stat.getMax();
+
+        // Don't regenerate if already at max
+        if (current >= max) {
+            return;
+        }
+
+        // Apply regeneration, capped at max
+        statMap.setStatValue(statIndex, Math.min(current + amount, max));
+    }
+
+    /**
+     * Mana regen is buffered on the RegenRates component and only written to the stat map
+     * (which queues a client sync) once a whole point has built up or the pool would be full.
+     */
+    private static void regenerateMana(EntityStatMap statMap, RegenRates rates, float amount) {
+        if (amount <= 0) {
+            return;
+        }
+
+        int manaIndex = DefaultEntityStatTypes.getMana();
+        EntityStatValue manaStat = statMap.get(manaIndex);
+        if (manaStat == null) {
+            return;
+        }
+
+        float current = manaStat.get();
+        float max = manaStat.getMax();
+        if (current >= max) {
+            rates.clearPendingMana();
+            return;
+        }
+
+        float pending = rates.addPendingMana(amount);
+        float room = max - current;
+        if (pending < MANA_SYNC_STEP && pending < room) {
+            return;
+        }
+
+        statMap.setStatValue(manaIndex, current + Math.min(pending, room));
+        rates.clearPendingMana();
+    }
+
+    /**
+     * Marks a player's cached regen rates as stale so the next pass reloads them from the profile.
+     * Call this whenever a regen stat changes.
+     *
+     * @param store The entity store
+     * @param playerRef The player entity reference
+     */
+    public static void invalidateRegenRates(Store<EntityStore> store, Ref<EntityStore> playerRef) {
+        RegenRates rates = store.getComponent(playerRef, RegenRates.getComponentType());
+        if (rates != null) {
+            rates.markDirty();
+        }
+    }
+
+    /**
+     * Helper method to invalidate a player's cached regen rates by UUID.
+     * Useful for commands and other systems that modify regen stats.
+     *
+     * @param playerUuid The player's UUID
+     */
+    public static void invalidateRegenRatesByUuid(UUID playerUuid) {
+        PlayerRef playerRef = Universe.get().getPlayer(playerUuid);
+        if (playerRef == null || !playerRef.isValid()) {
+            return;
+        }
+
+        Player playerEntity = playerRef.getComponent(Player.getComponentType());
+        if (playerEntity == null || playerEntity.getWorld() == null || playerEntity.getReference() == null) {
+            return;
+        }
+
+        Store<EntityStore> store = playerEntity.getWorld().getEntityStore().getStore();
+        invalidateRegenRates(store, playerEntity.getReference());
+    }
+}
@@ -16,7 +16,7 @@ import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 /**
- * Disables Hytale's built-in stamina regen so that only our StaminaRegenSystem handles regeneration.
+ * Disables Hytale's built-in stamina regen so that only our RegenerationSystem handles regeneration.
  * This ensures stamina regen stat value overrides any default behavior.
  */
 public class StaminaRegenModifier {
@@ -57,7 +57,7 @@ public class StaminaRegenModifier {
     /**
      * Suppresses Hytale's built-in stamina regen by setting stamina to prevent natural regeneration.
      * This is done by immediately setting stamina value to prevent the default regen from kicking in.
-     * Our StaminaRegenSystem will handle all subsequent regen instead.
+     * Our RegenerationSystem will handle all subsequent regen instead.
      * 
      * @param store The entity store
      * @param playerRef The player entity reference
@@ -0,0 +1,84 @@
+package com.veilcore.listeners;
+
+import java.util.UUID;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.Universe;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.veilcore.profile.Profile;
+import com.veilcore.profile.ProfileStats;
+import com.veilcore.skills.trees.TreeStat;
+import com.veilcore.skills.trees.TreeStatEffects;
+
+/**
+ * Pushes queued stat changes to the client in one pass
+ * Skill tree upgrades and resets only queue the changed TreeStat bits on the profile's stats; flushing
+ * runs each affected sync once, however many nodes changed. Stats that are read straight from the profile
+ * when used (fortune, treasure sense, luck) need nothing here.
+ */
+public final class StatSync {
+
+    private StatSync() {
+    }
+
+    /**
+     * Sync every stat queued on the profile since the last flush
+     *
+     * @param store The entity store
+     * @param playerRef The player entity reference
+     * @param profile The player's active profile
+     */
+    public static void flush(Store<EntityStore> store, Ref<EntityStore> playerRef, Profile profile) {
+        ProfileStats stats = profile.getStats();
+        int changed = stats.takeChangedStats();
+        if (changed == 0) {
+            return;
+        }
+
+        if ((changed & TreeStat.HEALTH.bit()) != 0) {
+            HealthSyncListener.updatePlayerMaxHealth(store, playerRef, stats.getHealth());
+        }
+        if ((changed & TreeStat.STAMINA.bit()) != 0) {
+            StaminaSyncListener.updatePlayerMaxStamina(store, playerRef, stats.getStamina());
+        }
+        if ((changed & TreeStat.SPEED.bit()) != 0) {
+            SpeedSyncListener.updatePlayerSpeed(store, playerRef, stats.getSpeed());
+        }
+        if ((changed & TreeStat.STAMINA_REGEN.bit()) != 0) {
+            StaminaRegenModifier.suppressBuiltInStaminaRegen(store, playerRef);
+        }
+        if ((changed & (TreeStat.HEALTH_REGEN.bit() | TreeStat.STAMINA_REGEN.bit())) != 0) {
+            RegenerationSystem.invalidateRegenRates(store, playerRef);
+        }
+        if ((changed & TreeStat.MINING_SPEED.bit()) != 0) {
+            MiningSpeedSystem.invalidateMiningSpeed(store, playerRef);
+        }
+    }
+
+    /**
+     * Re-apply a player's tree stat contributions after the skill trees were reloaded, then sync them
+     * Both run on the world thread that owns the player, since the command that reloads the trees may run on
+     * another world's thread. A player who isn't in a world right now is reconciled here; the queued stats
+     * are pushed by the next flush on their world thread.
+     *
+     * @param playerUuid The player's UUID
+     * @param profile The player's active profile
+     */
+    public static void reconcileOnWorld(UUID playerUuid, Profile profile) {
+        PlayerRef playerRef = Universe.get().getPlayer(playerUuid);
+        Ref<EntityStore> ref = playerRef != null ? playerRef.getReference() : null;
+        if (ref == null) {
+            TreeStatEffects.reconcile(profile);
+            return;
+        }
+
+        Store<EntityStore> store = ref.getStore();
+        store.getExternalData().getWorld().execute(() -> {
+            if (ref.isValid() && TreeStatEffects.reconcile(profile) != 0) {
+                flush(store, ref, profile);
+            }
+        });
+    }
+}
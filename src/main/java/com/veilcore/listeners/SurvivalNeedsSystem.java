@@ -0,0 +1,178 @@
+package com.veilcore.listeners;
+
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.ComponentAccessor;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.tick.DelayedEntitySystem;
+import com.hypixel.hytale.math.vector.Vector3d;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.Universe;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.veilcore.VeilCorePlugin;
+import com.veilcore.components.SurvivalNeeds;
+import com.veilcore.profile.Profile;
+import com.veilcore.profile.ProfileStats;
+
+import javax.annotation.Nonnull;
+import java.util.UUID;
+
+/**
+ * ECS System that simulates hunger from the SurvivalNeeds component.
+ * Combat and mining add exhaustion as they happen; this system runs every few seconds to add
+ * exhaustion for distance moved and burn exhaustion into saturation and food. The state is only copied
+ * into the profile stats when the profile is saved, on the player's world thread (see {@link #saveWithNeeds}).
+ * Hunger doesn't slow regeneration yet: nothing restores food until eating can be detected, so gating
+ * regen on it would turn regeneration off for good.
+ */
+public class SurvivalNeedsSystem extends DelayedEntitySystem<EntityStore> {
+
+    private static final float NEEDS_INTERVAL = 2.0f; // Update hunger every 2 seconds
+    private static final double MAX_TRACKED_MOVE = 64.0; // Longer moves are teleports
+
+    private final VeilCorePlugin plugin;
+    private final Query<EntityStore> query;
+
+    public SurvivalNeedsSystem(VeilCorePlugin plugin) {
+        super(NEEDS_INTERVAL);
+        this.plugin = plugin;
+        this.query = Query.and(
+            Player.getComponentType(),
+            PlayerRef.getComponentType(),
+            TransformComponent.getComponentType()
+        );
+    }
+
+    @Override
+    @Nonnull
+    public Query<EntityStore> getQuery() {
+        return query;
+    }
+
+    @Override
+    public void tick(float dt, int index, @Nonnull ArchetypeChunk<EntityStore> chunk, @Nonnull Store<EntityStore> store, @Nonnull CommandBuffer<EntityStore> commandBuffer) {
+        PlayerRef playerRef = chunk.getComponent(index, PlayerRef.getComponentType());
+        if (playerRef == null) {
+            return;
+        }
+
+        SurvivalNeeds needs = chunk.getComponent(index, SurvivalNeeds.getComponentType());
+        UUID activeProfileId = plugin.getProfileManager().getActiveProfileId(playerRef.getUuid());
+        if (activeProfileId == null) {
+            return;
+        }
+
+        Profile profile = plugin.getProfileManager().getActiveProfile(playerRef.getUuid());
+        if (profile == null) {
+            return;
+        }
+
+        // Load hunger state from the profile on first sight and after a profile switch
+        if (needs == null || !activeProfileId.equals(needs.getProfileId())) {
+            if (needs == null) {
+                needs = new SurvivalNeeds();
+                needs.load(activeProfileId, profile.getStats());
+                commandBuffer.addComponent(chunk.getReferenceTo(index), SurvivalNeeds.getComponentType(), needs);
+            } else {
+                needs.load(activeProfileId, profile.getStats());
+            }
+        }
+
+        TransformComponent transform = chunk.getComponent(index, TransformComponent.getComponentType());
+        if (transform != null) {
+            Vector3d position = transform.getPosition();
+            needs.trackMovement(position.getX(), position.getY(), position.getZ(), MAX_TRACKED_MOVE);
+        }
+
+        needs.drain();
+    }
+
+    /**
+     * Adds exhaustion to an entity if it tracks survival needs.
+     *
+     * @param accessor The store or command buffer
+     * @param ref The entity reference
+     * @param amount The exhaustion to add
+     */
+    public static void addExhaustion(ComponentAccessor<EntityStore> accessor, Ref<EntityStore> ref, float amount) {
+        SurvivalNeeds needs = accessor.getComponent(ref, SurvivalNeeds.getComponentType());
+        if (needs != null) {
+            needs.addExhaustion(amount);
+        }
+    }
+
+    /**
+     * Copies the player's hunger state into their profile stats.
+     * Call this right before the profile is saved.
+     *
+     * @param accessor The store or command buffer
+     * @param ref The player entity reference
+     * @param profile The profile about to be saved
+     */
+    public static void saveNeedsToProfile(ComponentAccessor<EntityStore> accessor, Ref<EntityStore> ref, Profile profile) {
+        SurvivalNeeds needs = accessor.getComponent(ref, SurvivalNeeds.getComponentType());
+        copyIfSameProfile(needs, profile);
+    }
+
+    /**
+     * Save a profile with the player's current hunger state
+     * The hunger state is copied on the world thread that owns the player, then the save itself is handed
+     * back to the plugin scheduler so the disk write stays off the tick. A player who isn't in a world is
+     * saved straight away with the state last copied into the profile.
+     *
+     * @param plugin The plugin
+     * @param playerUuid The player's UUID
+     * @param profile The player's active profile
+     */
+    public static void saveWithNeeds(VeilCorePlugin plugin, UUID playerUuid, Profile profile) {
+        PlayerRef playerRef = Universe.get().getPlayer(playerUuid);
+        Ref<EntityStore> ref = playerRef != null ? playerRef.getReference() : null;
+        if (ref == null) {
+            plugin.getProfileManager().persistProfile(profile);
+            return;
+        }
+
+        Store<EntityStore> store = ref.getStore();
+        store.getExternalData().getWorld().execute(() -> {
+            if (ref.isValid()) {
+                saveNeedsToProfile(store, ref, profile);
+            }
+            plugin.getScheduler().execute(() -> plugin.getProfileManager().persistProfile(profile));
+        });
+    }
+
+    /**
+     * Reloads a player's hunger state from their profile stats by UUID, on the player's world thread.
+     * Useful for commands that modify food, saturation or exhaustion directly.
+     *
+     * @param playerUuid The player's UUID
+     * @param profile The player's active profile
+     */
+    public static void reloadNeedsByUuid(UUID playerUuid, Profile profile) {
+        PlayerRef playerRef = Universe.get().getPlayer(playerUuid);
+        Ref<EntityStore> ref = playerRef != null ? playerRef.getReference() : null;
+        if (ref == null) {
+            return;
+        }
+
+        Store<EntityStore> store = ref.getStore();
+        store.getExternalData().getWorld().execute(() -> {
+            SurvivalNeeds needs = ref.isValid() ? store.getComponent(ref, SurvivalNeeds.getComponentType()) : null;
+            if (needs != null) {
+                needs.load(profile.getProfileId(), profile.getStats());
+            }
+        });
+    }
+
+    private static void copyIfSameProfile(SurvivalNeeds needs, Profile profile) {
+        if (needs == null || !profile.getProfileId().equals(needs.getProfileId())) {
+            return;
+        }
+        ProfileStats stats = profile.getStats();
+        needs.saveTo(stats);
+    }
+}
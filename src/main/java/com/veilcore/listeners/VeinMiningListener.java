@@ -0,0 +1,146 @@
+package com.veilcore.listeners;
+
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.EntityEventSystem;
+import com.hypixel.hytale.math.vector.Vector3d;
+import com.hypixel.hytale.math.vector.Vector3i;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.entity.movement.MovementStatesComponent;
+import com.hypixel.hytale.server.core.event.events.ecs.BreakBlockEvent;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.veilcore.VeilCorePlugin;
+import com.veilcore.components.SurvivalNeeds;
+import com.veilcore.profile.Profile;
+import com.veilcore.resources.GatheringDefinitions;
+import com.veilcore.resources.ResourceSnapshot;
+import com.veilcore.skills.Skill;
+import com.veilcore.skills.subskills.mining.VeinMiner;
+import com.veilcore.world.BlockPos;
+import com.veilcore.world.BlockRemovalJob;
+import com.veilcore.world.BlockRemovalQueue;
+import com.veilcore.world.ConnectedBlockSearch;
+import com.veilcore.world.PlacedBlocks;
+
+import javax.annotation.Nonnull;
+import java.util.UUID;
+import java.util.logging.Level;
+
+/**
+ * Listens for block break events using ECS event system
+ * When a crouching player with the Vein Miner node breaks an ore, the rest of the connected vein
+ * (same ore, up to the node's cap) is queued for removal and rewarded once it has been mined
+ */
+public class VeinMiningListener extends EntityEventSystem<EntityStore, BreakBlockEvent> {
+
+    private static final ConnectedBlockSearch.Matcher SAME_ORE = (resources, blockId, originId) -> {
+        int group = resources.getOreGroup(blockId);
+        return group >= 0 && group == resources.getOreGroup(originId);
+    };
+
+    private final VeilCorePlugin plugin;
+    // Searches keep their buffers between breaks; one per thread since worlds tick on their own threads
+    private final ThreadLocal<ConnectedBlockSearch> searches = ThreadLocal.withInitial(ConnectedBlockSearch::new);
+
+    public VeinMiningListener(VeilCorePlugin plugin) {
+        super(BreakBlockEvent.class);
+        this.plugin = plugin;
+    }
+
+    @Nonnull
+    @Override
+    public Query<EntityStore> getQuery() {
+        // Only process break events for entities that have the Player component
+        return Query.and(Player.getComponentType());
+    }
+
+    @Override
+    public void handle(
+            int index,
+            @Nonnull ArchetypeChunk<EntityStore> chunk,
+            @Nonnull Store<EntityStore> store,
+            @Nonnull CommandBuffer<EntityStore> commandBuffer,
+            @Nonnull BreakBlockEvent event
+    ) {
+        Ref<EntityStore> ref = chunk.getReferenceTo(index);
+        Player player = store.getComponent(ref, Player.getComponentType());
+        if (player == null) {
+            return;
+        }
+
+        // Vein mining is opt-in per break: hold SHIFT
+        MovementStatesComponent movement = store.getComponent(ref, MovementStatesComponent.getComponentType());
+        if (movement == null || !movement.getMovementStates().crouching) {
+            return;
+        }
+
+        ResourceSnapshot resources = plugin.getResourceClassifier().getSnapshot();
+        GatheringDefinitions.RemovalSettings settings = resources.getDefinitions().getRemoval();
+        int originId = plugin.getResourceClassifier().getBlockId(event.getBlockType());
+        int oreGroup = resources.getOreGroup(originId);
+        if (!settings.isVeinMiningEnabled() || oreGroup < 0) {
+            return;
+        }
+
+        Profile profile = plugin.getProfileManager().getActiveProfile(player.getUuid());
+        if (profile == null) {
+            return;
+        }
+        int cap = VeinMiner.getVeinCap(profile.getSkills().getTreeData());
+        if (cap <= 1) {
+            return;
+        }
+
+        // Find the rest of the vein; the mined block itself is handled by the normal break
+        Vector3i pos = event.getTargetBlock();
+        World world = player.getWorld();
+        if (PlacedBlocks.isPlaced(world, pos.getX(), pos.getY(), pos.getZ())) {
+            return;
+        }
+        int radius = settings.getVeinRadius();
+        ConnectedBlockSearch search = searches.get();
+        search.begin(world, pos.getX(), pos.getY(), pos.getZ());
+        long[] vein;
+        try {
+            search.setOriginId(originId);
+            search.seed(BlockPos.pack(pos.getX(), pos.getY(), pos.getZ()));
+            search.flood(resources, SAME_ORE,
+                (dx, dy, dz) -> Math.abs(dx) <= radius && Math.abs(dy) <= radius && Math.abs(dz) <= radius,
+                cap - 1, Integer.MAX_VALUE);
+            vein = search.copyFound();
+        } finally {
+            search.end();
+        }
+        if (vein.length == 0) {
+            return;
+        }
+
+        // Mining the extra ores is as tiring as breaking them one by one
+        SurvivalNeedsSystem.addExhaustion(store, ref, SurvivalNeeds.EXHAUSTION_BLOCK_BREAK * vein.length);
+
+        UUID playerUuid = player.getUuid();
+        long xpPerOre = resources.getOreXp(originId);
+        Vector3d dropPosition = new Vector3d(pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5);
+        BlockRemovalJob job = new BlockRemovalJob(world, vein,
+            (current, blockId) -> current.getOreGroup(blockId) == oreGroup,
+            dropPosition)
+            .onComplete(done -> awardVeinXp(playerUuid, done.getRemovedNatural(), xpPerOre));
+        store.getResource(BlockRemovalQueue.getResourceType()).add(job);
+    }
+
+    /**
+     * Award Ore Extraction XP for the extra ores once the vein has actually been removed
+     */
+    private void awardVeinXp(UUID playerUuid, int oresMined, long xpPerOre) {
+        if (oresMined <= 0) {
+            return;
+        }
+        long xpGained = xpPerOre * oresMined;
+        plugin.getLogger().at(Level.FINE).log("Player " + playerUuid + " vein mined " + oresMined + " extra ores for " + xpGained + " mining XP");
+        plugin.getXpService().grant(playerUuid, Skill.MINING, xpGained, oresMined, "ores", "Vein Miner: " + oresMined + " ores");
+    }
+}
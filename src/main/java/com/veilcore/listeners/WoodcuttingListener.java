@@ -10,38 +10,40 @@ import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.event.events.ecs.BreakBlockEvent;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
-import com.hypixel.hytale.server.core.util.NotificationUtil;
-import com.hypixel.hytale.server.core.Message;
-import com.hypixel.hytale.server.core.universe.PlayerRef;
-import com.hypixel.hytale.server.core.universe.Universe;
 import com.hypixel.hytale.server.core.universe.world.World;
-import com.hypixel.hytale.server.core.universe.world.chunk.BlockChunk;
-import com.hypixel.hytale.server.core.universe.world.chunk.WorldChunk;
-import com.hypixel.hytale.protocol.ItemWithAllMetadata;
-import com.hypixel.hytale.server.core.inventory.ItemStack;
-import com.hypixel.hytale.server.core.io.PacketHandler;
+import com.hypixel.hytale.math.vector.Vector3d;
 import com.hypixel.hytale.math.vector.Vector3i;
-import com.hypixel.hytale.math.util.ChunkUtil;
 import com.veilcore.VeilCorePlugin;
 import com.veilcore.profile.Profile;
-import com.veilcore.skills.ProfileSkills;
+import com.veilcore.resources.GatheringDefinitions;
+import com.veilcore.resources.ResourceClassifier;
+import com.veilcore.resources.ResourceSnapshot;
 import com.veilcore.skills.Skill;
-import com.veilcore.skills.SkillLevel;
 import com.veilcore.skills.subskills.woodcutting.TreeFelling;
+import com.veilcore.world.BlockRemovalJob;
+import com.veilcore.world.BlockRemovalQueue;
+import com.veilcore.world.PlacedBlocks;
+import com.veilcore.world.TreeScanner;
 
 import javax.annotation.Nonnull;
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.UUID;
 import java.util.logging.Level;
 
 /**
  * Listens for block break events using ECS event system
  * Awards woodcutting XP when players break wood blocks
- * Scans tree structure to detect if breaking will cause collapse
+ * Scans tree structure to detect if breaking will cause collapse, and fells the collapsing tree
+ * Player-placed logs and leaves are never part of a tree; when a tree is felled, XP is paid once the job has
+ * finished, for the natural logs that were actually removed.
  */
 public class WoodcuttingListener extends EntityEventSystem<EntityStore, BreakBlockEvent> {
 
+    private static final BlockRemovalJob.Filter TREE_BLOCKS = (resources, blockId) -> resources.isLog(blockId) || resources.isLeaves(blockId);
+    private static final BlockRemovalJob.Filter LOGS = (resources, blockId) -> resources.isLog(blockId);
+
     private final VeilCorePlugin plugin;
+    // Scanners keep their buffers between breaks; one per thread since worlds tick on their own threads
+    private final ThreadLocal<TreeScanner> scanners = ThreadLocal.withInitial(TreeScanner::new);
 
     public WoodcuttingListener(VeilCorePlugin plugin) {
         super(BreakBlockEvent.class);
@@ -75,165 +77,51 @@ public class WoodcuttingListener extends EntityEventSystem<EntityStore, BreakBlo
         
         // Get block type from the event
         BlockType blockType = event.getBlockType();
-        String blockId = blockType.getId();
         Vector3i blockPos = event.getTargetBlock();
         
         // Check if the broken block is wood
-        if (!TreeFelling.isWoodBlock(blockId)) {
+        ResourceClassifier classifier = plugin.getResourceClassifier();
+        int blockIndex = classifier.getBlockId(blockType);
+        if (!classifier.isLog(blockIndex)) {
             return; // Not a wood block, no woodcutting XP
         }
         
         UUID playerUuid = player.getUuid();
         World world = player.getWorld();
         
-        // Scan the tree to see how many blocks will collapse
-        int treeSize = scanTreeForCollapse(world, blockPos, blockId);
-        
-        // Award XP based on detected tree size
-        awardWoodcuttingXp(player, playerUuid, treeSize, blockId);
-    }
-    
-    /**
-     * Scan the tree structure to determine how many blocks will collapse when this block is broken
-     * Only counts blocks at or above the broken block's Y level and within horizontal radius
-     */
-    private int scanTreeForCollapse(World world, Vector3i breakPos, String woodType) {
-        Set<String> scannedBlocks = new HashSet<>();
-        Queue<Vector3i> toScan = new LinkedList<>();
-        int woodCount = 1; // Count the block being broken
-        int blocksChecked = 0;
-        int woodBlocksFound = 0;
-        final int MAX_HORIZONTAL_DISTANCE = 8; // Limit tree scan to 8 blocks radius horizontally
-        
-        plugin.getLogger().at(Level.INFO).log("Starting tree scan at " + breakPos.getX() + "," + breakPos.getY() + "," + breakPos.getZ());
-        
-        // First check if there are adjacent wood blocks at the same Y level horizontally
-        // If so, the tree is still grounded and won't collapse (multi-block trunk base)
-        int[][] horizontalDirections = {
-            {1, 0, 0},   // East
-            {-1, 0, 0},  // West
-            {0, 0, 1},   // South
-            {0, 0, -1}   // North
-        };
-        
-        for (int[] dir : horizontalDirections) {
-            int checkX = breakPos.getX() + dir[0];
-            int checkY = breakPos.getY(); // Only check same Y level
-            int checkZ = breakPos.getZ() + dir[2];
-            
-            BlockType adjacentBlock = getBlockAtCoords(world, checkX, checkY, checkZ);
-            if (adjacentBlock != null && TreeFelling.isWoodBlock(adjacentBlock.getId())) {
-                plugin.getLogger().at(Level.INFO).log("  Tree still grounded - found support at " + checkX + "," + checkY + "," + checkZ);
-                return 1; // Tree won't collapse, only award XP for the single block broken
-            }
+        // Logs a player placed themselves give no XP and don't fell anything
+        if (PlacedBlocks.isPlaced(world, blockPos.getX(), blockPos.getY(), blockPos.getZ())) {
+            return;
         }
         
-        // No ground support found, tree will collapse - scan upward
-        // Start by scanning blocks connected to the one being broken
-        toScan.add(new Vector3i(breakPos));
-        scannedBlocks.add(breakPos.getX() + "," + breakPos.getY() + "," + breakPos.getZ());
-        
-        // BFS to find all connected wood blocks at or above this level
-        while (!toScan.isEmpty() && woodCount < 500) { // Limit to prevent infinite loops
-            Vector3i current = toScan.poll();
-            
-            // Only scan directly adjacent blocks (6 directions: up, down, north, south, east, west)
-            // This ensures we only find truly connected wood blocks, not diagonal jumps
-            int[][] directions = {
-                {0, 1, 0},   // Up
-                {0, -1, 0},  // Down
-                {1, 0, 0},   // East
-                {-1, 0, 0},  // West
-                {0, 0, 1},   // South
-                {0, 0, -1}   // North
-            };
-            
-            for (int[] dir : directions) {
-                int neighborX = current.getX() + dir[0];
-                int neighborY = current.getY() + dir[1];
-                int neighborZ = current.getZ() + dir[2];
-                        
-                // Only scan blocks at or above the break position Y level
-                if (neighborY < breakPos.getY()) continue;
-                
-                // Only scan blocks within horizontal radius (prevents scanning across multiple trees)
-                int horizontalDistSq = (neighborX - breakPos.getX()) * (neighborX - breakPos.getX()) + 
-                                       (neighborZ - breakPos.getZ()) * (neighborZ - breakPos.getZ());
-                if (horizontalDistSq > MAX_HORIZONTAL_DISTANCE * MAX_HORIZONTAL_DISTANCE) continue;
-                
-                String key = neighborX + "," + neighborY + "," + neighborZ;
-                if (scannedBlocks.contains(key)) continue;
-                scannedBlocks.add(key);
-                
-                blocksChecked++;
-                
-                // Get block at this position
-                BlockType neighborBlock = getBlockAtCoords(world, neighborX, neighborY, neighborZ);
-                if (neighborBlock != null) {
-                    String blockId = neighborBlock.getId();
-                    if (blocksChecked <= 10) { // Log first 10 blocks for debugging
-                        plugin.getLogger().at(Level.INFO).log("  Checked block at " + neighborX + "," + neighborY + "," + neighborZ + ": " + blockId);
-                    }
-                    
-                    if (TreeFelling.isWoodBlock(blockId)) {
-                        woodBlocksFound++;
-                        if (woodBlocksFound <= 5) {
-                            plugin.getLogger().at(Level.INFO).log("  Found wood block: " + blockId);
-                        }
-                        woodCount++;
-                        toScan.add(new Vector3i(neighborX, neighborY, neighborZ));
-                    }
-                } else if (blocksChecked <= 10) {
-                    plugin.getLogger().at(Level.INFO).log("  Block at " + neighborX + "," + neighborY + "," + neighborZ + " was null");
-                }
-            }
+        // Scan the tree to see how many blocks will collapse
+        ResourceSnapshot resources = classifier.getSnapshot();
+        GatheringDefinitions.FellingSettings felling = resources.getDefinitions().getFelling();
+        int leafReach = felling.isEnabled() && felling.isIncludeLeaves() ? felling.getLeafReach() : 0;
+        TreeScanner scanner = scanners.get();
+        int treeSize = scanner.scan(world, resources, blockPos.getX(), blockPos.getY(), blockPos.getZ(), leafReach);
+        String playerName = player.getDisplayName();
+        TreeFelling.WoodRarity rarity = resources.getWoodRarity(blockIndex);
+        double multiplier = resources.getWoodMultiplier(blockIndex);
+        
+        // Fell the rest of the tree; removal is spread over ticks by BlockRemovalSystem and XP follows once it's done
+        if (felling.isEnabled() && scanner.getFoundCount() > 0) {
+            Vector3d dropPosition = new Vector3d(blockPos.getX() + 0.5, blockPos.getY() + 0.5, blockPos.getZ() + 0.5);
+            BlockRemovalJob job = new BlockRemovalJob(world, scanner.copyFound(), TREE_BLOCKS, dropPosition)
+                .onComplete(done -> awardWoodcuttingXp(playerName, playerUuid,
+                    1 + done.getRemovedNatural(plugin.getResourceClassifier().getSnapshot(), LOGS), rarity, multiplier));
+            store.getResource(BlockRemovalQueue.getResourceType()).add(job);
+            return;
         }
         
-        plugin.getLogger().at(Level.INFO).log("Tree scan complete: checked " + blocksChecked + " positions, found " + woodCount + " wood blocks");
-        return woodCount;
-    }
-    
-    /**
-     * Get the block type at specific world coordinates
-     */
-    private BlockType getBlockAtCoords(World world, int x, int y, int z) {
-        try {
-            // Use proper chunk index calculation from Hytale's ChunkUtil
-            long chunkIndex = ChunkUtil.indexChunkFromBlock(x, z);
-            
-            WorldChunk worldChunk = world.getChunkIfLoaded(chunkIndex);
-            if (worldChunk == null) {
-                plugin.getLogger().at(Level.INFO).log("    Chunk not loaded for " + x + "," + y + "," + z + " (index " + chunkIndex + ")");
-                return null;
-            }
-            
-            BlockChunk blockChunk = worldChunk.getBlockChunk();
-            if (blockChunk == null) {
-                plugin.getLogger().at(Level.INFO).log("    BlockChunk null for " + x + "," + y + "," + z);
-                return null;
-            }
-            
-            int blockId = blockChunk.getBlock(x, y, z);
-            if (blockId == 0) {
-                // Block ID 0 is air/empty
-                return null;
-            }
-            
-            BlockType blockType = BlockType.getAssetMap().getAsset(blockId);
-            if (blockType == null) {
-                plugin.getLogger().at(Level.INFO).log("    BlockType null for ID " + blockId + " at " + x + "," + y + "," + z);
-            }
-            return blockType;
-        } catch (Exception e) {
-            plugin.getLogger().at(Level.WARNING).log("    Exception getting block at " + x + "," + y + "," + z + ": " + e.getMessage());
-            return null;
-        }
+        // Award XP based on detected tree size
+        awardWoodcuttingXp(playerName, playerUuid, treeSize, rarity, multiplier);
     }
     
     /**
      * Award woodcutting XP to the player
      */
-    private void awardWoodcuttingXp(Player player, UUID playerUuid, int totalBlocks, String woodType) {
+    private void awardWoodcuttingXp(String playerName, UUID playerUuid, int totalBlocks, TreeFelling.WoodRarity rarity, double multiplier) {
         // Get player's profile
         Profile profile = plugin.getProfileManager().getActiveProfile(playerUuid);
         if (profile == null) {
@@ -241,73 +129,17 @@ public class WoodcuttingListener extends EntityEventSystem<EntityStore, BreakBlo
         }
         
         // Calculate XP based on tree size
-        long xpAmount = TreeFelling.calculateXp(totalBlocks, woodType);
+        long xpAmount = TreeFelling.calculateXp(totalBlocks, multiplier);
         
-        // Get wood rarity and tree size for display
-        TreeFelling.WoodRarity rarity = TreeFelling.WoodRarity.fromBlockId(woodType);
+        // Get tree size for display
         TreeFelling.TreeSize treeSize = TreeFelling.getTreeSize(totalBlocks);
         
         plugin.getLogger().at(Level.INFO).log(
-            "Player " + player.getDisplayName() + " broke " + totalBlocks + " " + rarity.name() + " wood blocks (" + treeSize.name() + " tree), gaining " + xpAmount + " woodcutting XP"
+            "Player " + playerName + " broke " + totalBlocks + " " + rarity.name() + " wood blocks (" + treeSize.name() + " tree), gaining " + xpAmount + " woodcutting XP"
         );
         
-        // Award woodcutting XP
-        ProfileSkills skills = profile.getSkills();
-        SkillLevel oldWoodcuttingLevel = skills.getSkillLevel(Skill.WOODCUTTING);
-        int oldLevel = oldWoodcuttingLevel.getLevel();
-        
-        int levelsGained = skills.addXp(Skill.WOODCUTTING, xpAmount);
-        
-        // Save profile
-        plugin.getProfileManager().saveProfile(profile);
-        
-        // Get PlayerRef for notifications
-        PlayerRef playerRef = Universe.get().getPlayer(playerUuid);
-        if (playerRef == null) {
-            return;
-        }
-        
-        PacketHandler handler = playerRef.getPacketHandler();
-        
-        ItemWithAllMetadata icon = new ItemStack("Hytale_Menu_Inventory", 1).toPacket();
-        
-        // Notify player if leveled up
-        if (levelsGained > 0) {
-            int newLevel = oldLevel + levelsGained;
-            
-            Message levelUpPrimary = Message.raw(String.format("Woodcutting Level %d", newLevel))
-                .color("#8B4513")
-                .bold(true);
-            Message levelUpSecondary = Message.raw(String.format("Level up! +%d level%s", 
-                levelsGained, levelsGained > 1 ? "s" : ""))
-                .color("#FFFFFF");
-            
-            NotificationUtil.sendNotification(
-                handler,
-                levelUpPrimary,
-                levelUpSecondary,
-                icon
-            );
-        }
-        
-        // Send XP gained notification
-        String xpMessage = String.format("+%d Woodcutting XP", xpAmount);
-        String secondaryMessage = String.format("Felled %d blocks (%s tree, %s wood)", 
-            totalBlocks,
-            treeSize.name(), 
-            rarity.name());
-        
-        Message primaryMsg = Message.raw(xpMessage)
-            .color("#8B4513")
-            .bold(true);
-        Message secondaryMsg = Message.raw(secondaryMessage)
-            .color("#FFFFFF");
-        
-        NotificationUtil.sendNotification(
-            handler,
-            primaryMsg,
-            secondaryMsg,
-            icon
-        );
+        // Award woodcutting XP; the XP service applies it with the player's multipliers next tick
+        String detail = "Felled " + totalBlocks + " blocks (" + treeSize.name() + " tree, " + rarity.name() + " wood)";
+        plugin.getXpService().grant(playerUuid, Skill.WOODCUTTING, xpAmount, 1, "trees", detail);
     }
 }
@@ -0,0 +1,46 @@
+package com.veilcore.listeners;
+
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.tick.EntityTickingSystem;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.veilcore.VeilCorePlugin;
+
+import javax.annotation.Nonnull;
+
+/**
+ * ECS System that applies each player's batched XP once per tick.
+ * Runs on the world thread that owns the player, so skill levels and level-up token awards change on the
+ * same thread as the skill tree pages and transactions instead of on the plugin scheduler.
+ */
+public class XpFlushSystem extends EntityTickingSystem<EntityStore> {
+
+    private final VeilCorePlugin plugin;
+    private final Query<EntityStore> query;
+
+    public XpFlushSystem(VeilCorePlugin plugin) {
+        this.plugin = plugin;
+        this.query = Query.and(
+            Player.getComponentType(),
+            PlayerRef.getComponentType()
+        );
+    }
+
+    @Override
+    @Nonnull
+    public Query<EntityStore> getQuery() {
+        return query;
+    }
+
+    @Override
+    public void tick(float dt, int index, @Nonnull ArchetypeChunk<EntityStore> chunk, @Nonnull Store<EntityStore> store, @Nonnull CommandBuffer<EntityStore> commandBuffer) {
+        PlayerRef playerRef = chunk.getComponent(index, PlayerRef.getComponentType());
+        if (playerRef != null) {
+            plugin.getXpService().flush(playerRef.getUuid());
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.veilcore.mana;
+
+import com.hypixel.hytale.component.ComponentAccessor;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.server.core.modules.entitystats.EntityStatMap;
+import com.hypixel.hytale.server.core.modules.entitystats.EntityStatValue;
+import com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Spend/refund API for the player's mana pool.
+ * Mana lives in the entity's stat map (the built-in Mana stat), so the client already knows about it
+ * and every change is a single stat write. Max mana is driven by ProfileStats.totalMana via ManaSyncListener,
+ * regeneration by RegenerationSystem.
+ *
+ * Accepts any ComponentAccessor, so it can be called with the Store or with the CommandBuffer
+ * handed to interactions and systems. Like any component access it must run on the world thread.
+ */
+public final class ManaPool {
+
+    private ManaPool() {
+    }
+
+    /**
+     * Get the player's current mana
+     * @return Current mana, or 0 if the entity has no mana stat
+     */
+    public static float getMana(@Nonnull ComponentAccessor<EntityStore> accessor, @Nonnull Ref<EntityStore> ref) {
+        EntityStatValue manaStat = getManaStat(accessor, ref);
+        return manaStat != null ? manaStat.get() : 0.0f;
+    }
+
+    /**
+     * Get the player's maximum mana
+     * @return Max mana, or 0 if the entity has no mana stat
+     */
+    public static float getMaxMana(@Nonnull ComponentAccessor<EntityStore> accessor, @Nonnull Ref<EntityStore> ref) {
+        EntityStatValue manaStat = getManaStat(accessor, ref);
+        return manaStat != null ? manaStat.getMax() : 0.0f;
+    }
+
+    /**
+     * Check whether the player could pay a mana cost
+     * @param amount The mana cost
+     */
+    public static boolean hasMana(@Nonnull ComponentAccessor<EntityStore> accessor, @Nonnull Ref<EntityStore> ref, float amount) {
+        return getMana(accessor, ref) >= amount;
+    }
+
+    /**
+     * Spend mana if the player has enough; nothing is deducted otherwise
+     * @param amount The mana cost (must be non-negative)
+     * @return true if the mana was spent
+     */
+    public static boolean trySpend(@Nonnull ComponentAccessor<EntityStore> accessor, @Nonnull Ref<EntityStore> ref, float amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("Mana cost must be non-negative but was " + amount);
+        }
+
+        EntityStatMap statMap = accessor.getComponent(ref, EntityStatMap.getComponentType());
+        if (statMap == null) {
+            return false;
+        }
+
+        int manaIndex = DefaultEntityStatTypes.getMana();
+        EntityStatValue manaStat = statMap.get(manaIndex);
+        if (manaStat == null || manaStat.get() < amount) {
+            return false;
+        }
+
+        if (amount > 0) {
+            statMap.setStatValue(manaIndex, manaStat.get() - amount);
+        }
+        return true;
+    }
+
+    /**
+     * Give mana back, e.g. when a cast is cancelled after paying for it
+     * @param amount The mana to return (must be non-negative)
+     * @return The amount actually refunded after capping at max mana
+     */
+    public static float refund(@Nonnull ComponentAccessor<EntityStore> accessor, @Nonnull Ref<EntityStore> ref, float amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("Mana refund must be non-negative but was " + amount);
+        }
+
+        EntityStatMap statMap = accessor.getComponent(ref, EntityStatMap.getComponentType());
+        if (statMap == null) {
+            return 0.0f;
+        }
+
+        int manaIndex = DefaultEntityStatTypes.getMana();
+        EntityStatValue manaStat = statMap.get(manaIndex);
+        if (manaStat == null) {
+            return 0.0f;
+        }
+
+        float current = manaStat.get();
+        float newMana = Math.min(current + amount, manaStat.getMax());
+        if (newMana > current) {
+            statMap.setStatValue(manaIndex, newMana);
+        }
+        return newMana - current;
+    }
+
+    private static EntityStatValue getManaStat(ComponentAccessor<EntityStore> accessor, Ref<EntityStore> ref) {
+        EntityStatMap statMap = accessor.getComponent(ref, EntityStatMap.getComponentType());
+        return statMap != null ? statMap.get(DefaultEntityStatTypes.getMana()) : null;
+    }
+}
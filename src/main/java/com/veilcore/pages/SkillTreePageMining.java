@@ -19,13 +19,19 @@ import com.hypixel.hytale.server.core.ui.builder.UICommandBuilder;
 import com.hypixel.hytale.server.core.ui.builder.UIEventBuilder;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.veilcore.VeilCorePlugin;
+import com.veilcore.listeners.MiningSpeedSystem;
+import com.veilcore.listeners.StatSync;
 import com.veilcore.profile.Profile;
 import com.veilcore.skills.Skill;
 import com.veilcore.skills.tokens.SkillToken.TokenTier;
+import com.veilcore.skills.trees.CompiledSkillTree;
 import com.veilcore.skills.trees.PlayerSkillTreeData;
 import com.veilcore.skills.trees.SkillTree;
 import com.veilcore.skills.trees.SkillTreeNode;
 import com.veilcore.skills.trees.SkillTreeRegistry;
+import com.veilcore.skills.trees.SkillTreeState;
+import com.veilcore.skills.trees.TreeLedgerEntry;
 
 /**
  * Dynamic skill tree page for Mining
@@ -106,9 +112,14 @@ public class SkillTreePageMining extends InteractiveCustomUIPage<SkillTreePageMi
         StringBuilder nodeList = new StringBuilder();
         nodeList.append("Available Nodes:\n\n");
         
-        for (SkillTreeNode node : tree.getAllNodes()) {
-            int currentLevel = treeData.getNodeLevel(Skill.MINING.getId(), node.getId());
-            int maxLevel = node.getMaxLevel();
+        SkillTreeState state = treeData.getTreeState(Skill.MINING.getId());
+        CompiledSkillTree compiled = state.getTree();
+        int nodeCount = compiled != null ? compiled.getNodeCount() : 0;
+        
+        for (int i = 0; i < nodeCount; i++) {
+            SkillTreeNode node = compiled.getNode(i);
+            int currentLevel = state.getLevel(i);
+            int maxLevel = compiled.getMaxLevel(i);
             
             String status;
             if (currentLevel >= maxLevel) {
@@ -116,7 +127,8 @@ public class SkillTreePageMining extends InteractiveCustomUIPage<SkillTreePageMi
             } else if (currentLevel > 0) {
                 status = String.format("Level %d/%d", currentLevel, maxLevel);
             } else {
-                boolean canAfford = treeData.canAffordNode(Skill.MINING.getId(), node, currentLevel);
+                boolean canAfford = state.canUnlock(i)
+                    && treeData.canAffordNode(Skill.MINING.getId(), node, currentLevel);
                 status = canAfford ? "Available" : "Locked";
             }
             
@@ -189,8 +201,16 @@ public class SkillTreePageMining extends InteractiveCustomUIPage<SkillTreePageMi
                         int cost = node.getTokenCost(currentLevel + 1);
                         TokenTier requiredTier = node.getRequiredTokenTier();
                         
-                        if (treeData.useTokens(Skill.MINING.getId(), requiredTier, cost)) {
-                            treeData.setNodeLevel(Skill.MINING.getId(), nodeId, currentLevel + 1);
+                        // Spend, level and stat change commit together, or not at all
+                        TreeLedgerEntry upgrade = treeData.begin(Skill.MINING.getId(), "upgrade")
+                            .spend(requiredTier, cost)
+                            .setLevel(nodeId, currentLevel + 1)
+                            .commit(profile.getStats());
+                        
+                        if (upgrade != null) {
+                            MiningSpeedSystem.invalidateMiningSpeed(store, ref);
+                            VeilCorePlugin.getInstance().getXpService().getMultipliers().invalidate(playerRef.getUuid());
+                            StatSync.flush(store, ref, profile);
                             
                             playerRef.sendMessage(Message.raw(String.format(
                                 "Upgraded %s to level %d!", 
@@ -221,7 +241,10 @@ public class SkillTreePageMining extends InteractiveCustomUIPage<SkillTreePageMi
             case "Reset":
                 // Reset the entire tree
                 if (miningTree != null) {
-                    Map<TokenTier, Integer> refundedTokens = treeData.resetSkillTree(Skill.MINING.getId(), miningTree);
+                    Map<TokenTier, Integer> refundedTokens = treeData.resetSkillTree(Skill.MINING.getId(), miningTree, profile.getStats());
+                    MiningSpeedSystem.invalidateMiningSpeed(store, ref);
+                    VeilCorePlugin.getInstance().getXpService().getMultipliers().invalidate(playerRef.getUuid());
+                    StatSync.flush(store, ref, profile);
                     
                     int totalRefunded = refundedTokens.values().stream().mapToInt(Integer::intValue).sum();
                     if (totalRefunded > 0) {
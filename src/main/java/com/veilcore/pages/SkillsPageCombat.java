@@ -76,7 +76,7 @@ public class SkillsPageCombat extends InteractiveCustomUIPage<SkillsPageCombat.S
         cmd.set("#CurrentXP.Text", String.valueOf(combatLevel.getCurrentXp()));
         
         // Calculate total XP
-        long totalXp = SkillLevel.getTotalXpForLevel(combatLevel.getLevel()) + combatLevel.getCurrentXp();
+        long totalXp = combatLevel.getTotalXp();
         cmd.set("#TotalXP.Text", String.valueOf(totalXp));
         
         // Set token counts
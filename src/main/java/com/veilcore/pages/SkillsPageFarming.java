@@ -76,7 +76,7 @@ public class SkillsPageFarming extends InteractiveCustomUIPage<SkillsPageFarming
         cmd.set("#CurrentXP.Text", String.valueOf(farmingLevel.getCurrentXp()));
         
         // Calculate total XP
-        long totalXp = SkillLevel.getTotalXpForLevel(farmingLevel.getLevel()) + farmingLevel.getCurrentXp();
+        long totalXp = farmingLevel.getTotalXp();
         cmd.set("#TotalXP.Text", String.valueOf(totalXp));
         
         // Set token counts
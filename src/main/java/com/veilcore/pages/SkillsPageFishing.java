@@ -76,7 +76,7 @@ public class SkillsPageFishing extends InteractiveCustomUIPage<SkillsPageFishing
         cmd.set("#CurrentXP.Text", String.valueOf(fishingLevel.getCurrentXp()));
         
         // Calculate total XP
-        long totalXp = SkillLevel.getTotalXpForLevel(fishingLevel.getLevel()) + fishingLevel.getCurrentXp();
+        long totalXp = fishingLevel.getTotalXp();
         cmd.set("#TotalXP.Text", String.valueOf(totalXp));
         
         // Set token counts
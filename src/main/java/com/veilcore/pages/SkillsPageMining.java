@@ -76,7 +76,7 @@ public class SkillsPageMining extends InteractiveCustomUIPage<SkillsPageMining.S
         cmd.set("#CurrentXP.Text", String.valueOf(miningLevel.getCurrentXp()));
         
         // Calculate total XP
-        long totalXp = SkillLevel.getTotalXpForLevel(miningLevel.getLevel()) + miningLevel.getCurrentXp();
+        long totalXp = miningLevel.getTotalXp();
         cmd.set("#TotalXP.Text", String.valueOf(totalXp));
         
         // Set token counts
@@ -76,7 +76,7 @@ public class SkillsPageWoodcutting extends InteractiveCustomUIPage<SkillsPageWoo
         cmd.set("#CurrentXP.Text", String.valueOf(woodcuttingLevel.getCurrentXp()));
         
         // Calculate total XP
-        long totalXp = SkillLevel.getTotalXpForLevel(woodcuttingLevel.getLevel()) + woodcuttingLevel.getCurrentXp();
+        long totalXp = woodcuttingLevel.getTotalXp();
         cmd.set("#TotalXP.Text", String.valueOf(totalXp));
         
         // Set token counts
@@ -17,6 +17,7 @@ import javax.annotation.Nullable;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.reflect.TypeToken;
+import com.veilcore.skills.trees.TreeStatEffects;
 
 /**
  * Manages player profiles - creation, loading, deletion, and tracking active profiles.
@@ -123,6 +124,8 @@ public class PlayerProfileManager {
         // Load from disk and cache it
         Profile profile = repository.loadProfile(playerUUID, profileId);
         if (profile != null) {
+            // Tree stat contributions may be missing (older saves) or stale after a tree reload
+            TreeStatEffects.reconcile(profile);
             profileCache.put(cacheKey, profile);
         }
         return profile;
@@ -169,7 +172,12 @@ public class PlayerProfileManager {
         String cacheKey = playerUUID.toString() + ":" + profileId.toString();
         Profile profile = repository.loadProfile(playerUUID, profileId);
         if (profile != null) {
-            profileCache.put(cacheKey, profile);
+            TreeStatEffects.reconcile(profile);
+            Profile replaced = profileCache.put(cacheKey, profile);
+            if (replaced != null && replaced != profile) {
+                // Only the live instance may append to the ledger
+                replaced.getSkills().getTreeData().setLedger(null);
+            }
             logger.info("Loaded and cached profile: " + profile.getProfileName() + " for player " + playerUUID);
         }
         
@@ -247,6 +255,16 @@ public class PlayerProfileManager {
         return repository.saveProfile(profile);
     }
     
+    /**
+     * Write a profile to disk without touching the cache, e.g. when the save finishes after its player left.
+     *
+     * @param profile The profile to save
+     * @return true if saved successfully
+     */
+    public boolean persistProfile(@Nonnull Profile profile) {
+        return repository.saveProfile(profile);
+    }
+    
     /**
      * Save all active profiles (called during server shutdown).
      * 
@@ -271,6 +289,13 @@ public class PlayerProfileManager {
         return savedCount;
     }
     
+    /**
+     * Finish writing queued skill tree ledger entries (called during server shutdown, after the last save).
+     */
+    public void shutdown() {
+        repository.shutdown();
+    }
+    
     /**
      * Check if a player has any profiles.
      *
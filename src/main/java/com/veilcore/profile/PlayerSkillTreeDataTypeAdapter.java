@@ -0,0 +1,120 @@
+package com.veilcore.profile;
+
+import java.lang.reflect.Type;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.google.gson.JsonDeserializationContext;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonSerializationContext;
+import com.google.gson.JsonSerializer;
+import com.veilcore.skills.tokens.SkillToken.TokenTier;
+import com.veilcore.skills.trees.PlayerSkillTreeData;
+
+/**
+ * Gson adapter for PlayerSkillTreeData.
+ * Keeps the original map-shaped layout ("unlockedNodeLevels": {"mining": {"root": 1}},
+ * "tieredSkillTokens": {"mining": {"tier_1": 3}}) so existing profile files load unchanged.
+ * Node levels are resolved to tree indices on load; nodes the tree does not define are kept by ID.
+ * "ledgerSeq" is the last skill tree ledger entry included, so newer entries can be replayed on load.
+ */
+public class PlayerSkillTreeDataTypeAdapter implements JsonSerializer<PlayerSkillTreeData>, JsonDeserializer<PlayerSkillTreeData> {
+
+    private static final String NODE_LEVELS = "unlockedNodeLevels";
+    private static final String TOKENS = "tieredSkillTokens";
+    private static final String TIER_PREFIX = "tier_";
+    private static final String LEDGER_SEQ = "ledgerSeq";
+
+    @Override
+    public JsonElement serialize(PlayerSkillTreeData data, Type type, JsonSerializationContext context) {
+        // Transactions commit under the same lock, so the levels, tokens and ledger number agree
+        synchronized (data) {
+            return serializeLocked(data);
+        }
+    }
+
+    private static JsonElement serializeLocked(PlayerSkillTreeData data) {
+        JsonObject nodeLevels = new JsonObject();
+        JsonObject tokens = new JsonObject();
+
+        for (String skillId : data.getSkillIds()) {
+            JsonObject levels = new JsonObject();
+            for (Map.Entry<String, Integer> entry : data.getNodeLevels(skillId).entrySet()) {
+                levels.addProperty(entry.getKey(), entry.getValue());
+            }
+            nodeLevels.add(skillId, levels);
+
+            JsonObject tiers = new JsonObject();
+            for (TokenTier tier : TokenTier.values()) {
+                tiers.addProperty(TIER_PREFIX + tier.getLevel(), data.getTokenCount(skillId, tier));
+            }
+            tokens.add(skillId, tiers);
+        }
+
+        JsonObject json = new JsonObject();
+        json.add(NODE_LEVELS, nodeLevels);
+        json.add(TOKENS, tokens);
+        json.addProperty(LEDGER_SEQ, data.getLedgerSeq());
+        return json;
+    }
+
+    @Override
+    public PlayerSkillTreeData deserialize(JsonElement json, Type type, JsonDeserializationContext context)
+            throws JsonParseException {
+        PlayerSkillTreeData data = new PlayerSkillTreeData();
+        if (!json.isJsonObject()) {
+            return data;
+        }
+        JsonObject object = json.getAsJsonObject();
+
+        for (Map.Entry<String, JsonObject> skill : skillEntries(object, NODE_LEVELS)) {
+            for (Map.Entry<String, JsonElement> node : skill.getValue().entrySet()) {
+                data.unlockNodeAtLevel(skill.getKey(), node.getKey(), node.getValue().getAsInt());
+            }
+        }
+
+        for (Map.Entry<String, JsonObject> skill : skillEntries(object, TOKENS)) {
+            for (Map.Entry<String, JsonElement> tier : skill.getValue().entrySet()) {
+                TokenTier tokenTier = parseTier(tier.getKey());
+                if (tokenTier != null) {
+                    data.setTokenCount(skill.getKey(), tokenTier, tier.getValue().getAsInt());
+                }
+            }
+        }
+
+        JsonElement ledgerSeq = object.get(LEDGER_SEQ);
+        if (ledgerSeq != null && ledgerSeq.isJsonPrimitive()) {
+            data.setLedgerSeq(ledgerSeq.getAsLong());
+        }
+        return data;
+    }
+
+    private static Iterable<Map.Entry<String, JsonObject>> skillEntries(JsonObject object, String key) {
+        Map<String, JsonObject> entries = new LinkedHashMap<>();
+        JsonElement element = object.get(key);
+        if (element != null && element.isJsonObject()) {
+            for (Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+                if (entry.getValue().isJsonObject()) {
+                    entries.put(entry.getKey(), entry.getValue().getAsJsonObject());
+                }
+            }
+        }
+        return entries.entrySet();
+    }
+
+    private static TokenTier parseTier(String key) {
+        if (!key.startsWith(TIER_PREFIX)) {
+            return null;
+        }
+        try {
+            int level = Integer.parseInt(key.substring(TIER_PREFIX.length()));
+            TokenTier tier = TokenTier.fromLevel(level);
+            return tier.getLevel() == level ? tier : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
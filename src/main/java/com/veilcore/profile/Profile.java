@@ -27,6 +27,9 @@ public class Profile {
     private ProfileStats stats;
     private ProfileSkills skills;
     
+    // Set when in-memory state changed since the last save; not persisted
+    private transient volatile boolean dirty;
+    
     /**
      * Create a new profile.
      *
@@ -159,4 +162,19 @@ public class Profile {
     public void setSkills(@Nonnull ProfileSkills skills) {
         this.skills = skills;
     }
+    
+    /**
+     * Flag unsaved changes so the next periodic save writes them, instead of saving right away
+     */
+    public void markDirty() {
+        this.dirty = true;
+    }
+    
+    public boolean isDirty() {
+        return dirty;
+    }
+    
+    void clearDirty() {
+        this.dirty = false;
+    }
 }
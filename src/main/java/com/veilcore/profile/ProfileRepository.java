@@ -1,9 +1,12 @@
 package com.veilcore.profile;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -18,16 +21,20 @@ import javax.annotation.Nullable;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonSyntaxException;
+import com.veilcore.skills.ProfileSkills;
+import com.veilcore.skills.trees.PlayerSkillTreeData;
 
 /**
  * Handles persistence of player profiles to/from JSON files.
- * Storage structure: plugins/VeilCore/profiles/{playerUUID}/{profileUUID}.json
+ * Storage structure: plugins/VeilCore/profiles/{playerUUID}/{profileUUID}.json, with the profile's skill tree
+ * ledger alongside as {profileUUID}.ledger (see TreeLedgerStore)
  */
 public class ProfileRepository {
     
     private final File profilesDir;
     private final Gson gson;
     private final Logger logger;
+    private final TreeLedgerStore ledger;
     
     public ProfileRepository(@Nonnull File dataFolder, @Nonnull Logger logger) {
         this.profilesDir = new File(dataFolder, "profiles");
@@ -37,16 +44,20 @@ public class ProfileRepository {
         if (!profilesDir.exists()) {
             profilesDir.mkdirs();
         }
+        this.ledger = new TreeLedgerStore(profilesDir, logger);
         
         // Configure Gson with pretty printing and custom adapters
         this.gson = new GsonBuilder()
             .setPrettyPrinting()
             .registerTypeAdapter(Instant.class, new InstantTypeAdapter())
+            .registerTypeAdapter(ProfileSkills.class, new ProfileSkillsTypeAdapter())
+            .registerTypeAdapter(PlayerSkillTreeData.class, new PlayerSkillTreeDataTypeAdapter())
             .create();
     }
     
     /**
      * Save a profile to disk.
+     * The file is synced before the skill tree ledger entries it now includes are dropped.
      *
      * @param profile The profile to save
      * @return true if saved successfully, false otherwise
@@ -59,18 +70,27 @@ public class ProfileRepository {
         
         File profileFile = new File(playerDir, profile.getProfileId().toString() + ".json");
         
-        try (FileWriter writer = new FileWriter(profileFile)) {
+        // Read before serializing: a commit in between only raises the saved number, so nothing unsaved is dropped
+        long ledgerSeq = profile.getSkills().getTreeData().getLedgerSeq();
+        try (FileOutputStream out = new FileOutputStream(profileFile);
+             Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+            profile.clearDirty();
             gson.toJson(profile, writer);
-            logger.log(Level.INFO, "Saved profile: " + profile.getProfileName() + " (" + profile.getProfileId() + ")");
-            return true;
+            writer.flush();
+            out.getFD().sync();
         } catch (IOException e) {
             logger.log(Level.SEVERE, "Failed to save profile: " + profile.getProfileId(), e);
             return false;
         }
+        ledger.compact(profile, ledgerSeq);
+        logger.log(Level.INFO, "Saved profile: " + profile.getProfileName() + " (" + profile.getProfileId() + ")");
+        return true;
     }
     
     /**
      * Load a specific profile by ID.
+     * Ledger entries newer than the file are replayed and the ledger is attached, so the caller must keep the
+     * returned instance as the profile's live copy.
      *
      * @param playerUUID The player's UUID
      * @param profileId The profile's UUID
@@ -87,6 +107,7 @@ public class ProfileRepository {
         
         try (FileReader reader = new FileReader(profileFile)) {
             Profile profile = gson.fromJson(reader, Profile.class);
+            ledger.attach(profile);
             logger.log(Level.INFO, "Loaded profile: " + profile.getProfileName() + " (" + profileId + ")");
             return profile;
         } catch (IOException | JsonSyntaxException e) {
@@ -97,6 +118,8 @@ public class ProfileRepository {
     
     /**
      * Load all profiles for a player.
+     * These are read-only copies for listings: the skill tree ledger is neither replayed nor attached, so tree
+     * changes committed since the last save may not show.
      *
      * @param playerUUID The player's UUID
      * @return List of all profiles for the player (empty list if none exist)
@@ -149,6 +172,7 @@ public class ProfileRepository {
         
         try {
             Files.delete(profileFile.toPath());
+            ledger.delete(playerUUID, profileId);
             logger.log(Level.INFO, "Deleted profile: " + profileId);
             return true;
         } catch (IOException e) {
@@ -157,6 +181,13 @@ public class ProfileRepository {
         }
     }
     
+    /**
+     * Finish writing queued skill tree ledger entries; call once no more saves will happen.
+     */
+    public void shutdown() {
+        ledger.shutdown();
+    }
+    
     /**
      * Check if a player has any profiles.
      *
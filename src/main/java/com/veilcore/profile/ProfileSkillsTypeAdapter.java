@@ -0,0 +1,90 @@
+package com.veilcore.profile;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+
+import com.google.gson.JsonDeserializationContext;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonSerializationContext;
+import com.google.gson.JsonSerializer;
+import com.veilcore.skills.ProfileSkills;
+import com.veilcore.skills.Skill;
+import com.veilcore.skills.SkillLevel;
+import com.veilcore.skills.trees.PlayerSkillTreeData;
+
+/**
+ * Gson adapter for ProfileSkills.
+ * Keeps the original map-shaped layout ("skillLevels": {"MINING": {"level": 5, "currentXp": 120}}) so existing
+ * profile files load unchanged and stay readable by older builds. Unknown skills are skipped and missing
+ * ones start at level 1.
+ */
+public class ProfileSkillsTypeAdapter implements JsonSerializer<ProfileSkills>, JsonDeserializer<ProfileSkills> {
+
+    private static final String SKILL_LEVELS = "skillLevels";
+    private static final String TREE_DATA = "treeData";
+    private static final String LEVEL = "level";
+    private static final String CURRENT_XP = "currentXp";
+
+    @Override
+    public JsonElement serialize(ProfileSkills skills, Type type, JsonSerializationContext context) {
+        int[] levels = skills.getLevelsSnapshot();
+        long[] xp = skills.getXpSnapshot();
+
+        JsonObject skillLevels = new JsonObject();
+        for (Skill skill : Skill.values()) {
+            JsonObject entry = new JsonObject();
+            entry.addProperty(LEVEL, levels[skill.ordinal()]);
+            entry.addProperty(CURRENT_XP, xp[skill.ordinal()]);
+            skillLevels.add(skill.name(), entry);
+        }
+
+        JsonObject json = new JsonObject();
+        json.add(SKILL_LEVELS, skillLevels);
+        json.add(TREE_DATA, context.serialize(skills.getTreeData(), PlayerSkillTreeData.class));
+        return json;
+    }
+
+    @Override
+    public ProfileSkills deserialize(JsonElement json, Type type, JsonDeserializationContext context)
+            throws JsonParseException {
+        if (!json.isJsonObject()) {
+            return new ProfileSkills();
+        }
+        JsonObject object = json.getAsJsonObject();
+
+        PlayerSkillTreeData treeData = object.has(TREE_DATA)
+            ? context.deserialize(object.get(TREE_DATA), PlayerSkillTreeData.class)
+            : null;
+        ProfileSkills skills = new ProfileSkills(treeData);
+
+        JsonElement skillLevels = object.get(SKILL_LEVELS);
+        if (skillLevels != null && skillLevels.isJsonObject()) {
+            for (Map.Entry<String, JsonElement> entry : skillLevels.getAsJsonObject().entrySet()) {
+                Skill skill = parseSkill(entry.getKey());
+                if (skill == null || !entry.getValue().isJsonObject()) {
+                    continue;
+                }
+                JsonObject values = entry.getValue().getAsJsonObject();
+                SkillLevel level = skills.getSkillLevel(skill);
+                if (values.has(LEVEL)) {
+                    level.setLevel(values.get(LEVEL).getAsInt());
+                }
+                if (values.has(CURRENT_XP)) {
+                    level.setCurrentXp(values.get(CURRENT_XP).getAsLong());
+                }
+            }
+        }
+        return skills;
+    }
+
+    private static Skill parseSkill(String name) {
+        try {
+            return Skill.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            return Skill.fromId(name);
+        }
+    }
+}
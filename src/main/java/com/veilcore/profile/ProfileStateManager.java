@@ -4,6 +4,8 @@ import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.veilcore.listeners.ManaSyncListener;
+import com.veilcore.listeners.SurvivalNeedsSystem;
 
 import javax.annotation.Nonnull;
 import java.util.ArrayList;
@@ -53,6 +55,8 @@ public class ProfileStateManager {
             // Save stats
             // TODO: Get actual stats from player
             // Example: profile.getStats().setHealth(player.getHealth());
+            ManaSyncListener.savePlayerMana(store, ref, profile.getStats());
+            SurvivalNeedsSystem.saveNeedsToProfile(store, ref, profile);
             
             // Save level and experience
             // TODO: Get actual level/exp from player
@@ -1,5 +1,9 @@
 package com.veilcore.profile;
 
+import java.util.Arrays;
+
+import com.google.gson.annotations.JsonAdapter;
+
 /**
  * Represents player statistics for a profile.
  * Tracks various gameplay metrics including combat, fortune, fishing, and resource stats.
@@ -62,6 +66,14 @@ public class ProfileStats {
     private int kills;
     private int deaths;
     private long playTime;  // in seconds
+    
+    // Skill tree contributions included in the stats above, indexed by TreeStat ordinal; saved by stat name
+    @JsonAdapter(TreeBonusesTypeAdapter.class)
+    private double[] treeBonuses;
+    // Registry version the tree contributions were last reconciled against; not persisted
+    private transient int treeBonusVersion = -1;
+    // TreeStat bits changed since the last client sync; not persisted
+    private transient int pendingStatSync;
 
     // Default Values - Combat
     private int defaultHealth = 100;
@@ -523,6 +535,10 @@ public class ProfileStats {
         this.kills = kills;
     }
     
+    public void incrementKills() {
+        this.kills++;
+    }
+    
     public int getDeaths() {
         return deaths;
     }
@@ -596,6 +612,47 @@ public class ProfileStats {
         return defaultBurstChance;
     }
     
+    public double getDefaultMiningSpeed() {
+        return defaultMiningSpeed;
+    }
+    
+    // Skill tree contributions
+    /**
+     * Get the skill tree contributions currently included in the stats, grown to at least the given size
+     */
+    public double[] getTreeBonuses(int size) {
+        if (treeBonuses == null) {
+            treeBonuses = new double[size];
+        } else if (treeBonuses.length < size) {
+            treeBonuses = Arrays.copyOf(treeBonuses, size);
+        }
+        return treeBonuses;
+    }
+    
+    public int getTreeBonusVersion() {
+        return treeBonusVersion;
+    }
+    
+    public void setTreeBonusVersion(int treeBonusVersion) {
+        this.treeBonusVersion = treeBonusVersion;
+    }
+    
+    /**
+     * Queue stat bits for the next client sync
+     */
+    public void markStatsChanged(int statBits) {
+        this.pendingStatSync |= statBits;
+    }
+    
+    /**
+     * Take and clear the stat bits queued for client sync
+     */
+    public int takeChangedStats() {
+        int changed = pendingStatSync;
+        pendingStatSync = 0;
+        return changed;
+    }
+    
     // Add methods for skill tree node bonuses
     public void addMaxHealth(double amount) {
         this.health += (int) amount;
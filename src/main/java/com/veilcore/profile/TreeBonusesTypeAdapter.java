@@ -0,0 +1,65 @@
+package com.veilcore.profile;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonDeserializationContext;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonSerializationContext;
+import com.google.gson.JsonSerializer;
+import com.veilcore.skills.trees.TreeStat;
+
+/**
+ * Gson adapter for ProfileStats' skill tree contributions.
+ * Saved keyed by TreeStat name ({"HEALTH": 10.0, "MINING_FORTUNE": 2.5}) so adding, removing or reordering
+ * stats never shifts a saved value onto another stat. Names the enum no longer has are dropped on load;
+ * the next reconcile recomputes everything from the trees anyway.
+ * Files written before this adapter hold a plain array by TreeStat ordinal, which is still read.
+ */
+public class TreeBonusesTypeAdapter implements JsonSerializer<double[]>, JsonDeserializer<double[]> {
+
+    @Override
+    public JsonElement serialize(double[] bonuses, Type type, JsonSerializationContext context) {
+        JsonObject json = new JsonObject();
+        for (TreeStat stat : TreeStat.VALUES) {
+            int o = stat.ordinal();
+            if (o < bonuses.length && bonuses[o] != 0.0) {
+                json.addProperty(stat.name(), bonuses[o]);
+            }
+        }
+        return json;
+    }
+
+    @Override
+    public double[] deserialize(JsonElement json, Type type, JsonDeserializationContext context)
+            throws JsonParseException {
+        double[] bonuses = new double[TreeStat.VALUES.length];
+        if (json.isJsonObject()) {
+            for (Map.Entry<String, JsonElement> entry : json.getAsJsonObject().entrySet()) {
+                TreeStat stat = find(entry.getKey());
+                if (stat != null) {
+                    bonuses[stat.ordinal()] = entry.getValue().getAsDouble();
+                }
+            }
+        } else if (json.isJsonArray()) {
+            JsonArray legacy = json.getAsJsonArray();
+            for (int i = 0; i < legacy.size() && i < bonuses.length; i++) {
+                bonuses[i] = legacy.get(i).getAsDouble();
+            }
+        }
+        return bonuses;
+    }
+
+    private static TreeStat find(String name) {
+        for (TreeStat stat : TreeStat.VALUES) {
+            if (stat.name().equals(name)) {
+                return stat;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,296 @@
+package com.veilcore.profile;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.annotation.Nonnull;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.veilcore.skills.trees.PlayerSkillTreeData;
+import com.veilcore.skills.trees.TreeLedgerEntry;
+
+/**
+ * Append-only skill tree ledger per profile, one JSON entry per line.
+ * Storage: plugins/VeilCore/profiles/{playerUUID}/{profileUUID}.ledger, next to the profile file.
+ * Each committed tree transaction is queued as it happens and written by a single writer thread, which appends
+ * everything queued since its last pass and forces each file once per pass. A commit on the world thread
+ * therefore only serializes its entry, and upgrades, resets and token grants still reach the disk without
+ * rewriting the whole profile.
+ * After a full save the entries it includes are dropped ({@link #compact}), so the file only holds what the
+ * profile file doesn't yet, and loading replays just those. Compaction, replay and deletion run on the writer
+ * too, so they always see the entries queued before them.
+ */
+public class TreeLedgerStore {
+
+    private static final String EXTENSION = ".ledger";
+
+    private final File profilesDir;
+    private final Logger logger;
+    private final Gson gson = new Gson();
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "VeilCore-TreeLedger");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Lines waiting for the writer, in commit order; guarded by itself
+    private final List<PendingLine> pending = new ArrayList<>();
+    private boolean writeQueued;
+
+    private static final class PendingLine {
+        final File file;
+        final String line;
+        final long seq;
+
+        PendingLine(File file, String line, long seq) {
+            this.file = file;
+            this.line = line;
+            this.seq = seq;
+        }
+    }
+
+    public TreeLedgerStore(@Nonnull File profilesDir, @Nonnull Logger logger) {
+        this.profilesDir = profilesDir;
+        this.logger = logger;
+    }
+
+    /**
+     * Replay entries the profile file doesn't include yet, then record the profile's future transactions
+     * Only attach the instance the profile manager keeps as the live profile; read-only copies (profile
+     * listings) must not get a sink.
+     *
+     * @param profile A profile just loaded from disk
+     * @return Number of entries replayed
+     */
+    public int attach(@Nonnull Profile profile) {
+        PlayerSkillTreeData treeData = profile.getSkills().getTreeData();
+        int replayed = replay(profile, treeData);
+        if (replayed > 0) {
+            logger.log(Level.INFO, "Replayed " + replayed + " skill tree ledger entries for profile " + profile.getProfileId());
+            profile.markDirty();
+        }
+        treeData.setLedger(entry -> {
+            append(profile, entry);
+            profile.markDirty();
+        });
+        return replayed;
+    }
+
+    /**
+     * Queue one entry for the writer; returns without touching the disk
+     */
+    public void append(@Nonnull Profile profile, @Nonnull TreeLedgerEntry entry) {
+        PendingLine line = new PendingLine(getLedgerFile(profile), gson.toJson(entry) + "\n", entry.getSeq());
+        synchronized (pending) {
+            pending.add(line);
+            if (writeQueued) {
+                return;
+            }
+            writeQueued = true;
+        }
+        submit(this::writePending);
+    }
+
+    /**
+     * Append everything queued so far, forcing each file once
+     */
+    private synchronized void writePending() {
+        List<PendingLine> batch;
+        synchronized (pending) {
+            batch = new ArrayList<>(pending);
+            pending.clear();
+            writeQueued = false;
+        }
+
+        Map<File, List<PendingLine>> byFile = new LinkedHashMap<>();
+        for (PendingLine line : batch) {
+            byFile.computeIfAbsent(line.file, file -> new ArrayList<>()).add(line);
+        }
+        for (Map.Entry<File, List<PendingLine>> lines : byFile.entrySet()) {
+            File file = lines.getKey();
+            StringBuilder data = new StringBuilder();
+            for (PendingLine line : lines.getValue()) {
+                data.append(line.line);
+            }
+            file.getParentFile().mkdirs();
+            ByteBuffer buffer = ByteBuffer.wrap(data.toString().getBytes(StandardCharsets.UTF_8));
+            try (FileChannel channel = FileChannel.open(file.toPath(),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                List<PendingLine> failed = lines.getValue();
+                logger.log(Level.SEVERE, "Failed to append skill tree ledger entries " + failed.get(0).seq + "-"
+                    + failed.get(failed.size() - 1).seq + " to " + file.getPath(), e);
+            }
+        }
+    }
+
+    /**
+     * Drop the entries a full save of the profile already includes, once the entries queued before are written
+     * Call after the profile file was written and synced.
+     *
+     * @param profile The saved profile
+     * @param savedSeq Ledger number of the saved data; entries up to and including it are dropped
+     */
+    public void compact(@Nonnull Profile profile, long savedSeq) {
+        File file = getLedgerFile(profile);
+        submit(() -> compactNow(file, savedSeq));
+    }
+
+    private synchronized void compactNow(File file, long savedSeq) {
+        if (!file.exists()) {
+            return;
+        }
+
+        List<String> kept = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new FileReader(file, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    TreeLedgerEntry entry = gson.fromJson(line, TreeLedgerEntry.class);
+                    if (entry != null && entry.getSeq() > savedSeq) {
+                        kept.add(line);
+                    }
+                } catch (JsonParseException e) {
+                    // A line cut off by a crash mid-write; replay skips it as well
+                }
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to read skill tree ledger for compaction: " + file.getPath(), e);
+            return;
+        }
+
+        try {
+            if (kept.isEmpty()) {
+                Files.deleteIfExists(file.toPath());
+                return;
+            }
+            Path temp = new File(file.getParentFile(), file.getName() + ".tmp").toPath();
+            try (FileChannel channel = FileChannel.open(temp,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer data = ByteBuffer.wrap((String.join("\n", kept) + "\n").getBytes(StandardCharsets.UTF_8));
+                while (data.hasRemaining()) {
+                    channel.write(data);
+                }
+                channel.force(false);
+            }
+            Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to compact skill tree ledger: " + file.getPath(), e);
+        }
+    }
+
+    /**
+     * Replay on the writer, after any entries still queued for the profile have been written
+     */
+    private int replay(Profile profile, PlayerSkillTreeData treeData) {
+        try {
+            return writer.submit(() -> replayNow(profile, treeData)).get();
+        } catch (RejectedExecutionException e) {
+            return replayNow(profile, treeData);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.log(Level.SEVERE, "Failed to replay skill tree ledger for profile " + profile.getProfileId(), e.getCause());
+        }
+        return 0;
+    }
+
+    private synchronized int replayNow(Profile profile, PlayerSkillTreeData treeData) {
+        File file = getLedgerFile(profile);
+        if (!file.exists()) {
+            return 0;
+        }
+
+        int replayed = 0;
+        try (BufferedReader reader = new BufferedReader(new FileReader(file, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    TreeLedgerEntry entry = gson.fromJson(line, TreeLedgerEntry.class);
+                    if (entry != null && treeData.replay(entry)) {
+                        replayed++;
+                    }
+                } catch (JsonParseException e) {
+                    // A line cut off by a crash mid-write; everything before it is intact
+                    logger.log(Level.WARNING, "Skipping unreadable skill tree ledger line in " + file.getName());
+                }
+            }
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Failed to read skill tree ledger: " + file.getPath(), e);
+        }
+        return replayed;
+    }
+
+    /**
+     * Delete a profile's ledger along with the profile
+     */
+    public void delete(@Nonnull UUID playerUUID, @Nonnull UUID profileId) {
+        File file = new File(new File(profilesDir, playerUUID.toString()), profileId + EXTENSION);
+        submit(() -> {
+            synchronized (this) {
+                try {
+                    Files.deleteIfExists(file.toPath());
+                } catch (IOException e) {
+                    logger.log(Level.WARNING, "Failed to delete skill tree ledger for profile " + profileId, e);
+                }
+            }
+        });
+    }
+
+    /**
+     * Write everything still queued and stop the writer; later calls run on the caller's thread
+     */
+    public void shutdown() {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(5, TimeUnit.SECONDS)) {
+                logger.log(Level.WARNING, "Skill tree ledger writer did not finish in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void submit(Runnable task) {
+        try {
+            writer.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.run();
+        }
+    }
+
+    private File getLedgerFile(Profile profile) {
+        return new File(new File(profilesDir, profile.getPlayerUUID().toString()), profile.getProfileId() + EXTENSION);
+    }
+}
@@ -0,0 +1,376 @@
+package com.veilcore.resources;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.veilcore.skills.subskills.mining.OreExtraction;
+import com.veilcore.skills.subskills.woodcutting.TreeFelling;
+
+/**
+ * Ore, wood and crop definitions for the gathering skills, mapped from gathering.json.
+ * The bundled default is copied to plugins/VeilCore/gathering.json on first start so it can be
+ * rebalanced on a running server; ResourceClassifier compiles it into per-block-ID tables.
+ */
+public class GatheringDefinitions {
+
+    public static final String FILE_NAME = "gathering.json";
+    private static final String DEFAULT_RESOURCE = "/veilcore/" + FILE_NAME;
+
+    private static final Gson GSON = new Gson();
+
+    private List<OreDefinition> ores = new ArrayList<>();
+    private List<String> logKeywords = new ArrayList<>();
+    private List<String> leavesKeywords = new ArrayList<>();
+    private List<String> stoneKeywords = new ArrayList<>();
+    private List<WoodDefinition> woods = new ArrayList<>();
+    private List<CropDefinition> crops = new ArrayList<>();
+    private FellingSettings felling = new FellingSettings();
+    private RemovalSettings removal = new RemovalSettings();
+    private MiningSpeedSettings miningSpeed = new MiningSpeedSettings();
+    private DropSettings drops = new DropSettings();
+
+    /**
+     * Ore blocks whose ID starts with a prefix (case-insensitive); the first matching entry wins
+     */
+    public static class OreDefinition {
+        private String prefix;
+        private OreExtraction.OreRarity rarity;
+        @Nullable
+        private Long xp;
+        @Nullable
+        private String drop;
+
+        public String getPrefix() {
+            return prefix;
+        }
+
+        public OreExtraction.OreRarity getRarity() {
+            return rarity;
+        }
+
+        /**
+         * @return XP per ore mined, falling back to the rarity's default
+         */
+        public long getXp() {
+            return xp != null ? xp : rarity.getXpAmount();
+        }
+
+        /**
+         * @return The item dropped by every variant of this ore, defaulting to the prefix itself
+         */
+        public String getDrop() {
+            return drop != null ? drop : prefix;
+        }
+    }
+
+    /**
+     * Wood types of one rarity, matched by substring against log block IDs
+     */
+    public static class WoodDefinition {
+        private TreeFelling.WoodRarity rarity;
+        @Nullable
+        private Double multiplier;
+        private List<String> types = new ArrayList<>();
+
+        public TreeFelling.WoodRarity getRarity() {
+            return rarity;
+        }
+
+        /**
+         * @return XP multiplier for this rarity, falling back to the rarity's default
+         */
+        public double getMultiplier() {
+            return multiplier != null ? multiplier : rarity.getMultiplier();
+        }
+
+        public List<String> getTypes() {
+            return types;
+        }
+    }
+
+    /**
+     * How trees are felled once the scan decides they collapse
+     */
+    public static class FellingSettings {
+        private boolean enabled = true;
+        private boolean includeLeaves = true;
+        private int leafReach = 4;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * @return Whether leaves attached to the felled logs are removed too
+         */
+        public boolean isIncludeLeaves() {
+            return includeLeaves;
+        }
+
+        /**
+         * @return How many leaves away from a log the canopy search reaches
+         */
+        public int getLeafReach() {
+            return leafReach;
+        }
+
+    }
+
+    /**
+     * Vein mining and the shared block removal budget
+     */
+    public static class RemovalSettings {
+        private boolean veinMiningEnabled = true;
+        private int veinRadius = 16;
+        private int blocksPerTick = 64;
+
+        public boolean isVeinMiningEnabled() {
+            return veinMiningEnabled;
+        }
+
+        /**
+         * @return How far from the mined block (per axis) a vein search may reach
+         */
+        public int getVeinRadius() {
+            return veinRadius;
+        }
+
+        /**
+         * @return Blocks removed per world tick across all felled trees and mined veins in that world
+         */
+        public int getBlocksPerTick() {
+            return blocksPerTick;
+        }
+    }
+
+    /**
+     * Which tools the mining speed stat and the mining_speed tree node apply to
+     */
+    public static class MiningSpeedSettings {
+        private List<String> toolKeywords = new ArrayList<>();
+
+        /**
+         * @return Substrings of item IDs (case-insensitive) that count as mining tools
+         */
+        public List<String> getToolKeywords() {
+            return toolKeywords;
+        }
+    }
+
+    /**
+     * How bonus drops (mining fortune) are merged before they become item entities
+     */
+    public static class DropSettings {
+        private double mergeWindowSeconds = 0.5;
+        private int mergeRadius = 4;
+        private int maxEntitiesPerChunk = 16;
+        private boolean deliverToInventory = false;
+
+        /**
+         * @return How long a bonus drop waits for more of the same item before it is spawned
+         */
+        public double getMergeWindowSeconds() {
+            return mergeWindowSeconds;
+        }
+
+        /**
+         * @return Size in blocks of the grid cell within which one player's drops are merged
+         */
+        public int getMergeRadius() {
+            return mergeRadius;
+        }
+
+        /**
+         * @return Live bonus drop entities allowed per chunk before new drops top up existing ones
+         */
+        public int getMaxEntitiesPerChunk() {
+            return maxEntitiesPerChunk;
+        }
+
+        /**
+         * @return Whether bonus drops go straight into the player's inventory, spilling only what doesn't fit
+         */
+        public boolean isDeliverToInventory() {
+            return deliverToInventory;
+        }
+    }
+
+    /**
+     * Crop blocks whose ID starts with a prefix (case-insensitive)
+     */
+    public static class CropDefinition {
+        private String prefix;
+        private long xp;
+
+        public String getPrefix() {
+            return prefix;
+        }
+
+        public long getXp() {
+            return xp;
+        }
+    }
+
+    /**
+     * Load the definitions from the plugin's data folder, writing the bundled default first if missing.
+     * Falls back to the bundled default if the file can't be read or parsed.
+     *
+     * @param dataFolder The plugin data folder
+     * @param logger Logger for load errors
+     * @return The loaded definitions
+     */
+    @Nonnull
+    public static GatheringDefinitions load(@Nonnull File dataFolder, @Nonnull Logger logger) {
+        File file = new File(dataFolder, FILE_NAME);
+
+        if (!file.exists()) {
+            try (InputStream in = GatheringDefinitions.class.getResourceAsStream(DEFAULT_RESOURCE)) {
+                if (in != null) {
+                    dataFolder.mkdirs();
+                    Files.copy(in, file.toPath());
+                }
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "Failed to write default " + FILE_NAME, e);
+            }
+        }
+
+        if (file.exists()) {
+            try (Reader reader = new FileReader(file, StandardCharsets.UTF_8)) {
+                GatheringDefinitions definitions = GSON.fromJson(reader, GatheringDefinitions.class);
+                if (definitions != null) {
+                    return definitions.validated(logger);
+                }
+            } catch (IOException | JsonParseException e) {
+                logger.log(Level.SEVERE, "Failed to load " + file.getPath() + ", using bundled defaults", e);
+            }
+        }
+
+        return loadDefaults(logger);
+    }
+
+    /**
+     * Load the definitions bundled in the plugin jar
+     */
+    @Nonnull
+    public static GatheringDefinitions loadDefaults(@Nonnull Logger logger) {
+        try (InputStream in = GatheringDefinitions.class.getResourceAsStream(DEFAULT_RESOURCE)) {
+            if (in != null) {
+                GatheringDefinitions definitions = GSON.fromJson(new InputStreamReader(in, StandardCharsets.UTF_8), GatheringDefinitions.class);
+                if (definitions != null) {
+                    return definitions.validated(logger);
+                }
+            }
+        } catch (IOException | JsonParseException e) {
+            logger.log(Level.SEVERE, "Failed to load bundled " + FILE_NAME, e);
+        }
+        return new GatheringDefinitions();
+    }
+
+    /**
+     * Drop entries with missing fields (Gson leaves unknown enum names as null)
+     */
+    private GatheringDefinitions validated(Logger logger) {
+        if (ores == null) ores = new ArrayList<>();
+        if (logKeywords == null) logKeywords = new ArrayList<>();
+        if (leavesKeywords == null) leavesKeywords = new ArrayList<>();
+        if (woods == null) woods = new ArrayList<>();
+        if (crops == null) crops = new ArrayList<>();
+        if (felling == null) felling = new FellingSettings();
+        if (removal == null) removal = new RemovalSettings();
+        if (drops == null) drops = new DropSettings();
+        if (stoneKeywords == null) stoneKeywords = new ArrayList<>();
+        if (miningSpeed == null) miningSpeed = new MiningSpeedSettings();
+        if (miningSpeed.toolKeywords == null) miningSpeed.toolKeywords = new ArrayList<>();
+        if (removal.blocksPerTick < 1) {
+            logger.log(Level.WARNING, "removal.blocksPerTick must be at least 1 in " + FILE_NAME + ", using 1");
+            removal.blocksPerTick = 1;
+        }
+        felling.leafReach = Math.max(0, felling.leafReach);
+        removal.veinRadius = Math.max(1, removal.veinRadius);
+        drops.mergeWindowSeconds = Math.max(0, drops.mergeWindowSeconds);
+        drops.mergeRadius = Math.max(1, drops.mergeRadius);
+        drops.maxEntitiesPerChunk = Math.max(1, drops.maxEntitiesPerChunk);
+
+        ores.removeIf(ore -> {
+            boolean invalid = ore == null || ore.prefix == null || ore.rarity == null;
+            if (invalid) {
+                logger.log(Level.WARNING, "Skipping ore definition without prefix or valid rarity in " + FILE_NAME);
+            }
+            return invalid;
+        });
+        woods.removeIf(wood -> {
+            boolean invalid = wood == null || wood.rarity == null || wood.types == null;
+            if (invalid) {
+                logger.log(Level.WARNING, "Skipping wood definition without valid rarity or types in " + FILE_NAME);
+            }
+            return invalid;
+        });
+        crops.removeIf(crop -> {
+            boolean invalid = crop == null || crop.prefix == null;
+            if (invalid) {
+                logger.log(Level.WARNING, "Skipping crop definition without prefix in " + FILE_NAME);
+            }
+            return invalid;
+        });
+        logKeywords.removeIf(keyword -> keyword == null || keyword.isEmpty());
+        leavesKeywords.removeIf(keyword -> keyword == null || keyword.isEmpty());
+        stoneKeywords.removeIf(keyword -> keyword == null || keyword.isEmpty());
+        miningSpeed.toolKeywords.removeIf(keyword -> keyword == null || keyword.isEmpty());
+        return this;
+    }
+
+    public List<OreDefinition> getOres() {
+        return ores;
+    }
+
+    public List<String> getLogKeywords() {
+        return logKeywords;
+    }
+
+    public List<String> getLeavesKeywords() {
+        return leavesKeywords;
+    }
+
+    public List<String> getStoneKeywords() {
+        return stoneKeywords;
+    }
+
+    public List<WoodDefinition> getWoods() {
+        return woods;
+    }
+
+    public List<CropDefinition> getCrops() {
+        return crops;
+    }
+
+    public FellingSettings getFelling() {
+        return felling;
+    }
+
+    public RemovalSettings getRemoval() {
+        return removal;
+    }
+
+    public MiningSpeedSettings getMiningSpeed() {
+        return miningSpeed;
+    }
+
+    public DropSettings getDrops() {
+        return drops;
+    }
+}
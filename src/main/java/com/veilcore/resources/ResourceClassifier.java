@@ -0,0 +1,121 @@
+package com.veilcore.resources;
+
+import java.io.File;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.hypixel.hytale.assetstore.event.LoadedAssetsEvent;
+import com.hypixel.hytale.assetstore.map.BlockTypeAssetMap;
+import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
+import com.veilcore.skills.subskills.mining.OreExtraction;
+import com.veilcore.skills.subskills.woodcutting.TreeFelling;
+
+/**
+ * Classifies blocks for the gathering skills by integer block ID
+ * The definitions in gathering.json are compiled against the block asset map into a ResourceSnapshot,
+ * which is published through an AtomicReference and replaced whole when either side reloads.
+ * Classifying a block is then a bounds check and an array load with no locking.
+ */
+public class ResourceClassifier {
+
+    private final AtomicReference<ResourceSnapshot> snapshot = new AtomicReference<>(ResourceSnapshot.EMPTY);
+    private final File dataFolder;
+    private final Logger logger;
+
+    public ResourceClassifier(@Nonnull File dataFolder, @Nonnull Logger logger) {
+        this.dataFolder = dataFolder;
+        this.logger = logger;
+    }
+
+    /**
+     * Re-read gathering.json and recompile it against the current block asset map
+     * @return The new snapshot
+     */
+    @Nonnull
+    public synchronized ResourceSnapshot reload() {
+        GatheringDefinitions definitions = GatheringDefinitions.load(dataFolder, logger);
+        ResourceSnapshot compiled = ResourceSnapshot.compile(BlockType.getAssetMap(), definitions);
+        snapshot.set(compiled);
+        return compiled;
+    }
+
+    /**
+     * Recompile the current definitions against a block asset map
+     * @param assetMap The block type asset map
+     */
+    public synchronized void rebuild(@Nonnull BlockTypeAssetMap<String, BlockType> assetMap) {
+        snapshot.set(ResourceSnapshot.compile(assetMap, snapshot.get().getDefinitions()));
+    }
+
+    /**
+     * Asset reload hook, registered for LoadedAssetsEvent on BlockType
+     */
+    public void onBlockTypesChanged(@Nonnull LoadedAssetsEvent<String, BlockType, BlockTypeAssetMap<String, BlockType>> event) {
+        rebuild(event.getAssetMap());
+    }
+
+    /**
+     * The current snapshot; hold on to it when classifying many blocks in one pass
+     */
+    @Nonnull
+    public ResourceSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * Resolve the integer ID of a block type
+     * @return The block ID, or Integer.MIN_VALUE if unknown
+     */
+    public int getBlockId(@Nonnull BlockType blockType) {
+        return BlockType.getAssetMap().getIndex(blockType.getId());
+    }
+
+    @Nullable
+    public OreExtraction.OreRarity getOreRarity(int blockId) {
+        return snapshot.get().getOreRarity(blockId);
+    }
+
+    public long getOreXp(int blockId) {
+        return snapshot.get().getOreXp(blockId);
+    }
+
+    @Nullable
+    public String getOreDropItem(int blockId) {
+        return snapshot.get().getOreDropItem(blockId);
+    }
+
+    @Nullable
+    public TreeFelling.WoodRarity getWoodRarity(int blockId) {
+        return snapshot.get().getWoodRarity(blockId);
+    }
+
+    public double getWoodMultiplier(int blockId) {
+        return snapshot.get().getWoodMultiplier(blockId);
+    }
+
+    public long getCropXp(int blockId) {
+        return snapshot.get().getCropXp(blockId);
+    }
+
+    public boolean isLog(int blockId) {
+        return snapshot.get().isLog(blockId);
+    }
+
+    public boolean isLeaves(int blockId) {
+        return snapshot.get().isLeaves(blockId);
+    }
+
+    public boolean isCrop(int blockId) {
+        return snapshot.get().isCrop(blockId);
+    }
+
+    /**
+     * @return Number of block IDs covered by the current snapshot
+     */
+    public int size() {
+        return snapshot.get().size();
+    }
+}
@@ -0,0 +1,306 @@
+package com.veilcore.resources;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.IntFunction;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.hypixel.hytale.assetstore.map.BlockTypeAssetMap;
+import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
+import com.veilcore.skills.subskills.mining.OreExtraction;
+import com.veilcore.skills.subskills.woodcutting.TreeFelling;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntLists;
+
+/**
+ * Immutable, block-ID-indexed view of the gathering definitions.
+ * Compiled once from the block asset map and GatheringDefinitions; a reload builds a new snapshot
+ * instead of mutating this one, so a reader that holds a snapshot always sees consistent tables.
+ */
+public final class ResourceSnapshot {
+
+    static final byte FLAG_LOG = 1;
+    static final byte FLAG_LEAVES = 1 << 1;
+    static final byte FLAG_CROP = 1 << 2;
+    static final byte FLAG_STONE = 1 << 3;
+
+    static final ResourceSnapshot EMPTY = new ResourceSnapshot(
+        new GatheringDefinitions(),
+        new byte[0],
+        new OreExtraction.OreRarity[0],
+        new int[0],
+        new long[0],
+        new String[0],
+        new TreeFelling.WoodRarity[0],
+        new double[0],
+        new long[0],
+        new String[0],
+        IntLists.emptyList()
+    );
+
+    private final GatheringDefinitions definitions;
+    private final byte[] flags;
+    private final OreExtraction.OreRarity[] oreRarities;
+    private final int[] oreGroups;
+    private final long[] oreXp;
+    private final String[] dropItems;
+    private final TreeFelling.WoodRarity[] woodRarities;
+    private final double[] woodMultipliers;
+    private final long[] cropXp;
+    private final String[] miningToolKeywords;
+    private final IntList oreBlockIds;
+
+    private ResourceSnapshot(GatheringDefinitions definitions, byte[] flags, OreExtraction.OreRarity[] oreRarities, int[] oreGroups, long[] oreXp,
+                             String[] dropItems, TreeFelling.WoodRarity[] woodRarities, double[] woodMultipliers, long[] cropXp,
+                             String[] miningToolKeywords, IntList oreBlockIds) {
+        this.definitions = definitions;
+        this.flags = flags;
+        this.oreRarities = oreRarities;
+        this.oreGroups = oreGroups;
+        this.oreXp = oreXp;
+        this.dropItems = dropItems;
+        this.woodRarities = woodRarities;
+        this.woodMultipliers = woodMultipliers;
+        this.cropXp = cropXp;
+        this.miningToolKeywords = miningToolKeywords;
+        this.oreBlockIds = oreBlockIds;
+    }
+
+    /**
+     * Compile definitions against every block type in an asset map
+     * @param assetMap The block type asset map
+     * @param definitions The gathering definitions
+     * @return A new snapshot covering every block ID in the map
+     */
+    @Nonnull
+    static ResourceSnapshot compile(@Nonnull BlockTypeAssetMap<String, BlockType> assetMap, @Nonnull GatheringDefinitions definitions) {
+        int size = assetMap.getNextIndex();
+        byte[] flags = new byte[size];
+        OreExtraction.OreRarity[] oreRarities = new OreExtraction.OreRarity[size];
+        int[] oreGroups = new int[size];
+        Arrays.fill(oreGroups, -1);
+        long[] oreXp = new long[size];
+        String[] dropItems = new String[size];
+        TreeFelling.WoodRarity[] woodRarities = new TreeFelling.WoodRarity[size];
+        double[] woodMultipliers = new double[size];
+        long[] cropXp = new long[size];
+        IntArrayList oreBlockIds = new IntArrayList();
+
+        // Lower-case the match keys once instead of per block
+        List<GatheringDefinitions.OreDefinition> ores = definitions.getOres();
+        String[] orePrefixes = lowerPrefixes(ores.size(), i -> ores.get(i).getPrefix());
+        List<GatheringDefinitions.CropDefinition> crops = definitions.getCrops();
+        String[] cropPrefixes = lowerPrefixes(crops.size(), i -> crops.get(i).getPrefix());
+        String[] logKeywords = lowerPrefixes(definitions.getLogKeywords().size(), definitions.getLogKeywords()::get);
+        String[] leavesKeywords = lowerPrefixes(definitions.getLeavesKeywords().size(), definitions.getLeavesKeywords()::get);
+        String[] stoneKeywords = lowerPrefixes(definitions.getStoneKeywords().size(), definitions.getStoneKeywords()::get);
+        List<String> tools = definitions.getMiningSpeed().getToolKeywords();
+        String[] toolKeywords = lowerPrefixes(tools.size(), tools::get);
+
+        for (int blockId = 0; blockId < size; blockId++) {
+            BlockType blockType = assetMap.getAsset(blockId);
+            if (blockType == null || blockType.getId() == null) {
+                continue;
+            }
+            String key = blockType.getId().toLowerCase(Locale.ROOT);
+
+            for (int i = 0; i < orePrefixes.length; i++) {
+                if (key.startsWith(orePrefixes[i])) {
+                    GatheringDefinitions.OreDefinition ore = ores.get(i);
+                    oreRarities[blockId] = ore.getRarity();
+                    oreGroups[blockId] = i;
+                    oreXp[blockId] = ore.getXp();
+                    dropItems[blockId] = ore.getDrop();
+                    oreBlockIds.add(blockId);
+                    break;
+                }
+            }
+
+            if (containsAny(key, logKeywords)) {
+                flags[blockId] |= FLAG_LOG;
+                woodRarities[blockId] = TreeFelling.WoodRarity.COMMON;
+                woodMultipliers[blockId] = TreeFelling.WoodRarity.COMMON.getMultiplier();
+                for (GatheringDefinitions.WoodDefinition wood : definitions.getWoods()) {
+                    if (containsAnyType(key, wood.getTypes())) {
+                        woodRarities[blockId] = wood.getRarity();
+                        woodMultipliers[blockId] = wood.getMultiplier();
+                        break;
+                    }
+                }
+            }
+            if (containsAny(key, leavesKeywords)) {
+                flags[blockId] |= FLAG_LEAVES;
+            }
+            if (containsAny(key, stoneKeywords)) {
+                flags[blockId] |= FLAG_STONE;
+            }
+
+            for (int i = 0; i < cropPrefixes.length; i++) {
+                if (key.startsWith(cropPrefixes[i])) {
+                    flags[blockId] |= FLAG_CROP;
+                    cropXp[blockId] = crops.get(i).getXp();
+                    break;
+                }
+            }
+        }
+
+        return new ResourceSnapshot(definitions, flags, oreRarities, oreGroups, oreXp, dropItems, woodRarities, woodMultipliers, cropXp, toolKeywords,
+            IntLists.unmodifiable(oreBlockIds));
+    }
+
+    /**
+     * Build a snapshot that only classifies logs and leaves, for benchmarks that run without the block asset map
+     * @param blockCount Number of block IDs covered
+     * @param logIds Block IDs that are logs
+     * @param leavesIds Block IDs that are leaves
+     */
+    @Nonnull
+    public static ResourceSnapshot ofTrees(int blockCount, @Nonnull int[] logIds, @Nonnull int[] leavesIds) {
+        byte[] flags = new byte[blockCount];
+        TreeFelling.WoodRarity[] woodRarities = new TreeFelling.WoodRarity[blockCount];
+        double[] woodMultipliers = new double[blockCount];
+        for (int blockId : logIds) {
+            flags[blockId] |= FLAG_LOG;
+            woodRarities[blockId] = TreeFelling.WoodRarity.COMMON;
+            woodMultipliers[blockId] = TreeFelling.WoodRarity.COMMON.getMultiplier();
+        }
+        for (int blockId : leavesIds) {
+            flags[blockId] |= FLAG_LEAVES;
+        }
+        int[] oreGroups = new int[blockCount];
+        Arrays.fill(oreGroups, -1);
+        return new ResourceSnapshot(new GatheringDefinitions(), flags, new OreExtraction.OreRarity[blockCount], oreGroups, new long[blockCount],
+            new String[blockCount], woodRarities, woodMultipliers, new long[blockCount], new String[0], IntLists.emptyList());
+    }
+
+    private static String[] lowerPrefixes(int count, IntFunction<String> source) {
+        String[] result = new String[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = source.apply(i).toLowerCase(Locale.ROOT);
+        }
+        return result;
+    }
+
+    private static boolean containsAny(String key, String[] keywords) {
+        for (String keyword : keywords) {
+            if (key.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsAnyType(String key, List<String> types) {
+        for (String type : types) {
+            if (type != null && key.contains(type.toLowerCase(Locale.ROOT))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Nonnull
+    public GatheringDefinitions getDefinitions() {
+        return definitions;
+    }
+
+    /**
+     * @return Every block ID that is a defined ore, for palette checks
+     */
+    @Nonnull
+    public IntList getOreBlockIds() {
+        return oreBlockIds;
+    }
+
+    /**
+     * @return The ore rarity of the block, or null if it is not a defined ore
+     */
+    @Nullable
+    public OreExtraction.OreRarity getOreRarity(int blockId) {
+        return blockId >= 0 && blockId < oreRarities.length ? oreRarities[blockId] : null;
+    }
+
+    /**
+     * Ore blocks in the same group come from the same ore definition (e.g. Ore_Iron_Stone and Ore_Iron_Slate)
+     * @return The ore group of the block, or -1 if it is not a defined ore
+     */
+    public int getOreGroup(int blockId) {
+        return blockId >= 0 && blockId < oreGroups.length ? oreGroups[blockId] : -1;
+    }
+
+    /**
+     * @return XP for mining the block, or 0 if it is not a defined ore
+     */
+    public long getOreXp(int blockId) {
+        return blockId >= 0 && blockId < oreXp.length ? oreXp[blockId] : 0;
+    }
+
+    /**
+     * @return The item an ore block drops, or null if it is not a defined ore
+     */
+    @Nullable
+    public String getOreDropItem(int blockId) {
+        return blockId >= 0 && blockId < dropItems.length ? dropItems[blockId] : null;
+    }
+
+    /**
+     * @return The wood rarity of a log block, or null if it is not a log
+     */
+    @Nullable
+    public TreeFelling.WoodRarity getWoodRarity(int blockId) {
+        return blockId >= 0 && blockId < woodRarities.length ? woodRarities[blockId] : null;
+    }
+
+    /**
+     * @return The XP multiplier of a log block, or 0 if it is not a log
+     */
+    public double getWoodMultiplier(int blockId) {
+        return blockId >= 0 && blockId < woodMultipliers.length ? woodMultipliers[blockId] : 0.0;
+    }
+
+    /**
+     * @return XP for harvesting the block, or 0 if it is not a defined crop
+     */
+    public long getCropXp(int blockId) {
+        return blockId >= 0 && blockId < cropXp.length ? cropXp[blockId] : 0;
+    }
+
+    public boolean isLog(int blockId) {
+        return blockId >= 0 && blockId < flags.length && (flags[blockId] & FLAG_LOG) != 0;
+    }
+
+    public boolean isLeaves(int blockId) {
+        return blockId >= 0 && blockId < flags.length && (flags[blockId] & FLAG_LEAVES) != 0;
+    }
+
+    public boolean isCrop(int blockId) {
+        return blockId >= 0 && blockId < flags.length && (flags[blockId] & FLAG_CROP) != 0;
+    }
+
+    /**
+     * @return Whether the block is stone or an ore, i.e. sped up by mining speed
+     */
+    public boolean isMineable(int blockId) {
+        return blockId >= 0 && blockId < flags.length && ((flags[blockId] & FLAG_STONE) != 0 || oreRarities[blockId] != null);
+    }
+
+    /**
+     * Check an item ID against the mining tool keywords
+     * Lower-cases the ID, so callers on hot paths should cache the answer per item.
+     */
+    public boolean isMiningTool(@Nullable String itemId) {
+        return itemId != null && containsAny(itemId.toLowerCase(Locale.ROOT), miningToolKeywords);
+    }
+
+    /**
+     * @return Number of block IDs covered by this snapshot
+     */
+    public int size() {
+        return flags.length;
+    }
+}
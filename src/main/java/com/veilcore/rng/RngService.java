@@ -0,0 +1,198 @@
+package com.veilcore.rng;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Random source for gameplay rolls (crits, fortune, loot)
+ * Every world has its own root stream and every thread gets a stream split from it,
+ * so parallel systems never contend on a shared seed.
+ * When a seed is configured the world roots are derived from it, which makes runs
+ * reproducible for testing and replays.
+ */
+public class RngService {
+
+    /** System property used to pin the seed, e.g. -Dveilcore.rng.seed=1234 */
+    public static final String SEED_PROPERTY = "veilcore.rng.seed";
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final Map<String, WorldStreams> worldStreams = new ConcurrentHashMap<>();
+    private final Map<RollType, RollCounter> counters = new EnumMap<>(RollType.class);
+    private volatile Long seed;
+
+    public RngService(@Nullable Long seed) {
+        this.seed = seed;
+        for (RollType type : RollType.values()) {
+            counters.put(type, new RollCounter());
+        }
+    }
+
+    /**
+     * Create a service seeded from the {@value #SEED_PROPERTY} system property, if set
+     * @return A new RNG service
+     */
+    public static RngService fromSystemProperties() {
+        String value = System.getProperty(SEED_PROPERTY);
+        if (value == null || value.isBlank()) {
+            return new RngService(null);
+        }
+        try {
+            return new RngService(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            return new RngService((long) value.hashCode());
+        }
+    }
+
+    /**
+     * Get the random stream for the calling thread in a world
+     * The returned stream must not be shared with other threads
+     * @param worldName The world the roll happens in
+     * @return The thread-confined stream
+     */
+    @Nonnull
+    public SplittableRandom stream(@Nonnull String worldName) {
+        return worldStreams.computeIfAbsent(worldName, this::createWorldStreams).current();
+    }
+
+    /**
+     * Roll a percentage chance and record the outcome
+     * @param worldName The world the roll happens in
+     * @param type The mechanic rolling
+     * @param chancePercent Success chance in percent (0-100)
+     * @return true if the roll succeeded
+     */
+    public boolean roll(@Nonnull String worldName, @Nonnull RollType type, double chancePercent) {
+        boolean success = chancePercent > 0 && stream(worldName).nextDouble() * 100.0 < chancePercent;
+        counters.get(type).record(Math.min(Math.max(chancePercent, 0.0), 100.0), success);
+        return success;
+    }
+
+    /**
+     * Draw a uniform double in [0, 1) without recording an outcome
+     * @param worldName The world the roll happens in
+     * @return The drawn value
+     */
+    public double nextDouble(@Nonnull String worldName) {
+        return stream(worldName).nextDouble();
+    }
+
+    /**
+     * Reset every world stream to a new seed (null for unseeded)
+     * Threads pick up fresh streams on their next roll.
+     * @param newSeed The seed to use
+     */
+    public void reseed(@Nullable Long newSeed) {
+        this.seed = newSeed;
+        worldStreams.clear();
+    }
+
+    @Nullable
+    public Long getSeed() {
+        return seed;
+    }
+
+    @Nonnull
+    public RollCounter getCounter(@Nonnull RollType type) {
+        return counters.get(type);
+    }
+
+    /**
+     * Reset all outcome counters
+     */
+    public void resetCounters() {
+        for (RollCounter counter : counters.values()) {
+            counter.reset();
+        }
+    }
+
+    private WorldStreams createWorldStreams(String worldName) {
+        Long currentSeed = seed;
+        if (currentSeed == null) {
+            return new WorldStreams(new SplittableRandom());
+        }
+        // Mix the world name into the seed so each world gets an independent sequence
+        return new WorldStreams(new SplittableRandom(currentSeed ^ (worldName.hashCode() * GOLDEN_GAMMA)));
+    }
+
+    /**
+     * Root stream of a world plus the per-thread streams split from it
+     */
+    private static final class WorldStreams {
+        private final SplittableRandom root;
+        private final ThreadLocal<SplittableRandom> perThread;
+
+        private WorldStreams(SplittableRandom root) {
+            this.root = root;
+            this.perThread = ThreadLocal.withInitial(this::split);
+        }
+
+        private synchronized SplittableRandom split() {
+            return root.split();
+        }
+
+        private SplittableRandom current() {
+            return perThread.get();
+        }
+    }
+
+    /**
+     * Outcome counters for a single mechanic
+     * Tracks the expected number of successes alongside the observed count
+     * so a skewed drop rate shows up without logging every roll.
+     */
+    public static final class RollCounter {
+        private final LongAdder rolls = new LongAdder();
+        private final LongAdder successes = new LongAdder();
+        private final DoubleAdder expectedSuccesses = new DoubleAdder();
+
+        private void record(double chancePercent, boolean success) {
+            rolls.increment();
+            expectedSuccesses.add(chancePercent / 100.0);
+            if (success) {
+                successes.increment();
+            }
+        }
+
+        private void reset() {
+            rolls.reset();
+            successes.reset();
+            expectedSuccesses.reset();
+        }
+
+        public long getRolls() {
+            return rolls.sum();
+        }
+
+        public long getSuccesses() {
+            return successes.sum();
+        }
+
+        public double getExpectedSuccesses() {
+            return expectedSuccesses.sum();
+        }
+
+        /**
+         * @return Observed success rate in percent
+         */
+        public double getObservedRate() {
+            long total = rolls.sum();
+            return total == 0 ? 0.0 : successes.sum() * 100.0 / total;
+        }
+
+        /**
+         * @return Average requested chance in percent
+         */
+        public double getExpectedRate() {
+            long total = rolls.sum();
+            return total == 0 ? 0.0 : expectedSuccesses.sum() * 100.0 / total;
+        }
+    }
+}
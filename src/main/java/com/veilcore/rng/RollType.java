@@ -0,0 +1,26 @@
+package com.veilcore.rng;
+
+/**
+ * Mechanics that roll against the RNG service
+ * Each type gets its own outcome counters so drop rates can be audited separately
+ */
+public enum RollType {
+    CRITICAL_HIT("crit", "Critical Hit"),
+    MINING_FORTUNE("fortune", "Mining Fortune");
+
+    private final String id;
+    private final String displayName;
+
+    RollType(String id, String displayName) {
+        this.id = id;
+        this.displayName = displayName;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
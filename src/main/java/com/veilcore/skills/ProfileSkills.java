@@ -1,6 +1,7 @@
 package com.veilcore.skills;
 
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.Map;
 
 import com.veilcore.skills.tokens.SkillToken.TokenTier;
@@ -9,21 +10,30 @@ import com.veilcore.skills.trees.PlayerSkillTreeData;
 /**
  * Manages all skills for a player's profile
  * Tracks skill levels, XP, and skill tree progress
+ * Levels and XP live in arrays indexed by Skill.ordinal(); the SkillLevel objects handed out are views
+ * over those arrays created once, so reads never allocate. Saved through ProfileSkillsTypeAdapter.
  */
 public class ProfileSkills {
-    // Map: Skill -> SkillLevel
-    private Map<Skill, SkillLevel> skillLevels;
+    private static final Skill[] SKILLS = Skill.values();
+
+    private final int[] levels = new int[SKILLS.length];
+    private final long[] xp = new long[SKILLS.length];
+    private final SkillLevel[] views = new SkillLevel[SKILLS.length];
     
     // Player's skill tree progress
     private PlayerSkillTreeData treeData;
 
     public ProfileSkills() {
-        this.skillLevels = new HashMap<>();
-        this.treeData = new PlayerSkillTreeData();
+        this(new PlayerSkillTreeData());
+    }
+
+    public ProfileSkills(PlayerSkillTreeData treeData) {
+        this.treeData = treeData != null ? treeData : new PlayerSkillTreeData();
         
         // Initialize all skills at level 1
-        for (Skill skill : Skill.values()) {
-            skillLevels.put(skill, new SkillLevel());
+        Arrays.fill(levels, 1);
+        for (Skill skill : SKILLS) {
+            views[skill.ordinal()] = new SkillLevel(levels, xp, skill.ordinal(), skill.getXpCurve());
         }
     }
 
@@ -31,21 +41,21 @@ public class ProfileSkills {
      * Get the level data for a specific skill
      */
     public SkillLevel getSkillLevel(Skill skill) {
-        return skillLevels.computeIfAbsent(skill, k -> new SkillLevel());
+        return views[skill.ordinal()];
     }
 
     /**
      * Get the current level for a skill
      */
     public int getLevel(Skill skill) {
-        return getSkillLevel(skill).getLevel();
+        return levels[skill.ordinal()];
     }
 
     /**
      * Get current XP for a skill
      */
     public long getXp(Skill skill) {
-        return getSkillLevel(skill).getCurrentXp();
+        return xp[skill.ordinal()];
     }
 
     /**
@@ -69,22 +79,32 @@ public class ProfileSkills {
      * Follows MMO pattern: Basic tokens early, Advanced mid-game, Master late-game
      */
     private void awardTokensForLevels(Skill skill, int fromLevel, int toLevel) {
-        for (int level = fromLevel + 1; level <= toLevel; level++) {
-            if (level % 5 == 0) { // Award tokens every 5 levels
-                if (level >= 70) {
-                    // Master tokens at levels 70+
-                    treeData.addTokens(skill.getId(), TokenTier.MASTER, 1);
-                } else if (level >= 30) {
-                    // Advanced tokens at levels 30-69
-                    treeData.addTokens(skill.getId(), TokenTier.ADVANCED, 1);
-                } else {
-                    // Basic tokens at levels 5-29
-                    treeData.addTokens(skill.getId(), TokenTier.BASIC, 1);
-                }
-            }
+        // Award tokens every 5 levels, counted per tier so large grants don't walk every level
+        // Basic tokens at levels 5-29
+        int basic = countMilestones(fromLevel, Math.min(toLevel, 29));
+        // Advanced tokens at levels 30-69
+        int advanced = countMilestones(Math.max(fromLevel, 29), Math.min(toLevel, 69));
+        // Master tokens at levels 70+
+        int master = countMilestones(Math.max(fromLevel, 69), toLevel);
+
+        if (basic > 0) {
+            treeData.addTokens(skill.getId(), TokenTier.BASIC, basic);
+        }
+        if (advanced > 0) {
+            treeData.addTokens(skill.getId(), TokenTier.ADVANCED, advanced);
+        }
+        if (master > 0) {
+            treeData.addTokens(skill.getId(), TokenTier.MASTER, master);
         }
     }
 
+    /**
+     * Count the multiples of 5 in (fromLevel, toLevel]
+     */
+    private static int countMilestones(int fromLevel, int toLevel) {
+        return toLevel > fromLevel ? toLevel / 5 - fromLevel / 5 : 0;
+    }
+
     /**
      * Set skill level directly (admin/debug)
      */
@@ -110,7 +130,11 @@ public class ProfileSkills {
      * Get all skill levels
      */
     public Map<Skill, SkillLevel> getAllSkillLevels() {
-        return new HashMap<>(skillLevels);
+        Map<Skill, SkillLevel> all = new EnumMap<>(Skill.class);
+        for (Skill skill : SKILLS) {
+            all.put(skill, views[skill.ordinal()]);
+        }
+        return all;
     }
 
     /**
@@ -118,12 +142,26 @@ public class ProfileSkills {
      */
     public int getTotalLevel() {
         int total = 0;
-        for (SkillLevel level : skillLevels.values()) {
-            total += level.getLevel();
+        for (int level : levels) {
+            total += level;
         }
         return total;
     }
 
+    /**
+     * Copy of every skill's level, indexed by Skill.ordinal(); safe to hand to another thread
+     */
+    public int[] getLevelsSnapshot() {
+        return levels.clone();
+    }
+
+    /**
+     * Copy of every skill's current XP, indexed by Skill.ordinal(); safe to hand to another thread
+     */
+    public long[] getXpSnapshot() {
+        return xp.clone();
+    }
+
     /**
      * Check if a skill is at max level
      */
@@ -2,7 +2,7 @@ package com.veilcore.skills;
 
 /**
  * Enum representing all available skills in VeilCore
- * Each skill has a unique ID, display name, color, and symbol
+ * Each skill has a unique ID, display name, color, symbol, and XP curve
  */
 public enum Skill {
     MINING("mining", "Mining", "#FFD700", "⛏"),
@@ -15,12 +15,18 @@ public enum Skill {
     private final String displayName;
     private final String color; // Hex color code
     private final String symbol;
+    private final XpCurve xpCurve;
 
     Skill(String id, String displayName, String color, String symbol) {
+        this(id, displayName, color, symbol, XpCurve.DEFAULT);
+    }
+
+    Skill(String id, String displayName, String color, String symbol, XpCurve xpCurve) {
         this.id = id;
         this.displayName = displayName;
         this.color = color;
         this.symbol = symbol;
+        this.xpCurve = xpCurve;
     }
 
     public String getId() {
@@ -39,6 +45,10 @@ public enum Skill {
         return symbol;
     }
 
+    public XpCurve getXpCurve() {
+        return xpCurve;
+    }
+
     /**
      * Get a skill by its ID
      * @param id The skill ID
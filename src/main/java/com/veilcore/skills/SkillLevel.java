@@ -2,37 +2,61 @@ package com.veilcore.skills;
 
 /**
  * Tracks a player's progress in a specific skill
- * Handles level (1-100), current XP, and XP-to-next-level calculations
+ * Handles level, current XP, and XP-to-next-level calculations against the skill's XpCurve
+ * Inside a ProfileSkills this is a view over one slot of the profile's level and XP arrays, so reads and
+ * writes go straight to the shared storage; a standalone instance owns a single slot.
  */
 public class SkillLevel {
-    private int level;
-    private long currentXp;
-    private static final int MAX_LEVEL = 100;
+    private final int[] levels;
+    private final long[] xp;
+    private final int index;
+    private final XpCurve curve;
 
     public SkillLevel() {
-        this.level = 1;
-        this.currentXp = 0;
+        this(XpCurve.DEFAULT);
     }
 
     public SkillLevel(int level, long currentXp) {
-        this.level = Math.max(1, Math.min(level, MAX_LEVEL));
-        this.currentXp = Math.max(0, currentXp);
+        this(XpCurve.DEFAULT);
+        setLevel(level);
+        setCurrentXp(currentXp);
+    }
+
+    public SkillLevel(XpCurve curve) {
+        this(new int[] { 1 }, new long[1], 0, curve);
+    }
+
+    /**
+     * View over slot index of a profile's level and XP arrays
+     */
+    SkillLevel(int[] levels, long[] xp, int index, XpCurve curve) {
+        this.levels = levels;
+        this.xp = xp;
+        this.index = index;
+        this.curve = curve;
+    }
+
+    /**
+     * @return The XP curve this skill levels on
+     */
+    public XpCurve getCurve() {
+        return curve;
     }
 
     public int getLevel() {
-        return level;
+        return levels[index];
     }
 
     public void setLevel(int level) {
-        this.level = Math.max(1, Math.min(level, MAX_LEVEL));
+        levels[index] = curve.clampLevel(level);
     }
 
     public long getCurrentXp() {
-        return currentXp;
+        return xp[index];
     }
 
     public void setCurrentXp(long currentXp) {
-        this.currentXp = Math.max(0, currentXp);
+        xp[index] = Math.max(0, currentXp);
     }
 
     /**
@@ -41,52 +65,45 @@ public class SkillLevel {
      * @return XP needed for next level, or 0 if at max level
      */
     public long getXpToNextLevel() {
-        if (level >= MAX_LEVEL) {
-            return 0;
-        }
-        // Formula: 100 * level^1.5 (progressive curve)
-        return (long) (100 * Math.pow(level, 1.5));
+        return curve.getXpToNextLevel(getLevel());
     }
 
     /**
-     * Calculate total XP required to reach a specific level from level 1
+     * Calculate total XP required to reach a specific level from level 1 on the default curve
      * @param targetLevel The level to calculate total XP for
      * @return Total XP required
      */
     public static long getTotalXpForLevel(int targetLevel) {
-        long totalXp = 0;
-        for (int i = 1; i < targetLevel; i++) {
-            totalXp += (long) (100 * Math.pow(i, 1.5));
-        }
-        return totalXp;
+        return XpCurve.DEFAULT.getTotalXpForLevel(targetLevel);
+    }
+
+    /**
+     * @return Total XP earned in this skill since level 1
+     */
+    public long getTotalXp() {
+        return XpCurve.saturatedAdd(curve.getTotalXpForLevel(getLevel()), getCurrentXp());
     }
 
     /**
      * Add XP and handle level-ups
+     * Any amount is applied in one step: the new level is looked up from the running total.
      * @param xp Amount of XP to add
      * @return Number of levels gained (0 if none)
      */
     public int addXp(long xp) {
-        if (level >= MAX_LEVEL) {
+        int level = getLevel();
+        if (level >= curve.getMaxLevel()) {
             return 0;
         }
 
-        currentXp += xp;
-        int levelsGained = 0;
-
-        // Check for level-ups
-        while (level < MAX_LEVEL && currentXp >= getXpToNextLevel()) {
-            currentXp -= getXpToNextLevel();
-            level++;
-            levelsGained++;
-        }
+        long totalXp = XpCurve.saturatedAdd(getTotalXp(), Math.max(0, xp));
+        int newLevel = curve.getLevelForTotalXp(totalXp);
 
+        levels[index] = newLevel;
         // Cap XP at max level
-        if (level >= MAX_LEVEL) {
-            currentXp = 0;
-        }
+        this.xp[index] = newLevel >= curve.getMaxLevel() ? 0 : totalXp - curve.getTotalXpForLevel(newLevel);
 
-        return levelsGained;
+        return newLevel - level;
     }
 
     /**
@@ -94,26 +111,26 @@ public class SkillLevel {
      * @return Progress percentage (0.0 to 1.0)
      */
     public double getProgressPercent() {
-        if (level >= MAX_LEVEL) {
+        if (isMaxLevel()) {
             return 1.0;
         }
         long xpNeeded = getXpToNextLevel();
         if (xpNeeded == 0) {
             return 1.0;
         }
-        return Math.min(1.0, (double) currentXp / xpNeeded);
+        return Math.min(1.0, (double) getCurrentXp() / xpNeeded);
     }
 
     /**
      * Check if this skill is at max level
-     * @return True if level 100
+     * @return True if at the curve's level cap
      */
     public boolean isMaxLevel() {
-        return level >= MAX_LEVEL;
+        return getLevel() >= curve.getMaxLevel();
     }
 
     @Override
     public String toString() {
-        return "Level " + level + " (" + currentXp + "/" + getXpToNextLevel() + " XP)";
+        return "Level " + getLevel() + " (" + getCurrentXp() + "/" + getXpToNextLevel() + " XP)";
     }
 }
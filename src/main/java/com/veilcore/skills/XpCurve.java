@@ -0,0 +1,109 @@
+package com.veilcore.skills;
+
+import java.util.Arrays;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Precomputed XP table for a skill's levelling curve
+ * Cumulative XP per level is built once, so XP-to-next-level and total XP are array reads and the level for
+ * a total is a binary search. Grants of any size are applied in one step instead of level by level.
+ * Totals saturate at Long.MAX_VALUE, so curves with very high level caps stay well-defined.
+ */
+public final class XpCurve {
+
+    /**
+     * The original curve: 100 * level^1.5 XP per level, levels 1-100
+     */
+    public static final XpCurve DEFAULT = power(100, 1.5, 100);
+
+    // cumulative[level] = total XP needed to reach level from level 1; index 0 is unused
+    private final long[] cumulative;
+    private final int maxLevel;
+
+    private XpCurve(long[] cumulative) {
+        this.cumulative = cumulative;
+        this.maxLevel = cumulative.length - 1;
+    }
+
+    /**
+     * Build a curve where advancing from a level costs base * level^exponent XP
+     * @param base XP multiplier
+     * @param exponent Growth exponent
+     * @param maxLevel Level cap (at least 1)
+     */
+    @Nonnull
+    public static XpCurve power(double base, double exponent, int maxLevel) {
+        int cap = Math.max(1, maxLevel);
+        long[] cumulative = new long[cap + 1];
+        for (int level = 2; level <= cap; level++) {
+            long step = (long) (base * Math.pow(level - 1, exponent));
+            cumulative[level] = saturatedAdd(cumulative[level - 1], Math.max(0, step));
+        }
+        return new XpCurve(cumulative);
+    }
+
+    /**
+     * Build a curve from explicit XP costs
+     * @param xpPerLevel xpPerLevel[i] is the XP needed to go from level i + 1 to level i + 2; the cap is length + 1
+     */
+    @Nonnull
+    public static XpCurve ofSteps(@Nonnull long[] xpPerLevel) {
+        long[] cumulative = new long[xpPerLevel.length + 2];
+        for (int i = 0; i < xpPerLevel.length; i++) {
+            cumulative[i + 2] = saturatedAdd(cumulative[i + 1], Math.max(0, xpPerLevel[i]));
+        }
+        return new XpCurve(cumulative);
+    }
+
+    public int getMaxLevel() {
+        return maxLevel;
+    }
+
+    /**
+     * Clamp a level into this curve's range
+     */
+    public int clampLevel(int level) {
+        return Math.max(1, Math.min(level, maxLevel));
+    }
+
+    /**
+     * @return XP needed to advance from the level, or 0 at or above the cap
+     */
+    public long getXpToNextLevel(int level) {
+        if (level < 1 || level >= maxLevel) {
+            return 0;
+        }
+        return cumulative[level + 1] - cumulative[level];
+    }
+
+    /**
+     * @return Total XP needed to reach the level from level 1
+     */
+    public long getTotalXpForLevel(int level) {
+        return cumulative[clampLevel(level)];
+    }
+
+    /**
+     * @return The highest level whose total XP requirement is covered by the given total
+     */
+    public int getLevelForTotalXp(long totalXp) {
+        if (totalXp <= 0) {
+            return 1;
+        }
+        // Levels sharing a total (zero-cost steps) resolve to the highest one
+        int index = Arrays.binarySearch(cumulative, 1, cumulative.length, totalXp);
+        if (index >= 0) {
+            while (index < maxLevel && cumulative[index + 1] == totalXp) {
+                index++;
+            }
+            return index;
+        }
+        return Math.max(1, -index - 2);
+    }
+
+    static long saturatedAdd(long a, long b) {
+        long sum = a + b;
+        return ((a ^ sum) & (b ^ sum)) < 0 ? Long.MAX_VALUE : sum;
+    }
+}
@@ -0,0 +1,243 @@
+package com.veilcore.skills.notifications;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.hypixel.hytale.protocol.ItemWithAllMetadata;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.Universe;
+import com.hypixel.hytale.server.core.util.NotificationUtil;
+import com.veilcore.skills.Skill;
+
+/**
+ * Per-player outbound queue for gathering XP toasts
+ * XP gains are merged per skill until the merge window closes ("+85 Mining XP (17 ores)"), level-ups jump
+ * the queue, and each player gets at most one toast per minimum interval. Icon packets are built once per
+ * skill. Listeners only record gains; the toasts are sent by {@link #run()} on the plugin scheduler.
+ *
+ * The window and interval can be tuned with -Dveilcore.notify.windowMs and -Dveilcore.notify.minIntervalMs.
+ */
+public class XpNotificationQueue implements Runnable {
+
+    public static final String WINDOW_PROPERTY = "veilcore.notify.windowMs";
+    public static final String MIN_INTERVAL_PROPERTY = "veilcore.notify.minIntervalMs";
+    public static final long FLUSH_PERIOD_MILLIS = 100;
+
+    private static final long DEFAULT_WINDOW_MILLIS = 1500;
+    private static final long DEFAULT_MIN_INTERVAL_MILLIS = 500;
+
+    private final long windowMillis;
+    private final long minIntervalMillis;
+    private final Logger logger;
+    private final Map<UUID, PlayerQueue> queues = new ConcurrentHashMap<>();
+    private final Map<Skill, ItemWithAllMetadata> icons = new ConcurrentHashMap<>();
+
+    /**
+     * XP gained in one skill since the last toast for it
+     */
+    private static final class PendingXp {
+        private long xp;
+        private int actions;
+        private String unit;
+        @Nullable
+        private String detail;
+        private long firstAt;
+    }
+
+    /**
+     * Levels gained in one skill that haven't been announced yet
+     */
+    private static final class PendingLevelUp {
+        private final Skill skill;
+        private final int fromLevel;
+        private int toLevel;
+
+        private PendingLevelUp(Skill skill, int fromLevel, int toLevel) {
+            this.skill = skill;
+            this.fromLevel = fromLevel;
+            this.toLevel = toLevel;
+        }
+    }
+
+    private static final class PlayerQueue {
+        private final Map<Skill, PendingXp> xp = new EnumMap<>(Skill.class);
+        private final Deque<PendingLevelUp> levelUps = new ArrayDeque<>();
+        private long lastSentAt;
+    }
+
+    public XpNotificationQueue(long windowMillis, long minIntervalMillis, @Nonnull Logger logger) {
+        this.windowMillis = Math.max(0, windowMillis);
+        this.minIntervalMillis = Math.max(0, minIntervalMillis);
+        this.logger = logger;
+    }
+
+    /**
+     * Create a queue using the timings from system properties, falling back to the defaults
+     */
+    @Nonnull
+    public static XpNotificationQueue fromSystemProperties(@Nonnull Logger logger) {
+        return new XpNotificationQueue(
+            Long.getLong(WINDOW_PROPERTY, DEFAULT_WINDOW_MILLIS),
+            Long.getLong(MIN_INTERVAL_PROPERTY, DEFAULT_MIN_INTERVAL_MILLIS),
+            logger);
+    }
+
+    /**
+     * Record XP for the next merged toast of a skill
+     * @param playerUuid The player
+     * @param skill The skill the XP went to
+     * @param xp XP gained
+     * @param actions How many gathering actions the XP is for (ores mined, trees felled...)
+     * @param unit Plural name of the action, shown when several are merged ("ores")
+     * @param detail Secondary line for the toast; the latest one is shown
+     */
+    public void addXp(@Nonnull UUID playerUuid, @Nonnull Skill skill, long xp, int actions, @Nonnull String unit, @Nullable String detail) {
+        PlayerQueue queue = queues.computeIfAbsent(playerUuid, uuid -> new PlayerQueue());
+        synchronized (queue) {
+            PendingXp pending = queue.xp.get(skill);
+            if (pending == null) {
+                pending = new PendingXp();
+                pending.firstAt = System.currentTimeMillis();
+                queue.xp.put(skill, pending);
+            }
+            pending.xp += xp;
+            pending.actions += actions;
+            pending.unit = unit;
+            pending.detail = detail;
+        }
+    }
+
+    /**
+     * Queue a level-up toast; it is sent ahead of any pending XP toasts
+     * Further levels in the same skill before it is sent are merged into it.
+     */
+    public void levelUp(@Nonnull UUID playerUuid, @Nonnull Skill skill, int newLevel, int levelsGained) {
+        PlayerQueue queue = queues.computeIfAbsent(playerUuid, uuid -> new PlayerQueue());
+        synchronized (queue) {
+            for (PendingLevelUp pending : queue.levelUps) {
+                if (pending.skill == skill) {
+                    pending.toLevel = Math.max(pending.toLevel, newLevel);
+                    return;
+                }
+            }
+            queue.levelUps.add(new PendingLevelUp(skill, newLevel - levelsGained, newLevel));
+        }
+    }
+
+    /**
+     * Drop everything queued for a player, e.g. on disconnect
+     */
+    public void remove(@Nonnull UUID playerUuid) {
+        queues.remove(playerUuid);
+    }
+
+    /**
+     * Send at most one due toast per player
+     */
+    @Override
+    public void run() {
+        // Runs at a fixed rate; an exception escaping here would stop every later toast
+        try {
+            long now = System.currentTimeMillis();
+            for (Map.Entry<UUID, PlayerQueue> entry : queues.entrySet()) {
+                PlayerQueue queue = entry.getValue();
+                synchronized (queue) {
+                    if (now - queue.lastSentAt < minIntervalMillis) {
+                        continue;
+                    }
+                    if (queue.levelUps.isEmpty() && !hasDueXp(queue, now)) {
+                        continue;
+                    }
+
+                    PlayerRef playerRef = Universe.get().getPlayer(entry.getKey());
+                    if (playerRef == null) {
+                        continue;
+                    }
+
+                    PendingLevelUp levelUp = queue.levelUps.poll();
+                    if (levelUp != null) {
+                        sendLevelUp(playerRef, levelUp);
+                    } else {
+                        sendDueXp(playerRef, queue, now);
+                    }
+                    queue.lastSentAt = now;
+                }
+            }
+        } catch (Exception e) {
+            logger.log(Level.WARNING, "Error sending XP notifications", e);
+        }
+    }
+
+    private boolean hasDueXp(PlayerQueue queue, long now) {
+        for (PendingXp pending : queue.xp.values()) {
+            if (now - pending.firstAt >= windowMillis) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void sendDueXp(PlayerRef playerRef, PlayerQueue queue, long now) {
+        for (Map.Entry<Skill, PendingXp> entry : queue.xp.entrySet()) {
+            PendingXp pending = entry.getValue();
+            if (now - pending.firstAt < windowMillis) {
+                continue;
+            }
+            queue.xp.remove(entry.getKey());
+
+            Skill skill = entry.getKey();
+            String primary = pending.actions > 1
+                ? String.format("+%d %s XP (%d %s)", pending.xp, skill.getDisplayName(), pending.actions, pending.unit)
+                : String.format("+%d %s XP", pending.xp, skill.getDisplayName());
+            NotificationUtil.sendNotification(
+                playerRef.getPacketHandler(),
+                Message.raw(primary).color(skill.getColor()).bold(true),
+                Message.raw(pending.detail != null ? pending.detail : "").color("#FFFFFF"),
+                getIcon(skill)
+            );
+            return;
+        }
+    }
+
+    private void sendLevelUp(PlayerRef playerRef, PendingLevelUp levelUp) {
+        int levelsGained = levelUp.toLevel - levelUp.fromLevel;
+        NotificationUtil.sendNotification(
+            playerRef.getPacketHandler(),
+            Message.raw(String.format("%s Level %d", levelUp.skill.getDisplayName(), levelUp.toLevel))
+                .color(levelUp.skill.getColor())
+                .bold(true),
+            Message.raw(String.format("Level up! +%d level%s", levelsGained, levelsGained > 1 ? "s" : ""))
+                .color("#FFFFFF"),
+            getIcon(levelUp.skill)
+        );
+    }
+
+    /**
+     * Get the cached icon packet for a skill's toasts
+     */
+    @Nonnull
+    private ItemWithAllMetadata getIcon(Skill skill) {
+        return icons.computeIfAbsent(skill, s -> new ItemStack(getIconItem(s), 1).toPacket());
+    }
+
+    private static String getIconItem(Skill skill) {
+        return switch (skill) {
+            case MINING -> "Rubble_Calcite_Medium";
+            case WOODCUTTING -> "Hytale_Menu_Inventory";
+            case COMBAT -> "Weapon_Sword_Mithril";
+            case FARMING -> "Tool_Hoe_Wood";
+            case FISHING -> "Weapon_Fishing_Rod";
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package com.veilcore.skills.subskills.mining;
+
+import com.veilcore.skills.Skill;
+import com.veilcore.skills.subskills.Subskill;
+import com.veilcore.skills.trees.PlayerSkillTreeData;
+
+/**
+ * Vein Miner subskill for Mining
+ * Breaks every connected ore block of the same type when mining while crouched
+ * The vein size is capped by the Vein Miner / Mega Vein Miner skill tree nodes
+ */
+public class VeinMiner extends Subskill {
+    
+    public static final String ID = "vein_miner";
+    
+    public static final String VEIN_MINER_NODE = "vein_miner";
+    public static final String MEGA_VEIN_MINER_NODE = "mega_vein_miner";
+    
+    public static final int VEIN_MINER_CAP = 8;
+    public static final int MEGA_VEIN_MINER_CAP = 27;
+    
+    public VeinMiner() {
+        super(
+            ID,
+            "Vein Miner",
+            "Hold SHIFT while mining an ore to break the connected vein. Unlocked through the Mining skill tree.",
+            Skill.MINING,
+            SubskillType.ACTIVE
+        );
+    }
+    
+    /**
+     * Get the largest vein (including the mined block) a player may break at once
+     * @param treeData The player's skill tree progress
+     * @return The vein cap, or 0 if vein mining is not unlocked
+     */
+    public static int getVeinCap(PlayerSkillTreeData treeData) {
+        String skillId = Skill.MINING.getId();
+        if (treeData.isNodeUnlocked(skillId, MEGA_VEIN_MINER_NODE)) {
+            return MEGA_VEIN_MINER_CAP;
+        }
+        if (treeData.isNodeUnlocked(skillId, VEIN_MINER_NODE)) {
+            return VEIN_MINER_CAP;
+        }
+        return 0;
+    }
+}
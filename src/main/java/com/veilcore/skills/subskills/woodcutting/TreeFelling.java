@@ -35,58 +35,27 @@ public class TreeFelling extends Subskill {
         }
     }
     
+    /**
+     * Wood rarity tiers; which wood types belong to each tier is defined in gathering.json
+     */
     public enum WoodRarity {
-        // Common woods - 1.0x multiplier
-        COMMON(1.0, "Oak", "Birch", "Fir", "Ash", "Aspen", "Beech", "Maple"),
-        
-        // Uncommon woods - 1.25x multiplier
-        UNCOMMON(1.25, "Cedar", "Jungle", "Palm", "Bamboo", "Sallow", "Camphor"),
-        
-        // Rare woods - 1.5x multiplier
-        RARE(1.5, "Redwood", "Banyan", "Gumboab", "Bottletree", "Palo", "Windwillow"),
-        
-        // Epic woods - 2.0x multiplier
-        EPIC(2.0, "Amber", "Azure", "Crystal", "Wisteria", "Spiral", "Stormbark"),
-        
-        // Legendary woods - 2.5x multiplier
-        LEGENDARY(2.5, "Fire", "Ice", "Petrified", "Poisoned", "Burnt", "Dry", "Gnarled");
+        COMMON(1.0),
+        UNCOMMON(1.25),
+        RARE(1.5),
+        EPIC(2.0),
+        LEGENDARY(2.5);
         
         private final double multiplier;
-        private final String[] woodTypes;
         
-        WoodRarity(double multiplier, String... woodTypes) {
+        WoodRarity(double multiplier) {
             this.multiplier = multiplier;
-            this.woodTypes = woodTypes;
-        }
-        
-        public double getMultiplier() {
-            return multiplier;
-        }
-        
-        public String[] getWoodTypes() {
-            return woodTypes;
         }
         
         /**
-         * Get wood rarity from block ID
-         * @param blockId The block ID to check
-         * @return The wood rarity, defaults to COMMON if not found
+         * Default XP multiplier for tiers that don't set their own in gathering.json
          */
-        public static WoodRarity fromBlockId(String blockId) {
-            if (blockId == null) return COMMON;
-            
-            String lowerBlockId = blockId.toLowerCase();
-            
-            // Check each rarity tier
-            for (WoodRarity rarity : values()) {
-                for (String woodType : rarity.getWoodTypes()) {
-                    if (lowerBlockId.contains(woodType.toLowerCase())) {
-                        return rarity;
-                    }
-                }
-            }
-            
-            return COMMON;
+        public double getMultiplier() {
+            return multiplier;
         }
     }
     
@@ -101,30 +70,15 @@ public class TreeFelling extends Subskill {
     }
     
     /**
-     * Calculate XP for breaking a single wood block based on wood type
-     * @param woodType The type of wood (block ID)
-     * @return XP amount to award
-     */
-    public static long calculateXpPerBlock(String woodType) {
-        WoodRarity rarity = WoodRarity.fromBlockId(woodType);
-        
-        // Base XP per wood block is 2, multiplied by wood rarity
-        long baseXp = 2;
-        return (long) (baseXp * rarity.getMultiplier());
-    }
-    
-    /**
-     * Calculate XP for cutting down a tree based on size and wood type
+     * Calculate XP for cutting down a tree based on size and wood type multiplier
      * @param logCount The number of logs destroyed in the tree
-     * @param woodType The type of wood (block ID)
+     * @param multiplier The wood type's XP multiplier (see ResourceClassifier)
      * @return XP amount to award
      */
-    public static long calculateXp(int logCount, String woodType) {
-        WoodRarity rarity = WoodRarity.fromBlockId(woodType);
-        
+    public static long calculateXp(int logCount, double multiplier) {
         // Base XP per block is 2, multiplied by wood rarity and total block count
         long baseXpPerBlock = 2;
-        return (long) (baseXpPerBlock * logCount * rarity.getMultiplier());
+        return (long) (baseXpPerBlock * logCount * multiplier);
     }
     
     /**
@@ -144,37 +98,4 @@ public class TreeFelling extends Subskill {
         }
         return TreeSize.SAPLING;
     }
-    
-    /**
-     * Check if a block ID is a wood/log block
-     * @param blockId The block ID to check
-     * @return true if it's a wood block, false otherwise
-     */
-    public static boolean isWoodBlock(String blockId) {
-        if (blockId == null) return false;
-        
-        String lowerBlockId = blockId.toLowerCase();
-        
-        // Check for various wood block types
-        return lowerBlockId.contains("wood") || 
-               lowerBlockId.contains("log") ||
-               lowerBlockId.contains("tree") ||
-               lowerBlockId.startsWith("block_wood");
-    }
-    
-    /**
-     * Check if a block is a leaves block (not counted as logs but part of tree)
-     * @param blockId The block ID to check
-     * @return true if it's a leaves block, false otherwise
-     */
-    public static boolean isLeavesBlock(String blockId) {
-        if (blockId == null) return false;
-        
-        String lowerBlockId = blockId.toLowerCase();
-        
-        // Check for various leaves block types
-        return lowerBlockId.contains("leaves") ||
-               lowerBlockId.contains("leaf") ||
-               lowerBlockId.startsWith("block_leaves");
-    }
 }
@@ -0,0 +1,423 @@
+package com.veilcore.skills.trees;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.veilcore.skills.tokens.SkillToken.TokenTier;
+
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+/**
+ * Immutable, index-based form of a SkillTree
+ * Nodes get dense indices in definition order. Edges are stored as CSR arrays in both directions
+ * (outgoing edges of node i are outTargets[outOffsets[i] .. outOffsets[i + 1]), incoming likewise), with the
+ * minimum source level per edge alongside. Costs per level are flattened into int tables.
+ * Stat contributions are flattened the same way: the effects of node i are statIds[statOffsets[i] .. statOffsets[i + 1]).
+ * Each node's declared value formula is copied alongside, for bonuses that are read per node rather than as a stat.
+ * Built once per tree, so availability checks and UI rendering are array walks that never allocate.
+ * Node levels are passed as an int[] indexed by node index, where 0 means locked.
+ */
+public final class CompiledSkillTree {
+
+    public static final String ROOT_NODE_ID = "root";
+
+    private final SkillTreeNode[] nodes;
+    private final String[] nodeIds;
+    private final Object2IntOpenHashMap<String> indexById;
+    private final int rootIndex;
+
+    private final int[] maxLevels;
+    private final int[][] levelCosts; // levelCosts[node][level - 1]
+    private final TokenTier[] tiers;
+    private final boolean[] special;
+    private final double[] valueBases;
+    private final double[] valuePerLevel;
+
+    private final int[] outOffsets;
+    private final int[] outTargets;
+    private final int[] outMinLevels;
+    private final int[] inOffsets;
+    private final int[] inSources;
+    private final int[] inMinLevels;
+
+    private final int[] statOffsets;
+    private final TreeStat[] statIds;
+    private final double[] statBases;
+    private final double[] statPerLevel;
+
+    /**
+     * @param nodeList Nodes in definition order
+     * @param connections Source node ID -> (target node ID -> minimum source level); edges to unknown nodes are dropped
+     */
+    CompiledSkillTree(@Nonnull List<SkillTreeNode> nodeList, @Nonnull Map<String, Map<String, Integer>> connections) {
+        int n = nodeList.size();
+        this.nodes = nodeList.toArray(new SkillTreeNode[0]);
+        this.nodeIds = new String[n];
+        this.indexById = new Object2IntOpenHashMap<>(n);
+        this.indexById.defaultReturnValue(-1);
+        this.maxLevels = new int[n];
+        this.levelCosts = new int[n][];
+        this.tiers = new TokenTier[n];
+        this.special = new boolean[n];
+        this.valueBases = new double[n];
+        this.valuePerLevel = new double[n];
+        int[] statCounts = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            SkillTreeNode node = nodes[i];
+            nodeIds[i] = node.getId();
+            indexById.put(node.getId(), i);
+            maxLevels[i] = node.getMaxLevel();
+            tiers[i] = node.getRequiredTokenTier();
+            special[i] = node.isSpecialNode();
+            valueBases[i] = node.getValueBase();
+            valuePerLevel[i] = node.getValuePerLevel();
+            int[] costs = new int[node.getMaxLevel()];
+            for (int level = 1; level <= costs.length; level++) {
+                costs[level - 1] = node.getTokenCost(level);
+            }
+            levelCosts[i] = costs;
+            statCounts[i] = node.getStatEffects().size();
+        }
+        this.rootIndex = indexById.getInt(ROOT_NODE_ID);
+
+        this.statOffsets = prefixSums(statCounts);
+        int effects = statOffsets[n];
+        this.statIds = new TreeStat[effects];
+        this.statBases = new double[effects];
+        this.statPerLevel = new double[effects];
+        for (int i = 0; i < n; i++) {
+            int e = statOffsets[i];
+            for (NodeStatEffect effect : nodes[i].getStatEffects()) {
+                statIds[e] = effect.getStat();
+                statBases[e] = effect.getBase();
+                statPerLevel[e] = effect.getPerLevel();
+                e++;
+            }
+        }
+
+        // Count edges per source and per target
+        int[] outCounts = new int[n];
+        int[] inCounts = new int[n];
+        int edges = 0;
+        for (Map.Entry<String, Map<String, Integer>> from : connections.entrySet()) {
+            int source = indexById.getInt(from.getKey());
+            if (source < 0) {
+                continue;
+            }
+            for (String toId : from.getValue().keySet()) {
+                int target = indexById.getInt(toId);
+                if (target >= 0) {
+                    outCounts[source]++;
+                    inCounts[target]++;
+                    edges++;
+                }
+            }
+        }
+
+        this.outOffsets = prefixSums(outCounts);
+        this.inOffsets = prefixSums(inCounts);
+        this.outTargets = new int[edges];
+        this.outMinLevels = new int[edges];
+        this.inSources = new int[edges];
+        this.inMinLevels = new int[edges];
+
+        int[] outFill = outOffsets.clone();
+        int[] inFill = inOffsets.clone();
+        for (Map.Entry<String, Map<String, Integer>> from : connections.entrySet()) {
+            int source = indexById.getInt(from.getKey());
+            if (source < 0) {
+                continue;
+            }
+            for (Map.Entry<String, Integer> to : from.getValue().entrySet()) {
+                int target = indexById.getInt(to.getKey());
+                if (target < 0) {
+                    continue;
+                }
+                int minLevel = Math.max(1, to.getValue());
+                int out = outFill[source]++;
+                outTargets[out] = target;
+                outMinLevels[out] = minLevel;
+                int in = inFill[target]++;
+                inSources[in] = source;
+                inMinLevels[in] = minLevel;
+            }
+        }
+    }
+
+    private static int[] prefixSums(int[] counts) {
+        int[] offsets = new int[counts.length + 1];
+        for (int i = 0; i < counts.length; i++) {
+            offsets[i + 1] = offsets[i] + counts[i];
+        }
+        return offsets;
+    }
+
+    public int getNodeCount() {
+        return nodes.length;
+    }
+
+    /**
+     * @return The node's index, or -1 if the tree has no such node
+     */
+    public int indexOf(@Nullable String nodeId) {
+        return nodeId != null ? indexById.getInt(nodeId) : -1;
+    }
+
+    @Nonnull
+    public SkillTreeNode getNode(int index) {
+        return nodes[index];
+    }
+
+    @Nonnull
+    public String getNodeId(int index) {
+        return nodeIds[index];
+    }
+
+    /**
+     * @return Index of the root node, or -1 if the tree has none
+     */
+    public int getRootIndex() {
+        return rootIndex;
+    }
+
+    public int getMaxLevel(int index) {
+        return maxLevels[index];
+    }
+
+    /**
+     * @return Token cost of reaching the level, or 0 outside 1..maxLevel
+     */
+    public int getTokenCost(int index, int level) {
+        int[] costs = levelCosts[index];
+        return level >= 1 && level <= costs.length ? costs[level - 1] : 0;
+    }
+
+    /**
+     * @return Total tokens spent to bring a node from 0 to the level
+     */
+    public int getTotalCost(int index, int level) {
+        int[] costs = levelCosts[index];
+        int total = 0;
+        for (int i = 0; i < Math.min(level, costs.length); i++) {
+            total += costs[i];
+        }
+        return total;
+    }
+
+    @Nonnull
+    public TokenTier getRequiredTokenTier(int index) {
+        return tiers[index];
+    }
+
+    public boolean isSpecialNode(int index) {
+        return special[index];
+    }
+
+    /**
+     * @return The node's declared value at a level (base + perLevel * level); 0 while locked
+     */
+    public double getValue(int index, int level) {
+        return level > 0 ? valueBases[index] + valuePerLevel[index] * level : 0.0;
+    }
+
+    // Outgoing edges: for (int e = getOutStart(i); e < getOutEnd(i); e++) getOutTarget(e)
+
+    public int getOutStart(int index) {
+        return outOffsets[index];
+    }
+
+    public int getOutEnd(int index) {
+        return outOffsets[index + 1];
+    }
+
+    public int getOutTarget(int edge) {
+        return outTargets[edge];
+    }
+
+    public int getOutMinLevel(int edge) {
+        return outMinLevels[edge];
+    }
+
+    // Incoming edges: for (int e = getInStart(i); e < getInEnd(i); e++) getInSource(e)
+
+    public int getInStart(int index) {
+        return inOffsets[index];
+    }
+
+    public int getInEnd(int index) {
+        return inOffsets[index + 1];
+    }
+
+    public int getInSource(int edge) {
+        return inSources[edge];
+    }
+
+    public int getInMinLevel(int edge) {
+        return inMinLevels[edge];
+    }
+
+    // Stat effects: for (int e = getStatStart(i); e < getStatEnd(i); e++) getStat(e)
+
+    public int getStatStart(int index) {
+        return statOffsets[index];
+    }
+
+    public int getStatEnd(int index) {
+        return statOffsets[index + 1];
+    }
+
+    @Nonnull
+    public TreeStat getStat(int effect) {
+        return statIds[effect];
+    }
+
+    /**
+     * @return The effect's contribution at a node level; 0 while locked
+     */
+    public double getStatValue(int effect, int level) {
+        return level > 0 ? statBases[effect] + statPerLevel[effect] * level : 0.0;
+    }
+
+    /**
+     * Add every unlocked node's stat contributions
+     * @param nodeLevels Levels indexed by node index (0 = locked)
+     * @param out Receives the totals, indexed by TreeStat ordinal
+     */
+    public void addStatTotals(@Nonnull int[] nodeLevels, @Nonnull double[] out) {
+        for (int i = 0; i < nodes.length; i++) {
+            if (nodeLevels[i] == 0) {
+                continue;
+            }
+            for (int e = statOffsets[i]; e < statOffsets[i + 1]; e++) {
+                out[statIds[e].ordinal()] += getStatValue(e, nodeLevels[i]);
+            }
+        }
+    }
+
+    /**
+     * @return The minimum source level on the edge, or -1 if there is no such edge
+     */
+    public int getEdgeMinLevel(int from, int to) {
+        for (int e = outOffsets[from]; e < outOffsets[from + 1]; e++) {
+            if (outTargets[e] == to) {
+                return outMinLevels[e];
+            }
+        }
+        return -1;
+    }
+
+    public boolean hasConnection(int from, int to) {
+        return getEdgeMinLevel(from, to) >= 0;
+    }
+
+    /**
+     * A node can be unlocked if it is the root, or any prerequisite is unlocked at its edge's minimum level
+     * @param nodeLevels Levels indexed by node index (0 = locked)
+     */
+    public boolean canUnlock(int index, @Nonnull int[] nodeLevels) {
+        if (index == rootIndex) {
+            return true;
+        }
+        for (int e = inOffsets[index]; e < inOffsets[index + 1]; e++) {
+            if (nodeLevels[inSources[e]] >= inMinLevels[e]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A node is available if it is still locked and can be unlocked
+     */
+    public boolean isAvailable(int index, @Nonnull int[] nodeLevels) {
+        return nodeLevels[index] == 0 && canUnlock(index, nodeLevels);
+    }
+
+    /**
+     * Mark every available node
+     * @param nodeLevels Levels indexed by node index (0 = locked)
+     * @param out Receives availability per node index; must hold at least getNodeCount() entries
+     * @return Number of available nodes
+     */
+    public int getAvailable(@Nonnull int[] nodeLevels, @Nonnull boolean[] out) {
+        int count = 0;
+        for (int i = 0; i < nodes.length; i++) {
+            out[i] = isAvailable(i, nodeLevels);
+            if (out[i]) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return Whether the connections contain a cycle
+     */
+    public boolean hasCycle() {
+        // Kahn's algorithm: if peeling off nodes without remaining incoming edges doesn't reach every node, there is a cycle
+        int n = nodes.length;
+        int[] inDegree = new int[n];
+        int[] queue = new int[n];
+        int tail = 0;
+        for (int i = 0; i < n; i++) {
+            inDegree[i] = inOffsets[i + 1] - inOffsets[i];
+            if (inDegree[i] == 0) {
+                queue[tail++] = i;
+            }
+        }
+        for (int head = 0; head < tail; head++) {
+            int node = queue[head];
+            for (int e = outOffsets[node]; e < outOffsets[node + 1]; e++) {
+                if (--inDegree[outTargets[e]] == 0) {
+                    queue[tail++] = outTargets[e];
+                }
+            }
+        }
+        return tail < n;
+    }
+
+    /**
+     * @return Per node index, whether it can be reached from the root by following connections
+     */
+    @Nonnull
+    public boolean[] getReachableFromRoot() {
+        boolean[] reachable = new boolean[nodes.length];
+        if (rootIndex < 0) {
+            return reachable;
+        }
+        int[] queue = new int[nodes.length];
+        int tail = 0;
+        queue[tail++] = rootIndex;
+        reachable[rootIndex] = true;
+        for (int head = 0; head < tail; head++) {
+            int node = queue[head];
+            for (int e = outOffsets[node]; e < outOffsets[node + 1]; e++) {
+                int target = outTargets[e];
+                if (!reachable[target]) {
+                    reachable[target] = true;
+                    queue[tail++] = target;
+                }
+            }
+        }
+        return reachable;
+    }
+
+    /**
+     * Convert ID-keyed levels into a level array for this tree; unknown IDs are ignored
+     * @param out Receives the levels; must hold at least getNodeCount() entries
+     */
+    public void toLevelArray(@Nonnull Map<String, Integer> nodeLevels, @Nonnull int[] out) {
+        Arrays.fill(out, 0, nodes.length, 0);
+        for (Map.Entry<String, Integer> entry : nodeLevels.entrySet()) {
+            int index = indexById.getInt(entry.getKey());
+            if (index >= 0 && entry.getValue() != null) {
+                out[index] = entry.getValue();
+            }
+        }
+    }
+}
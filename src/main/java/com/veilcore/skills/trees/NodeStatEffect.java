@@ -0,0 +1,39 @@
+package com.veilcore.skills.trees;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A node's contribution to one profile stat: base + perLevel * level while unlocked, nothing while locked
+ */
+public final class NodeStatEffect {
+
+    private final TreeStat stat;
+    private final double base;
+    private final double perLevel;
+
+    public NodeStatEffect(@Nonnull TreeStat stat, double base, double perLevel) {
+        this.stat = stat;
+        this.base = base;
+        this.perLevel = perLevel;
+    }
+
+    @Nonnull
+    public TreeStat getStat() {
+        return stat;
+    }
+
+    public double getBase() {
+        return base;
+    }
+
+    public double getPerLevel() {
+        return perLevel;
+    }
+
+    /**
+     * @return The contribution at a node level; 0 while locked
+     */
+    public double getValue(int level) {
+        return level > 0 ? base + perLevel * level : 0.0;
+    }
+}
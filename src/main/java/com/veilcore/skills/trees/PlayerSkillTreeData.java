@@ -1,51 +1,250 @@
 package com.veilcore.skills.trees;
 
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.veilcore.profile.ProfileStats;
 import com.veilcore.skills.tokens.SkillToken.TokenTier;
 
 /**
  * Stores a player's progress in skill trees
  * Tracks unlocked nodes, node levels, and available skill tokens per tier
+ * Each skill's progress is a SkillTreeState indexed by the compiled tree's node indices; the
+ * ID-based methods here resolve through it without allocating.
+ * Records the SkillTreeRegistry version its states are aligned with and remaps them once after a reload,
+ * so caches built from this data can compare versions to detect that the trees changed.
+ * Player-facing changes go through {@link #begin} transactions, which apply atomically and are handed to the
+ * ledger sink (the profile's append-only ledger file) as they commit; the sink only queues the entry, so the
+ * monitor is never held across a disk sync. The number of the last ledger entry
+ * is saved with the data, so only newer entries are replayed after a crash.
+ * Every method that changes tokens, levels or the tree binding holds this object's monitor, the same one
+ * commits hold, so level-up awards from the XP flush can't land between a commit's read and write.
  */
 public class PlayerSkillTreeData {
-    // Map: skillId -> (nodeId -> level)
-    private Map<String, Map<String, Integer>> unlockedNodeLevels;
-    
-    // Map: skillId -> (tierKey -> tokenCount)
-    // tierKey format: "tier_1", "tier_2", "tier_3"
-    private Map<String, Map<String, Integer>> tieredSkillTokens;
+    private static final TokenTier[] TIERS = TokenTier.values();
+
+    // skillId -> tree progress
+    private final Map<String, SkillTreeState> states;
+    // Registry version the states are aligned with
+    private int treeVersion = -1;
+    // Number of the last committed or replayed ledger entry
+    private long ledgerSeq;
+    // Receives each committed transaction; not persisted
+    @Nullable
+    private Consumer<TreeLedgerEntry> ledger;
 
     public PlayerSkillTreeData() {
-        this.unlockedNodeLevels = new HashMap<>();
-        this.tieredSkillTokens = new HashMap<>();
+        this.states = new HashMap<>();
+    }
+
+    /**
+     * Get a skill's tree progress, aligned with the skill's current compiled tree
+     */
+    @Nonnull
+    public synchronized SkillTreeState getTreeState(String skillId) {
+        SkillTreeSnapshot trees = sync();
+        SkillTreeState state = states.get(skillId);
+        if (state == null) {
+            state = new SkillTreeState(trees.getCompiled(skillId));
+            states.put(skillId, state);
+        }
+        return state;
+    }
+
+    /**
+     * Get a skill's tree progress without creating it
+     */
+    @Nullable
+    private synchronized SkillTreeState findTreeState(String skillId) {
+        sync();
+        return states.get(skillId);
+    }
+
+    /**
+     * Re-align every state with the registry's trees if they were reloaded since the last access
+     */
+    private SkillTreeSnapshot sync() {
+        SkillTreeSnapshot trees = SkillTreeRegistry.getInstance().getSnapshot();
+        if (trees.getVersion() != treeVersion) {
+            for (Map.Entry<String, SkillTreeState> entry : states.entrySet()) {
+                entry.getValue().bind(trees.getCompiled(entry.getKey()));
+            }
+            treeVersion = trees.getVersion();
+        }
+        return trees;
+    }
+
+    /**
+     * @return The SkillTreeRegistry version this data was last evaluated against
+     */
+    public synchronized int getTreeVersion() {
+        sync();
+        return treeVersion;
+    }
+
+    /**
+     * Get the IDs of every skill with stored progress
+     */
+    public Set<String> getSkillIds() {
+        return Collections.unmodifiableSet(states.keySet());
+    }
+
+    /**
+     * Start a transaction on a skill's tree
+     * @param reason Short tag recorded in the ledger, e.g. "upgrade" or "reset"
+     */
+    @Nonnull
+    public TreeTransaction begin(@Nonnull String skillId, @Nonnull String reason) {
+        return new TreeTransaction(this, skillId, reason);
+    }
+
+    /**
+     * Check every step against a working copy of the skill's tokens and levels, then apply them all
+     * @return The ledger entry, or null if a step failed; a transaction that changes nothing is not recorded
+     */
+    @Nullable
+    synchronized TreeLedgerEntry commit(@Nonnull TreeTransaction transaction, @Nullable ProfileStats stats) {
+        SkillTreeState state = getTreeState(transaction.getSkillId());
+        int[] tokens = new int[TIERS.length];
+        for (TokenTier tier : TIERS) {
+            tokens[tier.ordinal()] = state.getTokenCount(tier);
+        }
+        int[] before = tokens.clone();
+        // Node ID -> {level before, level after}
+        Map<String, int[]> changes = new LinkedHashMap<>();
+
+        for (TreeTransaction.Step step : transaction.getSteps()) {
+            switch (step.type) {
+                case SPEND -> {
+                    int t = step.tier.ordinal();
+                    while (t < tokens.length && tokens[t] < step.amount) {
+                        t++;
+                    }
+                    if (t == tokens.length) {
+                        return null;
+                    }
+                    tokens[t] -= step.amount;
+                }
+                case GRANT -> {
+                    int t = step.tier.ordinal();
+                    if (tokens[t] + step.amount < 0) {
+                        return null;
+                    }
+                    tokens[t] += step.amount;
+                }
+                case SET_LEVEL -> changes.computeIfAbsent(step.nodeId, id -> new int[] { state.getLevel(id), 0 })[1] = step.amount;
+            }
+        }
+
+        // Every step holds: apply them
+        changes.values().removeIf(change -> change[0] == change[1]);
+        int[] deltas = new int[TIERS.length];
+        boolean changed = !changes.isEmpty();
+        for (TokenTier tier : TIERS) {
+            int t = tier.ordinal();
+            deltas[t] = tokens[t] - before[t];
+            changed |= deltas[t] != 0;
+            state.setTokenCount(tier, tokens[t]);
+        }
+
+        CompiledSkillTree tree = state.getTree();
+        String[] nodes = new String[changes.size()];
+        int[] from = new int[nodes.length];
+        int[] to = new int[nodes.length];
+        int c = 0;
+        for (Map.Entry<String, int[]> change : changes.entrySet()) {
+            String nodeId = change.getKey();
+            int[] levels = change.getValue();
+            state.setLevel(nodeId, levels[1]);
+            int index = tree != null ? tree.indexOf(nodeId) : -1;
+            if (stats != null && index >= 0) {
+                TreeStatEffects.applyLevelChange(stats, tree, index, levels[0], levels[1]);
+            }
+            nodes[c] = nodeId;
+            from[c] = levels[0];
+            to[c] = levels[1];
+            c++;
+        }
+
+        long seq = changed ? ++ledgerSeq : ledgerSeq;
+        TreeLedgerEntry entry = new TreeLedgerEntry(seq, System.currentTimeMillis(), transaction.getSkillId(),
+            transaction.getReason(), deltas, nodes, from, to);
+        if (changed && ledger != null) {
+            ledger.accept(entry);
+        }
+        return entry;
+    }
+
+    /**
+     * Re-apply a ledger entry the last full save did not include
+     * @return True if applied, false if the entry is already part of this data
+     */
+    public synchronized boolean replay(@Nonnull TreeLedgerEntry entry) {
+        if (!entry.isValid() || entry.getSeq() <= ledgerSeq) {
+            return false;
+        }
+        SkillTreeState state = getTreeState(entry.getSkillId());
+        for (TokenTier tier : TIERS) {
+            int delta = entry.getTokenDelta(tier);
+            if (delta != 0) {
+                state.setTokenCount(tier, state.getTokenCount(tier) + delta);
+            }
+        }
+        for (int c = 0; c < entry.getNodeChangeCount(); c++) {
+            state.setLevel(entry.getNodeId(c), entry.getToLevel(c));
+        }
+        ledgerSeq = entry.getSeq();
+        return true;
+    }
+
+    /**
+     * @return Number of the last committed or replayed ledger entry
+     */
+    public long getLedgerSeq() {
+        return ledgerSeq;
+    }
+
+    public void setLedgerSeq(long ledgerSeq) {
+        this.ledgerSeq = ledgerSeq;
+    }
+
+    /**
+     * Set where committed transactions are recorded
+     */
+    public void setLedger(@Nullable Consumer<TreeLedgerEntry> ledger) {
+        this.ledger = ledger;
     }
 
     /**
      * Get the number of tokens a player has for a skill and tier
      */
-    public int getTokenCount(String skillId, TokenTier tier) {
-        String tierKey = "tier_" + tier.getLevel();
-        return tieredSkillTokens
-                .getOrDefault(skillId, new HashMap<>())
-                .getOrDefault(tierKey, 0);
+    public synchronized int getTokenCount(String skillId, TokenTier tier) {
+        SkillTreeState state = states.get(skillId);
+        return state != null ? state.getTokenCount(tier) : 0;
     }
 
     /**
      * Set token count for a skill and tier
      */
-    public void setTokenCount(String skillId, TokenTier tier, int count) {
-        String tierKey = "tier_" + tier.getLevel();
-        tieredSkillTokens.computeIfAbsent(skillId, k -> new HashMap<>())
-                .put(tierKey, Math.max(0, count));
+    public synchronized void setTokenCount(String skillId, TokenTier tier, int count) {
+        getTreeState(skillId).setTokenCount(tier, count);
     }
 
     /**
      * Add tokens of a specific tier to a skill
+     * Not recorded in the ledger: level-up awards are derived from skill XP, which is saved with the profile
+     * file only. Replaying an award whose XP was lost in a crash would pay it twice once the levels are
+     * regained, so awards are persisted by the same save as the XP they came from.
      */
-    public void addTokens(String skillId, TokenTier tier, int amount) {
+    public synchronized void addTokens(String skillId, TokenTier tier, int amount) {
         int current = getTokenCount(skillId, tier);
         setTokenCount(skillId, tier, current + amount);
     }
@@ -53,28 +252,19 @@ public class PlayerSkillTreeData {
     /**
      * Use tokens for unlocking/upgrading a node
      * Higher tier tokens can be used for lower tier requirements
+     * Not recorded in the ledger; player-facing spends go through {@link #begin}
      * @return True if tokens were successfully used
      */
-    public boolean useTokens(String skillId, TokenTier requiredTier, int cost) {
-        // Try to use tokens from required tier or higher
-        for (TokenTier tier : TokenTier.values()) {
-            if (tier.canUseFor(requiredTier)) {
-                int available = getTokenCount(skillId, tier);
-                if (available >= cost) {
-                    setTokenCount(skillId, tier, available - cost);
-                    return true;
-                }
-            }
-        }
-        return false;
+    public synchronized boolean useTokens(String skillId, TokenTier requiredTier, int cost) {
+        return getTreeState(skillId).useTokens(requiredTier, cost);
     }
 
     /**
      * Get all token counts for a skill (by tier)
      */
     public Map<TokenTier, Integer> getAllTokenCounts(String skillId) {
-        Map<TokenTier, Integer> counts = new HashMap<>();
-        for (TokenTier tier : TokenTier.values()) {
+        Map<TokenTier, Integer> counts = new EnumMap<>(TokenTier.class);
+        for (TokenTier tier : TIERS) {
             counts.put(tier, getTokenCount(skillId, tier));
         }
         return counts;
@@ -83,18 +273,10 @@ public class PlayerSkillTreeData {
     /**
      * Check if player can afford a node upgrade
      */
-    public boolean canAffordNode(String skillId, SkillTreeNode node, int currentLevel) {
+    public synchronized boolean canAffordNode(String skillId, SkillTreeNode node, int currentLevel) {
         int cost = node.getTokenCost(currentLevel + 1);
-        TokenTier requiredTier = node.getRequiredTokenTier();
-
-        // Check if player has enough tokens of required tier or higher
-        int availableTokens = 0;
-        for (TokenTier tier : TokenTier.values()) {
-            if (tier.canUseFor(requiredTier)) {
-                availableTokens += getTokenCount(skillId, tier);
-            }
-        }
-
+        SkillTreeState state = states.get(skillId);
+        int availableTokens = state != null ? state.getUsableTokens(node.getRequiredTokenTier()) : 0;
         return availableTokens >= cost;
     }
 
@@ -102,15 +284,15 @@ public class PlayerSkillTreeData {
      * Get all unlocked nodes for a skill
      */
     public Set<String> getUnlockedNodes(String skillId) {
-        return unlockedNodeLevels.getOrDefault(skillId, new HashMap<>()).keySet();
+        return Collections.unmodifiableSet(getNodeLevels(skillId).keySet());
     }
 
     /**
      * Check if a node is unlocked (at any level)
      */
     public boolean isNodeUnlocked(String skillId, String nodeId) {
-        return unlockedNodeLevels.getOrDefault(skillId, new HashMap<>())
-                .containsKey(nodeId);
+        SkillTreeState state = findTreeState(skillId);
+        return state != null && state.isUnlocked(nodeId);
     }
 
     /**
@@ -118,15 +300,29 @@ public class PlayerSkillTreeData {
      * @return Node level, or 0 if not unlocked
      */
     public int getNodeLevel(String skillId, String nodeId) {
-        return unlockedNodeLevels.getOrDefault(skillId, new HashMap<>())
-                .getOrDefault(nodeId, 0);
+        SkillTreeState state = findTreeState(skillId);
+        return state != null ? state.getLevel(nodeId) : 0;
+    }
+
+    /**
+     * Get a node's declared value (see skill_trees.json "value") at its current level
+     * @return The value, or 0 if the node is locked or not in the tree
+     */
+    public double getNodeValue(String skillId, String nodeId) {
+        SkillTreeState state = findTreeState(skillId);
+        return state != null ? state.getValue(nodeId) : 0.0;
     }
 
     /**
      * Get all node levels for a skill
      */
     public Map<String, Integer> getNodeLevels(String skillId) {
-        return new HashMap<>(unlockedNodeLevels.getOrDefault(skillId, new HashMap<>()));
+        Map<String, Integer> levels = new HashMap<>();
+        SkillTreeState state = findTreeState(skillId);
+        if (state != null) {
+            state.collectLevels(levels);
+        }
+        return levels;
     }
 
     /**
@@ -139,9 +335,8 @@ public class PlayerSkillTreeData {
     /**
      * Unlock a node at a specific level
      */
-    public void unlockNodeAtLevel(String skillId, String nodeId, int level) {
-        unlockedNodeLevels.computeIfAbsent(skillId, k -> new HashMap<>())
-                .put(nodeId, Math.max(1, level));
+    public synchronized void unlockNodeAtLevel(String skillId, String nodeId, int level) {
+        getTreeState(skillId).setLevel(nodeId, Math.max(1, level));
     }
 
     /**
@@ -158,9 +353,10 @@ public class PlayerSkillTreeData {
     /**
      * Remove a node (lock it)
      */
-    public void removeNode(String skillId, String nodeId) {
-        if (unlockedNodeLevels.containsKey(skillId)) {
-            unlockedNodeLevels.get(skillId).remove(nodeId);
+    public synchronized void removeNode(String skillId, String nodeId) {
+        SkillTreeState state = findTreeState(skillId);
+        if (state != null) {
+            state.setLevel(nodeId, 0);
         }
     }
 
@@ -168,13 +364,12 @@ public class PlayerSkillTreeData {
      * Upgrade a node to the next level
      * @return New level, or 0 if node is not unlocked
      */
-    public int upgradeNode(String skillId, String nodeId) {
+    public synchronized int upgradeNode(String skillId, String nodeId) {
         if (!isNodeUnlocked(skillId, nodeId)) {
             return 0;
         }
 
-        int currentLevel = getNodeLevel(skillId, nodeId);
-        int newLevel = currentLevel + 1;
+        int newLevel = getNodeLevel(skillId, nodeId) + 1;
         unlockNodeAtLevel(skillId, nodeId, newLevel);
         return newLevel;
     }
@@ -184,88 +379,84 @@ public class PlayerSkillTreeData {
      * @return Map of refunded tokens by tier
      */
     public Map<TokenTier, Integer> resetSkillTree(String skillId, SkillTree tree) {
-        Map<TokenTier, Integer> refunds = new HashMap<>();
-        for (TokenTier tier : TokenTier.values()) {
-            refunds.put(tier, 0);
-        }
-
-        // Get current node levels
-        Map<String, Integer> nodeLevels = getNodeLevels(skillId);
-
-        // Calculate refunds (skip root and special nodes)
-        for (Map.Entry<String, Integer> entry : nodeLevels.entrySet()) {
-            String nodeId = entry.getKey();
-            int level = entry.getValue();
-
-            if (nodeId.equals("root")) {
-                continue; // Don't refund root node
-            }
-
-            SkillTreeNode node = tree.getNode(nodeId);
-            if (node == null || node.isSpecialNode()) {
-                continue; // Don't refund special nodes
-            }
+        return resetSkillTree(skillId, tree, null);
+    }
 
-            TokenTier tier = node.getRequiredTokenTier();
-            
-            if (node.isUpgradable()) {
-                // Refund cost for each level
-                for (int i = 1; i <= level; i++) {
-                    int cost = node.getTokenCost(i);
-                    refunds.put(tier, refunds.get(tier) + cost);
+    /**
+     * Reset a skill tree in one transaction, refunding tokens and taking the cleared nodes' contributions off
+     * the stats
+     * @param stats Stats to update, or null to leave them as they are
+     * @return Map of refunded tokens by tier
+     */
+    public synchronized Map<TokenTier, Integer> resetSkillTree(String skillId, SkillTree tree, @Nullable ProfileStats stats) {
+        int[] refunds = new int[TIERS.length];
+        TreeTransaction transaction = begin(skillId, "reset");
+        SkillTreeState state = findTreeState(skillId);
+
+        if (state != null) {
+            CompiledSkillTree current = state.getTree();
+            CompiledSkillTree compiled = tree.getCompiled();
+            state.bind(compiled);
+            // Refund and clear every node except root and special nodes; nodes unknown to the tree are kept
+            for (int i = state.nextUnlocked(0); i >= 0; i = state.nextUnlocked(i + 1)) {
+                if (i == compiled.getRootIndex() || compiled.isSpecialNode(i)) {
+                    continue;
                 }
-            } else {
-                // Refund base cost
-                refunds.put(tier, refunds.get(tier) + node.getTokenCost());
+                refunds[compiled.getRequiredTokenTier(i).ordinal()] += refundFor(compiled, i, state.getLevel(i));
+                transaction.setLevel(compiled.getNodeId(i), 0);
             }
+            state.bind(current);
         }
 
-        // Clear non-special nodes
-        if (unlockedNodeLevels.containsKey(skillId)) {
-            Map<String, Integer> skillNodes = unlockedNodeLevels.get(skillId);
-            skillNodes.entrySet().removeIf(entry -> {
-                String nodeId = entry.getKey();
-                SkillTreeNode node = tree.getNode(nodeId);
-                return node != null && !node.isSpecialNode() && !nodeId.equals("root");
-            });
-        }
-
-        // Refund tokens
-        for (TokenTier tier : TokenTier.values()) {
-            int refund = refunds.get(tier);
+        Map<TokenTier, Integer> refunded = new EnumMap<>(TokenTier.class);
+        for (TokenTier tier : TIERS) {
+            int refund = refunds[tier.ordinal()];
+            refunded.put(tier, refund);
             if (refund > 0) {
-                addTokens(skillId, tier, refund);
+                transaction.grant(tier, refund);
             }
         }
+        transaction.commit(stats);
 
-        return refunds;
+        return refunded;
     }
 
     /**
      * Get total token refund if tree was reset (for display)
      */
-    public int getTotalTokensInTree(String skillId, SkillTree tree) {
-        Map<String, Integer> nodeLevels = getNodeLevels(skillId);
-        int total = 0;
-
-        for (Map.Entry<String, Integer> entry : nodeLevels.entrySet()) {
-            String nodeId = entry.getKey();
-            int level = entry.getValue();
+    public synchronized int getTotalTokensInTree(String skillId, SkillTree tree) {
+        SkillTreeState state = findTreeState(skillId);
+        if (state == null) {
+            return 0;
+        }
 
-            if (nodeId.equals("root")) continue;
+        CompiledSkillTree current = state.getTree();
+        CompiledSkillTree compiled = tree.getCompiled();
+        state.bind(compiled);
+        int total = 0;
+        for (int i = state.nextUnlocked(0); i >= 0; i = state.nextUnlocked(i + 1)) {
+            if (i == compiled.getRootIndex() || compiled.isSpecialNode(i)) continue;
+            total += refundFor(compiled, i, state.getLevel(i));
+        }
+        state.bind(current);
 
-            SkillTreeNode node = tree.getNode(nodeId);
-            if (node == null || node.isSpecialNode()) continue;
+        return total;
+    }
 
-            if (node.isUpgradable()) {
-                for (int i = 1; i <= level; i++) {
-                    total += node.getTokenCost(i);
-                }
-            } else {
-                total += node.getTokenCost();
-            }
+    /**
+     * Tokens spent on a node: every level's cost for upgradable nodes, the base cost otherwise
+     */
+    private static int refundFor(CompiledSkillTree tree, int index, int level) {
+        SkillTreeNode node = tree.getNode(index);
+        if (!node.isUpgradable()) {
+            return node.getTokenCost();
+        }
+        int maxLevel = tree.getMaxLevel(index);
+        int total = tree.getTotalCost(index, level);
+        if (level > maxLevel) {
+            // Levels past the cap fall back to the base cost, as SkillTreeNode.getTokenCost does
+            total += (level - maxLevel) * node.getTokenCost();
         }
-
         return total;
     }
 }
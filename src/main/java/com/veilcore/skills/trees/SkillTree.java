@@ -1,8 +1,11 @@
 package com.veilcore.skills.trees;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
@@ -11,18 +14,18 @@ import com.veilcore.skills.Skill;
 /**
  * Represents a skill tree for a specific skill
  * Contains nodes and their connections/prerequisites
+ * Queries go through a CompiledSkillTree, built on first use and rebuilt after the tree is changed.
  */
 public class SkillTree {
     private final Skill skill;
     private final Map<String, SkillTreeNode> nodes;
-    private final Map<String, Set<String>> connections; // fromNode -> Set of toNodes
-    private final Map<String, Integer> minLevelRequirements; // connection -> min level required
+    private final Map<String, Map<String, Integer>> connections; // fromNode -> (toNode -> min level required)
+    private volatile CompiledSkillTree compiled;
 
     public SkillTree(Skill skill) {
         this.skill = skill;
-        this.nodes = new HashMap<>();
-        this.connections = new HashMap<>();
-        this.minLevelRequirements = new HashMap<>();
+        this.nodes = new LinkedHashMap<>();
+        this.connections = new LinkedHashMap<>();
     }
 
     public Skill getSkill() {
@@ -30,10 +33,12 @@ public class SkillTree {
     }
 
     /**
-     * Add a node to the tree
+     * Add a node to the tree; the node is read-only from then on
      */
-    public void addNode(SkillTreeNode node) {
+    public synchronized void addNode(SkillTreeNode node) {
+        node.freeze();
         nodes.put(node.getId(), node);
+        compiled = null;
     }
 
     /**
@@ -47,14 +52,31 @@ public class SkillTree {
      * Get all nodes in the tree
      */
     public Collection<SkillTreeNode> getAllNodes() {
-        return nodes.values();
+        return Collections.unmodifiableCollection(nodes.values());
     }
 
     /**
      * Get all node IDs
      */
     public Set<String> getNodeIds() {
-        return nodes.keySet();
+        return Collections.unmodifiableSet(nodes.keySet());
+    }
+
+    /**
+     * Get the index-based form of the tree, compiling it if the tree changed since the last call
+     */
+    public CompiledSkillTree getCompiled() {
+        CompiledSkillTree current = compiled;
+        if (current == null) {
+            synchronized (this) {
+                current = compiled;
+                if (current == null) {
+                    current = new CompiledSkillTree(new ArrayList<>(nodes.values()), connections);
+                    compiled = current;
+                }
+            }
+        }
+        return current;
     }
 
     /**
@@ -68,28 +90,31 @@ public class SkillTree {
     /**
      * Add a connection with a minimum level requirement on the source node
      */
-    public void addConnection(String fromNodeId, String toNodeId, int minLevel) {
-        connections.computeIfAbsent(fromNodeId, k -> new HashSet<>()).add(toNodeId);
-        String connectionKey = fromNodeId + "->" + toNodeId;
-        minLevelRequirements.put(connectionKey, minLevel);
+    public synchronized void addConnection(String fromNodeId, String toNodeId, int minLevel) {
+        connections.computeIfAbsent(fromNodeId, k -> new LinkedHashMap<>()).put(toNodeId, minLevel);
+        compiled = null;
     }
 
     /**
      * Get all nodes connected from a specific node
      */
     public Set<String> getConnectedNodes(String nodeId) {
-        return new HashSet<>(connections.getOrDefault(nodeId, new HashSet<>()));
+        Map<String, Integer> targets = connections.get(nodeId);
+        return targets != null ? Collections.unmodifiableSet(targets.keySet()) : Collections.emptySet();
     }
 
     /**
      * Get all prerequisite nodes for a specific node
      */
     public Set<String> getPrerequisites(String nodeId) {
+        CompiledSkillTree tree = getCompiled();
+        int index = tree.indexOf(nodeId);
+        if (index < 0) {
+            return Collections.emptySet();
+        }
         Set<String> prerequisites = new HashSet<>();
-        for (Map.Entry<String, Set<String>> entry : connections.entrySet()) {
-            if (entry.getValue().contains(nodeId)) {
-                prerequisites.add(entry.getKey());
-            }
+        for (int e = tree.getInStart(index); e < tree.getInEnd(index); e++) {
+            prerequisites.add(tree.getNodeId(tree.getInSource(e)));
         }
         return prerequisites;
     }
@@ -98,8 +123,9 @@ public class SkillTree {
      * Get minimum level required on a prerequisite node
      */
     public int getMinLevelRequirement(String fromNodeId, String toNodeId) {
-        String connectionKey = fromNodeId + "->" + toNodeId;
-        return minLevelRequirements.getOrDefault(connectionKey, 1);
+        Map<String, Integer> targets = connections.get(fromNodeId);
+        Integer minLevel = targets != null ? targets.get(toNodeId) : null;
+        return minLevel != null ? minLevel : 1;
     }
 
     /**
@@ -107,25 +133,21 @@ public class SkillTree {
      */
     public boolean canUnlockNode(String nodeId, Set<String> unlockedNodes, Map<String, Integer> nodeLevels) {
         // Root node is always available
-        if (nodeId.equals("root")) {
+        if (nodeId.equals(CompiledSkillTree.ROOT_NODE_ID)) {
             return true;
         }
 
-        Set<String> prerequisites = getPrerequisites(nodeId);
-        
-        // If no prerequisites, node is not accessible
-        if (prerequisites.isEmpty()) {
+        CompiledSkillTree tree = getCompiled();
+        int index = tree.indexOf(nodeId);
+        if (index < 0) {
             return false;
         }
 
-        // Check if at least one prerequisite is satisfied
-        for (String prereq : prerequisites) {
-            if (unlockedNodes.contains(prereq)) {
-                int prereqLevel = nodeLevels.getOrDefault(prereq, 0);
-                int minLevel = getMinLevelRequirement(prereq, nodeId);
-                if (prereqLevel >= minLevel) {
-                    return true;
-                }
+        // Check if at least one prerequisite is satisfied; nodes without prerequisites are not accessible
+        for (int e = tree.getInStart(index); e < tree.getInEnd(index); e++) {
+            String prereq = tree.getNodeId(tree.getInSource(e));
+            if (unlockedNodes.contains(prereq) && nodeLevels.getOrDefault(prereq, 0) >= tree.getInMinLevel(e)) {
+                return true;
             }
         }
 
@@ -144,10 +166,17 @@ public class SkillTree {
      * Get all nodes that can currently be unlocked
      */
     public Set<String> getAvailableNodes(Set<String> unlockedNodes, Map<String, Integer> nodeLevels) {
+        CompiledSkillTree tree = getCompiled();
+        int[] levels = new int[tree.getNodeCount()];
+        for (int i = 0; i < levels.length; i++) {
+            String nodeId = tree.getNodeId(i);
+            levels[i] = unlockedNodes.contains(nodeId) ? Math.max(1, nodeLevels.getOrDefault(nodeId, 0)) : 0;
+        }
+
         Set<String> available = new HashSet<>();
-        for (String nodeId : nodes.keySet()) {
-            if (isNodeAvailable(nodeId, unlockedNodes, nodeLevels)) {
-                available.add(nodeId);
+        for (int i = 0; i < levels.length; i++) {
+            if (tree.isAvailable(i, levels)) {
+                available.add(tree.getNodeId(i));
             }
         }
         return available;
@@ -157,14 +186,19 @@ public class SkillTree {
      * Get all connections in the tree
      */
     public Map<String, Set<String>> getAllConnections() {
-        return new HashMap<>(connections);
+        Map<String, Set<String>> copy = new HashMap<>();
+        for (Map.Entry<String, Map<String, Integer>> entry : connections.entrySet()) {
+            copy.put(entry.getKey(), new HashSet<>(entry.getValue().keySet()));
+        }
+        return copy;
     }
 
     /**
      * Check if a specific connection exists
      */
     public boolean hasConnection(String fromNodeId, String toNodeId) {
-        return connections.getOrDefault(fromNodeId, new HashSet<>()).contains(toNodeId);
+        Map<String, Integer> targets = connections.get(fromNodeId);
+        return targets != null && targets.containsKey(toNodeId);
     }
 
     @Override
@@ -0,0 +1,393 @@
+package com.veilcore.skills.trees;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.veilcore.skills.Skill;
+import com.veilcore.skills.tokens.SkillToken.TokenTier;
+
+/**
+ * Skill tree definitions, mapped from skill_trees.json.
+ * The bundled default is copied to plugins/VeilCore/skill_trees.json on first start so designers can add or
+ * rebalance trees without code. Node costs are step tables and descriptions are templates, expanded per level
+ * on first use. Nodes may list the profile stats they add to per level. {@link #build} validates each tree (missing root, unknown nodes, cycles, unreachable nodes)
+ * before handing it to the registry.
+ */
+public class SkillTreeDefinitions {
+
+    public static final String FILE_NAME = "skill_trees.json";
+    private static final String DEFAULT_RESOURCE = "/veilcore/" + FILE_NAME;
+
+    private static final Gson GSON = new Gson();
+
+    private List<TreeDefinition> trees = new ArrayList<>();
+
+    /**
+     * One skill's tree
+     */
+    public static class TreeDefinition {
+        private String skill;
+        private List<NodeDefinition> nodes = new ArrayList<>();
+        private List<ConnectionDefinition> connections = new ArrayList<>();
+
+        public String getSkill() {
+            return skill;
+        }
+
+        public List<NodeDefinition> getNodes() {
+            return nodes;
+        }
+
+        public List<ConnectionDefinition> getConnections() {
+            return connections;
+        }
+    }
+
+    /**
+     * A node; with no costSteps every level costs {@code cost}
+     * The description may use {level}, {maxLevel} and {value}, where value = value.base + value.perLevel * level
+     */
+    public static class NodeDefinition {
+        private String id;
+        private String name;
+        @Nullable
+        private String icon;
+        @Nullable
+        private String color;
+        private int x;
+        private int y;
+        private TokenTier tier = TokenTier.BASIC;
+        private int maxLevel = 1;
+        private int cost = 1;
+        @Nullable
+        private List<CostStep> costSteps;
+        @Nullable
+        private ValueFormula value;
+        private String description = "";
+        private boolean special;
+        @Nullable
+        private List<StatDefinition> stats;
+
+        public String getId() {
+            return id;
+        }
+
+        /**
+         * @return Token cost per level, index = level - 1
+         */
+        public int[] getLevelCosts() {
+            int[] costs = new int[maxLevel];
+            for (int level = 1; level <= maxLevel; level++) {
+                costs[level - 1] = getCost(level);
+            }
+            return costs;
+        }
+
+        private int getCost(int level) {
+            if (costSteps != null) {
+                for (CostStep step : costSteps) {
+                    if (step.upTo == null || level <= step.upTo) {
+                        return step.cost;
+                    }
+                }
+            }
+            return cost;
+        }
+
+        /**
+         * @return Expands the description template for a level
+         */
+        public IntFunction<String> getDescriber() {
+            String template = description;
+            if (template.indexOf('{') < 0) {
+                return level -> template;
+            }
+            int cap = maxLevel;
+            ValueFormula formula = value != null ? value : new ValueFormula();
+            return level -> template
+                .replace("{level}", Integer.toString(level))
+                .replace("{maxLevel}", Integer.toString(cap))
+                .replace("{value}", String.valueOf(formula.base + formula.perLevel * level));
+        }
+    }
+
+    /**
+     * A stat the node adds base + perLevel * level to while unlocked
+     * This is the node's own increment: contributions of every node are summed, so a node whose description
+     * shows a chain total (via "value") must not repeat the earlier nodes' share here.
+     */
+    public static class StatDefinition {
+        private TreeStat stat;
+        private double base;
+        private double perLevel;
+    }
+
+    /**
+     * Cost for levels up to and including upTo; a step without upTo covers every remaining level
+     */
+    public static class CostStep {
+        @Nullable
+        private Integer upTo;
+        private int cost = 1;
+    }
+
+    /**
+     * Linear per-level value shown in descriptions; nodes whose bonus isn't a profile stat (XP boost, mining
+     * speed) apply this same value, so it is the only place the number is declared
+     */
+    public static class ValueFormula {
+        private double base;
+        private double perLevel;
+    }
+
+    /**
+     * An edge; the target can be unlocked once the source reaches minLevel
+     */
+    public static class ConnectionDefinition {
+        private String from;
+        private String to;
+        private int minLevel = 1;
+    }
+
+    /**
+     * Load the definitions from the plugin's data folder, writing the bundled default first if missing.
+     * Falls back to the bundled default if the file can't be read or parsed.
+     *
+     * @param dataFolder The plugin data folder
+     * @param logger Logger for load errors
+     * @return The loaded definitions
+     */
+    @Nonnull
+    public static SkillTreeDefinitions load(@Nonnull File dataFolder, @Nonnull Logger logger) {
+        File file = new File(dataFolder, FILE_NAME);
+
+        if (!file.exists()) {
+            try (InputStream in = SkillTreeDefinitions.class.getResourceAsStream(DEFAULT_RESOURCE)) {
+                if (in != null) {
+                    dataFolder.mkdirs();
+                    Files.copy(in, file.toPath());
+                }
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "Failed to write default " + FILE_NAME, e);
+            }
+        }
+
+        if (file.exists()) {
+            try (Reader reader = new FileReader(file, StandardCharsets.UTF_8)) {
+                SkillTreeDefinitions definitions = GSON.fromJson(reader, SkillTreeDefinitions.class);
+                if (definitions != null) {
+                    return definitions.validated(logger);
+                }
+            } catch (IOException | JsonParseException e) {
+                logger.log(Level.SEVERE, "Failed to load " + file.getPath() + ", using bundled defaults", e);
+            }
+        }
+
+        return loadDefaults(logger);
+    }
+
+    /**
+     * Load the definitions bundled in the plugin jar
+     */
+    @Nonnull
+    public static SkillTreeDefinitions loadDefaults(@Nonnull Logger logger) {
+        try (InputStream in = SkillTreeDefinitions.class.getResourceAsStream(DEFAULT_RESOURCE)) {
+            if (in != null) {
+                SkillTreeDefinitions definitions = GSON.fromJson(new InputStreamReader(in, StandardCharsets.UTF_8), SkillTreeDefinitions.class);
+                if (definitions != null) {
+                    return definitions.validated(logger);
+                }
+            }
+        } catch (IOException | JsonParseException e) {
+            logger.log(Level.SEVERE, "Failed to load bundled " + FILE_NAME, e);
+        }
+        return new SkillTreeDefinitions();
+    }
+
+    /**
+     * Drop entries with missing fields (Gson leaves unknown enum names as null)
+     */
+    private SkillTreeDefinitions validated(Logger logger) {
+        if (trees == null) trees = new ArrayList<>();
+        trees.removeIf(tree -> {
+            boolean invalid = tree == null || tree.skill == null || Skill.fromId(tree.skill) == null;
+            if (invalid) {
+                logger.log(Level.WARNING, "Skipping tree without a known skill in " + FILE_NAME);
+            }
+            return invalid;
+        });
+
+        for (TreeDefinition tree : trees) {
+            if (tree.nodes == null) tree.nodes = new ArrayList<>();
+            if (tree.connections == null) tree.connections = new ArrayList<>();
+            tree.nodes.removeIf(node -> {
+                boolean invalid = node == null || node.id == null || node.id.isEmpty();
+                if (invalid) {
+                    logger.log(Level.WARNING, "Skipping " + tree.skill + " node without an id in " + FILE_NAME);
+                }
+                return invalid;
+            });
+            for (NodeDefinition node : tree.nodes) {
+                if (node.name == null) node.name = node.id;
+                if (node.description == null) node.description = "";
+                if (node.tier == null) {
+                    logger.log(Level.WARNING, "Unknown token tier on " + tree.skill + "/" + node.id + " in " + FILE_NAME + ", using BASIC");
+                    node.tier = TokenTier.BASIC;
+                }
+                node.maxLevel = Math.max(1, node.maxLevel);
+                node.cost = Math.max(0, node.cost);
+                if (node.costSteps != null) {
+                    node.costSteps.removeIf(step -> step == null);
+                    node.costSteps.forEach(step -> step.cost = Math.max(0, step.cost));
+                }
+                if (node.stats != null) {
+                    node.stats.removeIf(effect -> {
+                        boolean invalid = effect == null || effect.stat == null;
+                        if (invalid) {
+                            logger.log(Level.WARNING, "Skipping unknown stat on " + tree.skill + "/" + node.id + " in " + FILE_NAME);
+                        }
+                        return invalid;
+                    });
+                }
+            }
+            tree.connections.removeIf(connection -> connection == null || connection.from == null || connection.to == null);
+        }
+        return this;
+    }
+
+    /**
+     * Build and validate every tree, one tree per worker. Trees without a root or with a cycle are skipped;
+     * nodes that can't be reached from the root are dropped.
+     * @return Skill ID -> tree, in file order
+     */
+    @Nonnull
+    public Map<String, SkillTree> build(@Nonnull Logger logger) {
+        Map<String, TreeDefinition> unique = new LinkedHashMap<>();
+        for (TreeDefinition definition : trees) {
+            String skillId = Skill.fromId(definition.skill).getId();
+            if (unique.putIfAbsent(skillId, definition) != null) {
+                logger.log(Level.WARNING, "Duplicate tree for " + skillId + " in " + FILE_NAME + ", keeping the first");
+            }
+        }
+
+        List<SkillTree> results = unique.values().parallelStream()
+            .map(definition -> buildValidated(definition, logger))
+            .toList();
+
+        Map<String, SkillTree> built = new LinkedHashMap<>();
+        for (SkillTree tree : results) {
+            if (tree != null) {
+                built.put(tree.getSkill().getId(), tree);
+            }
+        }
+        return built;
+    }
+
+    /**
+     * @return The compiled, validated tree, or null if it is unusable
+     */
+    @Nullable
+    private static SkillTree buildValidated(TreeDefinition definition, Logger logger) {
+        Skill skill = Skill.fromId(definition.skill);
+        SkillTree tree = buildTree(skill, definition, null, logger);
+
+        CompiledSkillTree compiled = tree.getCompiled();
+        if (compiled.getRootIndex() < 0) {
+            logger.log(Level.SEVERE, "Skill tree " + skill.getId() + " has no root node in " + FILE_NAME + ", skipping it");
+            return null;
+        }
+        if (compiled.hasCycle()) {
+            logger.log(Level.SEVERE, "Skill tree " + skill.getId() + " has a cycle in " + FILE_NAME + ", skipping it");
+            return null;
+        }
+
+        boolean[] reachable = compiled.getReachableFromRoot();
+        Set<String> unreachable = new HashSet<>();
+        for (int i = 0; i < reachable.length; i++) {
+            if (!reachable[i]) {
+                unreachable.add(compiled.getNodeId(i));
+            }
+        }
+        if (!unreachable.isEmpty()) {
+            logger.log(Level.WARNING, "Dropping unreachable " + skill.getId() + " nodes " + unreachable + " in " + FILE_NAME);
+            tree = buildTree(skill, definition, unreachable, logger);
+            tree.getCompiled();
+        }
+        return tree;
+    }
+
+    /**
+     * @param excluded Node IDs to leave out; problems are only logged on the first pass, when this is null
+     */
+    private static SkillTree buildTree(Skill skill, TreeDefinition definition, @Nullable Set<String> excluded, Logger logger) {
+        SkillTree tree = new SkillTree(skill);
+        for (NodeDefinition node : definition.nodes) {
+            if (excluded != null && excluded.contains(node.id)) {
+                continue;
+            }
+            if (tree.getNode(node.id) != null) {
+                if (excluded == null) logger.log(Level.WARNING, "Duplicate node " + skill.getId() + "/" + node.id + " in " + FILE_NAME + ", keeping the first");
+                continue;
+            }
+            SkillTreeNode built = new SkillTreeNode(
+                node.id,
+                node.name,
+                node.icon,
+                node.color != null ? node.color : skill.getColor(),
+                node.x, node.y,
+                node.getLevelCosts(),
+                node.getDescriber(),
+                node.tier
+            );
+            built.setSpecialNode(node.special);
+            if (node.value != null) {
+                built.setValue(node.value.base, node.value.perLevel);
+            }
+            if (node.stats != null) {
+                List<NodeStatEffect> effects = new ArrayList<>(node.stats.size());
+                for (StatDefinition effect : node.stats) {
+                    effects.add(new NodeStatEffect(effect.stat, effect.base, effect.perLevel));
+                }
+                built.setStatEffects(effects);
+            }
+            tree.addNode(built);
+        }
+
+        for (ConnectionDefinition connection : definition.connections) {
+            if (excluded != null && (excluded.contains(connection.from) || excluded.contains(connection.to))) {
+                continue;
+            }
+            if (tree.getNode(connection.from) == null || tree.getNode(connection.to) == null) {
+                if (excluded == null) logger.log(Level.WARNING, "Skipping " + skill.getId() + " connection " + connection.from
+                    + " -> " + connection.to + " to an unknown node in " + FILE_NAME);
+                continue;
+            }
+            tree.addConnection(connection.from, connection.to, Math.max(1, connection.minLevel));
+        }
+        return tree;
+    }
+
+    public List<TreeDefinition> getTrees() {
+        return trees;
+    }
+}
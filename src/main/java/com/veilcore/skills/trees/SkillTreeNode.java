@@ -1,7 +1,10 @@
 package com.veilcore.skills.trees;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.IntFunction;
 
 import com.veilcore.skills.tokens.SkillToken.TokenTier;
 
@@ -9,6 +12,9 @@ import com.veilcore.skills.tokens.SkillToken.TokenTier;
  * Represents a node in a skill tree
  * Can be either a simple unlock node or an upgradable node with multiple levels
  * Supports per-level descriptions, costs, and token tier requirements
+ * Costs are an int table per level; descriptions are generated on first use and cached per level
+ * A node is read-only once it is added to a SkillTree, since CompiledSkillTree copies its costs, stats and
+ * value; change a tree by building new nodes (as a reload does).
  */
 public class SkillTreeNode {
     private final String id;
@@ -19,10 +25,15 @@ public class SkillTreeNode {
     private final TreeGridPosition gridPosition;
     private final int tokenCost; // Base cost for simple nodes
     private final int maxLevel; // 1 for simple nodes, >1 for upgradable
-    private final Map<Integer, String> levelDescriptions; // Descriptions per level
-    private final Map<Integer, Integer> levelCosts; // Token costs per level
+    private final IntFunction<String> describer; // Builds the description for a level
+    private final String[] levelDescriptions; // Cached descriptions, index = level - 1
+    private final int[] levelCosts; // Token costs, index = level - 1
     private final TokenTier requiredTokenTier;
     private boolean isSpecialNode; // Special nodes preserve progress on tree reset
+    private List<NodeStatEffect> statEffects = List.of(); // Profile stats this node adds to per level
+    private double valueBase; // Declared value: base + perLevel * level, e.g. a percentage bonus
+    private double valuePerLevel;
+    private boolean frozen; // Set when added to a tree; the setters below throw from then on
 
     /**
      * Create a simple non-upgradable node (max level 1)
@@ -40,10 +51,9 @@ public class SkillTreeNode {
         this.maxLevel = 1;
         this.requiredTokenTier = requiredTier;
         this.isSpecialNode = false;
-        this.levelDescriptions = new HashMap<>();
-        this.levelCosts = new HashMap<>();
-        this.levelDescriptions.put(1, description);
-        this.levelCosts.put(1, tokenCost);
+        this.describer = level -> description;
+        this.levelDescriptions = new String[1];
+        this.levelCosts = new int[] { tokenCost };
     }
 
     /**
@@ -62,14 +72,10 @@ public class SkillTreeNode {
         this.maxLevel = Math.max(1, maxLevel);
         this.requiredTokenTier = requiredTier;
         this.isSpecialNode = false;
-        this.levelDescriptions = new HashMap<>();
-        this.levelCosts = new HashMap<>();
-        
-        // Set default description and cost for all levels
-        for (int i = 1; i <= maxLevel; i++) {
-            levelDescriptions.put(i, description);
-            levelCosts.put(i, tokenCost);
-        }
+        this.describer = level -> description;
+        this.levelDescriptions = new String[this.maxLevel];
+        this.levelCosts = new int[this.maxLevel];
+        Arrays.fill(levelCosts, tokenCost);
     }
 
     /**
@@ -85,11 +91,40 @@ public class SkillTreeNode {
         this.color = color;
         this.gridPosition = new TreeGridPosition(gridX, gridY);
         this.tokenCost = levelCosts.getOrDefault(1, 1);
-        this.levelDescriptions = new HashMap<>(levelDescriptions);
-        this.levelCosts = new HashMap<>(levelCosts);
         this.maxLevel = Math.max(1, levelCosts.size());
         this.requiredTokenTier = requiredTier;
         this.isSpecialNode = false;
+        Map<Integer, String> descriptions = new HashMap<>(levelDescriptions);
+        String fallback = this.description;
+        this.describer = level -> descriptions.getOrDefault(level, fallback);
+        this.levelDescriptions = new String[maxLevel];
+        this.levelCosts = new int[maxLevel];
+        for (int i = 1; i <= maxLevel; i++) {
+            this.levelCosts[i - 1] = levelCosts.getOrDefault(i, tokenCost);
+        }
+    }
+
+    /**
+     * Create a node from a cost table and a description generator
+     * @param levelCosts Token cost per level, index = level - 1; its length is the max level
+     * @param describer Builds the description for a level; called at most once per level
+     */
+    public SkillTreeNode(String id, String name, String iconName, String color,
+                        int gridX, int gridY, int[] levelCosts, IntFunction<String> describer,
+                        TokenTier requiredTier) {
+        this.id = id;
+        this.name = name;
+        this.iconName = iconName;
+        this.color = color;
+        this.gridPosition = new TreeGridPosition(gridX, gridY);
+        this.levelCosts = levelCosts.length > 0 ? levelCosts.clone() : new int[] { 1 };
+        this.maxLevel = this.levelCosts.length;
+        this.tokenCost = this.levelCosts[0];
+        this.requiredTokenTier = requiredTier;
+        this.isSpecialNode = false;
+        this.describer = describer;
+        this.levelDescriptions = new String[maxLevel];
+        this.description = getDescription(1);
     }
 
     public String getId() {
@@ -108,7 +143,15 @@ public class SkillTreeNode {
      * Get description for a specific level
      */
     public String getDescription(int level) {
-        return levelDescriptions.getOrDefault(level, description);
+        if (level < 1 || level > maxLevel) {
+            return description;
+        }
+        String cached = levelDescriptions[level - 1];
+        if (cached == null) {
+            cached = describer.apply(level);
+            levelDescriptions[level - 1] = cached;
+        }
+        return cached;
     }
 
     public String getIconName() {
@@ -134,7 +177,7 @@ public class SkillTreeNode {
      * Get token cost for a specific level
      */
     public int getTokenCost(int level) {
-        return levelCosts.getOrDefault(level, tokenCost);
+        return level >= 1 && level <= maxLevel ? levelCosts[level - 1] : tokenCost;
     }
 
     public int getMaxLevel() {
@@ -157,15 +200,51 @@ public class SkillTreeNode {
     }
 
     public void setSpecialNode(boolean specialNode) {
+        checkNotFrozen();
         isSpecialNode = specialNode;
     }
 
+    /**
+     * Get the profile stats this node contributes to
+     */
+    public List<NodeStatEffect> getStatEffects() {
+        return statEffects;
+    }
+
+    public void setStatEffects(List<NodeStatEffect> statEffects) {
+        checkNotFrozen();
+        this.statEffects = List.copyOf(statEffects);
+    }
+
+    /**
+     * Get the node's declared value at a level (base + perLevel * level), or 0 while locked
+     * Systems whose bonus isn't a profile stat read it from here, so the number shown matches the one applied.
+     */
+    public double getValue(int level) {
+        return level > 0 ? valueBase + valuePerLevel * level : 0.0;
+    }
+
+    public double getValueBase() {
+        return valueBase;
+    }
+
+    public double getValuePerLevel() {
+        return valuePerLevel;
+    }
+
+    public void setValue(double base, double perLevel) {
+        checkNotFrozen();
+        this.valueBase = base;
+        this.valuePerLevel = perLevel;
+    }
+
     /**
      * Set custom description for a specific level
      */
     public void setLevelDescription(int level, String description) {
+        checkNotFrozen();
         if (level > 0 && level <= maxLevel) {
-            levelDescriptions.put(level, description);
+            levelDescriptions[level - 1] = description;
         }
     }
 
@@ -173,8 +252,22 @@ public class SkillTreeNode {
      * Set custom cost for a specific level
      */
     public void setLevelCost(int level, int cost) {
+        checkNotFrozen();
         if (level > 0 && level <= maxLevel) {
-            levelCosts.put(level, cost);
+            levelCosts[level - 1] = cost;
+        }
+    }
+
+    /**
+     * Make the node read-only; called by SkillTree.addNode
+     */
+    void freeze() {
+        frozen = true;
+    }
+
+    private void checkNotFrozen() {
+        if (frozen) {
+            throw new IllegalStateException("Skill tree node " + id + " is already part of a tree");
         }
     }
 
@@ -182,14 +275,22 @@ public class SkillTreeNode {
      * Get all level descriptions
      */
     public Map<Integer, String> getLevelDescriptions() {
-        return new HashMap<>(levelDescriptions);
+        Map<Integer, String> descriptions = new HashMap<>();
+        for (int i = 1; i <= maxLevel; i++) {
+            descriptions.put(i, getDescription(i));
+        }
+        return descriptions;
     }
 
     /**
      * Get all level costs
      */
     public Map<Integer, Integer> getLevelCosts() {
-        return new HashMap<>(levelCosts);
+        Map<Integer, Integer> costs = new HashMap<>();
+        for (int i = 1; i <= maxLevel; i++) {
+            costs.put(i, levelCosts[i - 1]);
+        }
+        return costs;
     }
 
     @Override
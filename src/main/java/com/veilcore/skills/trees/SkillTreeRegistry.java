@@ -1,45 +1,61 @@
 package com.veilcore.skills.trees;
 
-import java.util.HashMap;
+import java.io.File;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
 
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import com.veilcore.skills.Skill;
 
 /**
  * Central registry for all skill trees
- * Manages creation and access to skill trees for each skill
+ * The trees built from skill_trees.json are published as an immutable SkillTreeSnapshot through an
+ * AtomicReference. A reload builds the full set first and swaps it in whole under the next version, so
+ * readers see either the old trees or the new ones and never lock. Loaded at plugin setup.
  */
 public class SkillTreeRegistry {
-    private static SkillTreeRegistry instance;
-    private final Map<String, SkillTree> skillTrees;
+    private static final SkillTreeRegistry INSTANCE = new SkillTreeRegistry();
+
+    private final AtomicReference<SkillTreeSnapshot> snapshot = new AtomicReference<>(SkillTreeSnapshot.EMPTY);
 
     private SkillTreeRegistry() {
-        this.skillTrees = new HashMap<>();
-        initializeSkillTrees();
     }
 
     /**
      * Get the singleton instance
      */
     public static SkillTreeRegistry getInstance() {
-        if (instance == null) {
-            instance = new SkillTreeRegistry();
-        }
-        return instance;
+        return INSTANCE;
+    }
+
+    /**
+     * Re-read skill_trees.json from the plugin data folder and swap in the rebuilt trees
+     * @return The new snapshot
+     */
+    @Nonnull
+    public synchronized SkillTreeSnapshot reload(@Nonnull File dataFolder, @Nonnull Logger logger) {
+        Map<String, SkillTree> trees = SkillTreeDefinitions.load(dataFolder, logger).build(logger);
+        SkillTreeSnapshot loaded = new SkillTreeSnapshot(snapshot.get().getVersion() + 1, trees);
+        snapshot.set(loaded);
+        return loaded;
+    }
+
+    /**
+     * The current trees; hold on to the snapshot when reading several trees in one pass
+     */
+    @Nonnull
+    public SkillTreeSnapshot getSnapshot() {
+        return snapshot.get();
     }
 
     /**
-     * Initialize all skill trees
+     * @return Version of the current trees, bumped by every reload
      */
-    private void initializeSkillTrees() {
-        skillTrees.put(Skill.MINING.getId(), MiningTreeBuilder.buildMiningTree());
-        skillTrees.put(Skill.FARMING.getId(), FarmingTreeBuilder.buildFarmingTree());
-        skillTrees.put(Skill.WOODCUTTING.getId(), WoodcuttingTreeBuilder.buildWoodcuttingTree());
-        skillTrees.put(Skill.FISHING.getId(), FishingTreeBuilder.buildFishingTree());
-        // Combat tree commented out for now
-        // skillTrees.put(Skill.COMBAT.getId(), CombatTreeBuilder.buildCombatTree());
+    public int getVersion() {
+        return snapshot.get().getVersion();
     }
 
     /**
@@ -47,7 +63,7 @@ public class SkillTreeRegistry {
      */
     @Nullable
     public SkillTree getSkillTree(Skill skill) {
-        return skillTrees.get(skill.getId());
+        return snapshot.get().getTree(skill.getId());
     }
 
     /**
@@ -55,20 +71,20 @@ public class SkillTreeRegistry {
      */
     @Nullable
     public SkillTree getSkillTree(String skillId) {
-        return skillTrees.get(skillId);
+        return snapshot.get().getTree(skillId);
     }
 
     /**
      * Check if a skill tree exists
      */
     public boolean hasSkillTree(Skill skill) {
-        return skillTrees.containsKey(skill.getId());
+        return snapshot.get().getTree(skill.getId()) != null;
     }
 
     /**
-     * Get all registered skill trees
+     * Get all registered skill trees (read-only)
      */
     public Map<String, SkillTree> getAllSkillTrees() {
-        return new HashMap<>(skillTrees);
+        return snapshot.get().getTrees();
     }
 }
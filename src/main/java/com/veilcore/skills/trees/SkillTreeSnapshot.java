@@ -0,0 +1,63 @@
+package com.veilcore.skills.trees;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * One immutable, versioned set of skill trees
+ * Built whole by a reload and published by SkillTreeRegistry; each reload gets the next version, so
+ * anything derived from the trees can remember the version it was built against and detect a reload
+ * with an int comparison.
+ */
+public final class SkillTreeSnapshot {
+
+    /**
+     * Before the first load: no trees
+     */
+    public static final SkillTreeSnapshot EMPTY = new SkillTreeSnapshot(0, Collections.emptyMap());
+
+    private final int version;
+    private final Map<String, SkillTree> trees;
+
+    SkillTreeSnapshot(int version, @Nonnull Map<String, SkillTree> trees) {
+        this.version = version;
+        this.trees = Collections.unmodifiableMap(new LinkedHashMap<>(trees));
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Get a skill tree by skill ID
+     */
+    @Nullable
+    public SkillTree getTree(@Nonnull String skillId) {
+        return trees.get(skillId);
+    }
+
+    /**
+     * Get a skill's compiled tree by skill ID
+     */
+    @Nullable
+    public CompiledSkillTree getCompiled(@Nonnull String skillId) {
+        SkillTree tree = trees.get(skillId);
+        return tree != null ? tree.getCompiled() : null;
+    }
+
+    /**
+     * @return Skill ID -> tree, read-only
+     */
+    @Nonnull
+    public Map<String, SkillTree> getTrees() {
+        return trees;
+    }
+
+    public int size() {
+        return trees.size();
+    }
+}
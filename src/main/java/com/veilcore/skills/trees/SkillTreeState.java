@@ -0,0 +1,190 @@
+package com.veilcore.skills.trees;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.veilcore.skills.tokens.SkillToken.TokenTier;
+
+/**
+ * A player's progress in one skill tree
+ * Node levels are an int[] indexed by the compiled tree's node index, with a bitset of unlocked nodes and
+ * token counts in an int[] indexed by tier. Levels of nodes the current tree does not define (removed
+ * nodes, skills without a tree) are kept by ID so they survive a save.
+ * When the tree is recompiled the arrays are remapped by node ID on the next access.
+ */
+public final class SkillTreeState {
+
+    private static final TokenTier[] TIERS = TokenTier.values();
+
+    @Nullable
+    private CompiledSkillTree tree;
+    private int[] levels;
+    private final BitSet unlocked = new BitSet();
+    private final int[] tokens = new int[TIERS.length];
+    @Nullable
+    private Map<String, Integer> unknownLevels;
+
+    SkillTreeState(@Nullable CompiledSkillTree tree) {
+        this.tree = tree;
+        this.levels = new int[tree != null ? tree.getNodeCount() : 0];
+    }
+
+    /**
+     * Align the arrays with the given compiled tree, remapping levels by node ID if it changed
+     */
+    SkillTreeState bind(@Nullable CompiledSkillTree current) {
+        if (current == tree) {
+            return this;
+        }
+        Map<String, Integer> byId = unknownLevels != null ? unknownLevels : new HashMap<>();
+        for (int i = unlocked.nextSetBit(0); i >= 0; i = unlocked.nextSetBit(i + 1)) {
+            byId.put(tree.getNodeId(i), levels[i]);
+        }
+
+        tree = current;
+        levels = new int[current != null ? current.getNodeCount() : 0];
+        unlocked.clear();
+        unknownLevels = null;
+        for (Map.Entry<String, Integer> entry : byId.entrySet()) {
+            setLevel(entry.getKey(), entry.getValue());
+        }
+        return this;
+    }
+
+    /**
+     * @return The compiled tree the indices refer to, or null if the skill has no tree
+     */
+    @Nullable
+    public CompiledSkillTree getTree() {
+        return tree;
+    }
+
+    /**
+     * @return Level of the node at the index, 0 if locked
+     */
+    public int getLevel(int index) {
+        return levels[index];
+    }
+
+    public boolean isUnlocked(int index) {
+        return unlocked.get(index);
+    }
+
+    /**
+     * @return Whether the node at the index can be unlocked with the current levels
+     */
+    public boolean canUnlock(int index) {
+        return tree != null && tree.canUnlock(index, levels);
+    }
+
+    public int getLevel(@Nonnull String nodeId) {
+        int index = tree != null ? tree.indexOf(nodeId) : -1;
+        if (index >= 0) {
+            return levels[index];
+        }
+        return unknownLevels != null ? unknownLevels.getOrDefault(nodeId, 0) : 0;
+    }
+
+    /**
+     * @return The node's declared value at its current level, or 0 if it is locked or not in the tree
+     */
+    public double getValue(@Nonnull String nodeId) {
+        int index = tree != null ? tree.indexOf(nodeId) : -1;
+        return index >= 0 ? tree.getValue(index, levels[index]) : 0.0;
+    }
+
+    public boolean isUnlocked(@Nonnull String nodeId) {
+        int index = tree != null ? tree.indexOf(nodeId) : -1;
+        if (index >= 0) {
+            return unlocked.get(index);
+        }
+        return unknownLevels != null && unknownLevels.containsKey(nodeId);
+    }
+
+    /**
+     * Set a node's level; 0 or less locks it
+     */
+    void setLevel(@Nonnull String nodeId, int level) {
+        int index = tree != null ? tree.indexOf(nodeId) : -1;
+        if (index >= 0) {
+            setLevel(index, level);
+        } else if (level > 0) {
+            if (unknownLevels == null) {
+                unknownLevels = new HashMap<>();
+            }
+            unknownLevels.put(nodeId, level);
+        } else if (unknownLevels != null) {
+            unknownLevels.remove(nodeId);
+        }
+    }
+
+    void setLevel(int index, int level) {
+        levels[index] = Math.max(0, level);
+        unlocked.set(index, level > 0);
+    }
+
+    /**
+     * Iterate unlocked node indices: for (int i = nextUnlocked(0); i >= 0; i = nextUnlocked(i + 1))
+     */
+    public int nextUnlocked(int fromIndex) {
+        return unlocked.nextSetBit(fromIndex);
+    }
+
+    /**
+     * Copy every unlocked node's level into the map, including nodes the tree does not define
+     */
+    void collectLevels(@Nonnull Map<String, Integer> out) {
+        for (int i = unlocked.nextSetBit(0); i >= 0; i = unlocked.nextSetBit(i + 1)) {
+            out.put(tree.getNodeId(i), levels[i]);
+        }
+        if (unknownLevels != null) {
+            out.putAll(unknownLevels);
+        }
+    }
+
+    /**
+     * Add the stat contributions of every unlocked node, indexed by TreeStat ordinal
+     */
+    void addStatTotals(@Nonnull double[] out) {
+        if (tree != null) {
+            tree.addStatTotals(levels, out);
+        }
+    }
+
+    public int getTokenCount(@Nonnull TokenTier tier) {
+        return tokens[tier.ordinal()];
+    }
+
+    void setTokenCount(@Nonnull TokenTier tier, int count) {
+        tokens[tier.ordinal()] = Math.max(0, count);
+    }
+
+    /**
+     * @return Tokens usable for the required tier (that tier and above)
+     */
+    public int getUsableTokens(@Nonnull TokenTier requiredTier) {
+        int total = 0;
+        for (int t = requiredTier.ordinal(); t < tokens.length; t++) {
+            total += tokens[t];
+        }
+        return total;
+    }
+
+    /**
+     * Spend tokens from the lowest usable tier that covers the whole cost
+     * @return True if tokens were spent
+     */
+    boolean useTokens(@Nonnull TokenTier requiredTier, int cost) {
+        for (int t = requiredTier.ordinal(); t < tokens.length; t++) {
+            if (tokens[t] >= cost) {
+                tokens[t] -= cost;
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,94 @@
+package com.veilcore.skills.trees;
+
+import javax.annotation.Nonnull;
+
+import com.veilcore.skills.tokens.SkillToken.TokenTier;
+
+/**
+ * One committed skill tree transaction, as written to a profile's ledger
+ * Token changes are deltas per tier (indexed by TokenTier ordinal); node changes record the level before and
+ * after by node ID, so an entry replays correctly even after the tree was recompiled.
+ * Entries are numbered per profile; PlayerSkillTreeData remembers the last number it applied, so replaying a
+ * ledger after a crash only re-applies what the last full save did not include.
+ */
+public final class TreeLedgerEntry {
+
+    private long seq;
+    private long time;
+    private String skill;
+    private String reason;
+    private int[] tokens;
+    private String[] nodes;
+    private int[] from;
+    private int[] to;
+
+    private TreeLedgerEntry() {
+        // For Gson
+    }
+
+    TreeLedgerEntry(long seq, long time, @Nonnull String skill, @Nonnull String reason, @Nonnull int[] tokens,
+                    @Nonnull String[] nodes, @Nonnull int[] from, @Nonnull int[] to) {
+        this.seq = seq;
+        this.time = time;
+        this.skill = skill;
+        this.reason = reason;
+        this.tokens = tokens;
+        this.nodes = nodes;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * @return The entry's number, increasing per profile
+     */
+    public long getSeq() {
+        return seq;
+    }
+
+    /**
+     * @return Commit time in epoch milliseconds
+     */
+    public long getTime() {
+        return time;
+    }
+
+    public String getSkillId() {
+        return skill;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    /**
+     * @return Change in the tier's token count
+     */
+    public int getTokenDelta(@Nonnull TokenTier tier) {
+        return tokens != null && tier.ordinal() < tokens.length ? tokens[tier.ordinal()] : 0;
+    }
+
+    public int getNodeChangeCount() {
+        return nodes != null ? nodes.length : 0;
+    }
+
+    public String getNodeId(int change) {
+        return nodes[change];
+    }
+
+    public int getFromLevel(int change) {
+        return from[change];
+    }
+
+    public int getToLevel(int change) {
+        return to[change];
+    }
+
+    /**
+     * @return Whether the entry has the fields needed to replay it
+     */
+    public boolean isValid() {
+        int changes = getNodeChangeCount();
+        return seq > 0 && skill != null
+            && (changes == 0 || (from != null && to != null && from.length == changes && to.length == changes));
+    }
+}
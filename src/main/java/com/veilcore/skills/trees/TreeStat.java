@@ -0,0 +1,56 @@
+package com.veilcore.skills.trees;
+
+import java.util.function.ObjDoubleConsumer;
+
+import com.veilcore.profile.ProfileStats;
+
+/**
+ * Profile stats a skill tree node can contribute to
+ * Each stat knows how to shift its ProfileStats field by a delta. Whole-number stats only ever receive
+ * whole deltas (see TreeStatEffects), so fractional contributions never drift through truncation.
+ */
+public enum TreeStat {
+    HEALTH(true, (stats, delta) -> stats.setHealth(stats.getHealth() + (int) delta)),
+    STAMINA(true, (stats, delta) -> stats.setStamina(stats.getStamina() + (int) delta)),
+    SPEED(false, (stats, delta) -> stats.setSpeed(stats.getSpeed() + delta)),
+    HEALTH_REGEN(false, (stats, delta) -> stats.setHealthRegen(stats.getHealthRegen() + delta)),
+    STAMINA_REGEN(false, (stats, delta) -> stats.setStaminaRegen(stats.getStaminaRegen() + delta)),
+    MINING_SPEED(false, (stats, delta) -> stats.setMiningSpeed(stats.getMiningSpeed() + delta)),
+    MINING_FORTUNE(false, (stats, delta) -> stats.setMiningFortune(stats.getMiningFortune() + delta)),
+    FARMING_FORTUNE(false, (stats, delta) -> stats.setFarmingFortune(stats.getFarmingFortune() + delta)),
+    LOOTING_FORTUNE(false, (stats, delta) -> stats.setLootingFortune(stats.getLootingFortune() + delta)),
+    FISHING_FORTUNE(false, (stats, delta) -> stats.setFishingFortune(stats.getFishingFortune() + delta)),
+    TREASURE_SENSE(false, (stats, delta) -> stats.setTreasureSense(stats.getTreasureSense() + delta)),
+    LUCK(true, (stats, delta) -> stats.setLuck(stats.getLuck() + (int) delta));
+
+    public static final TreeStat[] VALUES = values();
+
+    private final boolean whole;
+    private final ObjDoubleConsumer<ProfileStats> adder;
+
+    TreeStat(boolean whole, ObjDoubleConsumer<ProfileStats> adder) {
+        this.whole = whole;
+        this.adder = adder;
+    }
+
+    /**
+     * @return Whether the backing field is an int
+     */
+    public boolean isWhole() {
+        return whole;
+    }
+
+    /**
+     * @return This stat's bit in a changed-stats mask
+     */
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Shift the stat's field by a delta
+     */
+    void add(ProfileStats stats, double delta) {
+        adder.accept(stats, delta);
+    }
+}
@@ -0,0 +1,85 @@
+package com.veilcore.skills.trees;
+
+import javax.annotation.Nonnull;
+
+import com.veilcore.profile.Profile;
+import com.veilcore.profile.ProfileStats;
+
+/**
+ * Applies skill tree stat contributions to a profile's stats
+ * ProfileStats records the contribution it currently includes per TreeStat, so an upgrade or reset only
+ * adds the difference for the nodes that changed. Whole-number stats move by the change in the rounded
+ * total, keeping fractional per-level values exact over any number of upgrades.
+ * A full walk over the unlocked nodes only happens in {@link #reconcile}, when a profile is activated or
+ * the trees are reloaded. Changed stats are queued on the profile for the next client sync (see StatSync).
+ */
+public final class TreeStatEffects {
+
+    private TreeStatEffects() {
+    }
+
+    /**
+     * Apply the change in one node's contributions after its level moved
+     * @param tree The compiled tree the index refers to
+     * @return TreeStat bits that changed
+     */
+    public static int applyLevelChange(@Nonnull ProfileStats stats, @Nonnull CompiledSkillTree tree, int index,
+                                       int oldLevel, int newLevel) {
+        if (oldLevel == newLevel) {
+            return 0;
+        }
+        double[] applied = stats.getTreeBonuses(TreeStat.VALUES.length);
+        int changed = 0;
+        for (int e = tree.getStatStart(index); e < tree.getStatEnd(index); e++) {
+            double delta = tree.getStatValue(e, newLevel) - tree.getStatValue(e, oldLevel);
+            changed |= shift(stats, applied, tree.getStat(e), delta);
+        }
+        stats.markStatsChanged(changed);
+        return changed;
+    }
+
+    /**
+     * Bring the applied contributions in line with the current trees, if they were reloaded since the last
+     * reconcile. Also picks up progress saved before nodes declared stats.
+     * @return TreeStat bits that changed
+     */
+    public static int reconcile(@Nonnull Profile profile) {
+        ProfileStats stats = profile.getStats();
+        int version = SkillTreeRegistry.getInstance().getVersion();
+        if (stats.getTreeBonusVersion() == version) {
+            return 0;
+        }
+
+        PlayerSkillTreeData treeData = profile.getSkills().getTreeData();
+        double[] totals = new double[TreeStat.VALUES.length];
+        synchronized (treeData) {
+            for (String skillId : treeData.getSkillIds()) {
+                treeData.getTreeState(skillId).addStatTotals(totals);
+            }
+        }
+
+        double[] applied = stats.getTreeBonuses(totals.length);
+        int changed = 0;
+        for (TreeStat stat : TreeStat.VALUES) {
+            changed |= shift(stats, applied, stat, totals[stat.ordinal()] - applied[stat.ordinal()]);
+        }
+        stats.setTreeBonusVersion(version);
+        stats.markStatsChanged(changed);
+        if (changed != 0) {
+            profile.markDirty();
+        }
+        return changed;
+    }
+
+    private static int shift(ProfileStats stats, double[] applied, TreeStat stat, double delta) {
+        if (delta == 0.0) {
+            return 0;
+        }
+        int o = stat.ordinal();
+        double before = applied[o];
+        double after = before + delta;
+        applied[o] = after;
+        stat.add(stats, stat.isWhole() ? Math.round(after) - Math.round(before) : delta);
+        return stat.bit();
+    }
+}
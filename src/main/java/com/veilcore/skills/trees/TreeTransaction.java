@@ -0,0 +1,107 @@
+package com.veilcore.skills.trees;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.veilcore.profile.ProfileStats;
+import com.veilcore.skills.tokens.SkillToken.TokenTier;
+
+/**
+ * A multi-step change to one skill tree: token spends, grants and node level changes
+ * Steps are only recorded until {@link #commit}, which checks them in order against the player's current
+ * tree state and then applies all of them, or none if any step fails (e.g. a spend the tokens can't cover).
+ * A committed transaction updates the node levels, token counts and stat contributions together and is
+ * appended to the profile's ledger.
+ *
+ * <pre>
+ * treeData.begin("mining", "upgrade")
+ *     .spend(TokenTier.BASIC, 2)
+ *     .setLevel("mining_fortune", 3)
+ *     .commit(profile.getStats());
+ * </pre>
+ */
+public final class TreeTransaction {
+
+    enum StepType { SPEND, GRANT, SET_LEVEL }
+
+    static final class Step {
+        final StepType type;
+        @Nullable
+        final TokenTier tier;
+        final int amount;
+        @Nullable
+        final String nodeId;
+
+        Step(StepType type, @Nullable TokenTier tier, int amount, @Nullable String nodeId) {
+            this.type = type;
+            this.tier = tier;
+            this.amount = amount;
+            this.nodeId = nodeId;
+        }
+    }
+
+    private final PlayerSkillTreeData data;
+    private final String skillId;
+    private final String reason;
+    private final List<Step> steps = new ArrayList<>();
+    private boolean committed;
+
+    TreeTransaction(@Nonnull PlayerSkillTreeData data, @Nonnull String skillId, @Nonnull String reason) {
+        this.data = data;
+        this.skillId = skillId;
+        this.reason = reason;
+    }
+
+    /**
+     * Spend tokens from the lowest tier at or above the required one that covers the whole cost
+     */
+    public TreeTransaction spend(@Nonnull TokenTier requiredTier, int cost) {
+        steps.add(new Step(StepType.SPEND, requiredTier, Math.max(0, cost), null));
+        return this;
+    }
+
+    /**
+     * Add tokens of a tier; a negative amount removes them and fails the transaction if there aren't enough
+     */
+    public TreeTransaction grant(@Nonnull TokenTier tier, int amount) {
+        steps.add(new Step(StepType.GRANT, tier, amount, null));
+        return this;
+    }
+
+    /**
+     * Set a node's level; 0 locks it
+     */
+    public TreeTransaction setLevel(@Nonnull String nodeId, int level) {
+        steps.add(new Step(StepType.SET_LEVEL, null, Math.max(0, level), nodeId));
+        return this;
+    }
+
+    /**
+     * Apply every step, or none of them
+     * @param stats Stats to apply node contribution changes to, or null to leave them as they are
+     * @return The ledger entry, or null if a step failed and nothing was changed
+     */
+    @Nullable
+    public TreeLedgerEntry commit(@Nullable ProfileStats stats) {
+        if (committed) {
+            throw new IllegalStateException("Transaction already committed");
+        }
+        committed = true;
+        return data.commit(this, stats);
+    }
+
+    String getSkillId() {
+        return skillId;
+    }
+
+    String getReason() {
+        return reason;
+    }
+
+    List<Step> getSteps() {
+        return steps;
+    }
+}
@@ -0,0 +1,138 @@
+package com.veilcore.skills.xp;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.annotation.Nonnull;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+/**
+ * Combat XP per NPC role, mapped from combat_xp.json.
+ * The bundled default is copied to plugins/VeilCore/combat_xp.json on first start so XP can be tuned without
+ * code. Roles are listed by name here and resolved to NPC role indices by CombatXpTable.
+ */
+public class CombatXpDefinitions {
+
+    public static final String FILE_NAME = "combat_xp.json";
+    private static final String DEFAULT_RESOURCE = "/veilcore/" + FILE_NAME;
+
+    private static final Gson GSON = new Gson();
+
+    private long defaultXp = 10;
+    private double assistShare = 0.5;
+    private double minAssistDamage = 0.1;
+    private Map<String, Long> roles = new LinkedHashMap<>();
+
+    /**
+     * @return Base XP for a kill of a role that isn't listed
+     */
+    public long getDefaultXp() {
+        return defaultXp;
+    }
+
+    /**
+     * @return Fraction of the base XP an assisting player gets
+     */
+    public double getAssistShare() {
+        return assistShare;
+    }
+
+    /**
+     * @return Fraction of the NPC's recorded damage a player must have dealt to count as assisting
+     */
+    public double getMinAssistDamage() {
+        return minAssistDamage;
+    }
+
+    /**
+     * @return Role name -> base XP for the kill
+     */
+    public Map<String, Long> getRoles() {
+        return roles;
+    }
+
+    /**
+     * Load the definitions from the plugin's data folder, writing the bundled default first if missing.
+     * Falls back to the bundled default if the file can't be read or parsed.
+     *
+     * @param dataFolder The plugin data folder
+     * @param logger Logger for load errors
+     * @return The loaded definitions
+     */
+    @Nonnull
+    public static CombatXpDefinitions load(@Nonnull File dataFolder, @Nonnull Logger logger) {
+        File file = new File(dataFolder, FILE_NAME);
+
+        if (!file.exists()) {
+            try (InputStream in = CombatXpDefinitions.class.getResourceAsStream(DEFAULT_RESOURCE)) {
+                if (in != null) {
+                    dataFolder.mkdirs();
+                    Files.copy(in, file.toPath());
+                }
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "Failed to write default " + FILE_NAME, e);
+            }
+        }
+
+        if (file.exists()) {
+            try (Reader reader = new FileReader(file, StandardCharsets.UTF_8)) {
+                CombatXpDefinitions definitions = GSON.fromJson(reader, CombatXpDefinitions.class);
+                if (definitions != null) {
+                    return definitions.validated(logger);
+                }
+            } catch (IOException | JsonParseException e) {
+                logger.log(Level.SEVERE, "Failed to load " + file.getPath() + ", using bundled defaults", e);
+            }
+        }
+
+        return loadDefaults(logger);
+    }
+
+    /**
+     * Load the definitions bundled in the plugin jar
+     */
+    @Nonnull
+    public static CombatXpDefinitions loadDefaults(@Nonnull Logger logger) {
+        try (InputStream in = CombatXpDefinitions.class.getResourceAsStream(DEFAULT_RESOURCE)) {
+            if (in != null) {
+                CombatXpDefinitions definitions = GSON.fromJson(new InputStreamReader(in, StandardCharsets.UTF_8), CombatXpDefinitions.class);
+                if (definitions != null) {
+                    return definitions.validated(logger);
+                }
+            }
+        } catch (IOException | JsonParseException e) {
+            logger.log(Level.SEVERE, "Failed to load bundled " + FILE_NAME, e);
+        }
+        return new CombatXpDefinitions();
+    }
+
+    /**
+     * Drop entries with missing values and clamp the shares
+     */
+    private CombatXpDefinitions validated(Logger logger) {
+        if (roles == null) roles = new LinkedHashMap<>();
+        roles.entrySet().removeIf(role -> {
+            boolean invalid = role.getKey() == null || role.getKey().isEmpty() || role.getValue() == null || role.getValue() < 0;
+            if (invalid) {
+                logger.log(Level.WARNING, "Skipping role without a name or valid xp in " + FILE_NAME);
+            }
+            return invalid;
+        });
+        defaultXp = Math.max(0, defaultXp);
+        assistShare = Math.max(0, Math.min(1, assistShare));
+        minAssistDamage = Math.max(0, Math.min(1, minAssistDamage));
+        return this;
+    }
+}
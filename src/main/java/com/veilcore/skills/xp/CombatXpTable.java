@@ -0,0 +1,128 @@
+package com.veilcore.skills.xp;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.annotation.Nonnull;
+
+import com.hypixel.hytale.server.npc.AllNPCsLoadedEvent;
+import com.hypixel.hytale.server.npc.NPCPlugin;
+
+/**
+ * Combat XP per kill, indexed by NPC role index
+ * The role names in combat_xp.json are resolved through NPCPlugin into a long[] on the first lookup after a
+ * reload (NPC roles aren't loaded yet when the plugin sets up), and the result is published through an
+ * AtomicReference. A kill then looks its XP up with a bounds check and an array load instead of a string map.
+ * A table is only kept once every role resolved, or once NPC roles have finished loading so the missing ones
+ * are really unknown; until then each lookup resolves again. NPC role reloads drop the table.
+ */
+public class CombatXpTable {
+
+    private static final long UNMAPPED = -1;
+
+    private final AtomicReference<CombatXpDefinitions> definitions = new AtomicReference<>(new CombatXpDefinitions());
+    private final AtomicReference<long[]> xpByRole = new AtomicReference<>();
+    private volatile boolean rolesLoaded;
+    private final File dataFolder;
+    private final Logger logger;
+
+    public CombatXpTable(@Nonnull File dataFolder, @Nonnull Logger logger) {
+        this.dataFolder = dataFolder;
+        this.logger = logger;
+    }
+
+    /**
+     * Re-read combat_xp.json; role names are resolved again on the next lookup
+     * @return The new definitions
+     */
+    @Nonnull
+    public synchronized CombatXpDefinitions reload() {
+        CombatXpDefinitions loaded = CombatXpDefinitions.load(dataFolder, logger);
+        definitions.set(loaded);
+        xpByRole.set(null);
+        return loaded;
+    }
+
+    /**
+     * NPC role reload hook, registered for AllNPCsLoadedEvent; role indices may have moved
+     */
+    public void onNPCsLoaded(@Nonnull AllNPCsLoadedEvent event) {
+        rolesLoaded = true;
+        xpByRole.set(null);
+    }
+
+    @Nonnull
+    public CombatXpDefinitions getDefinitions() {
+        return definitions.get();
+    }
+
+    /**
+     * Base XP for killing an NPC
+     * @param roleIndex The NPC's role index
+     * @return The role's XP, or the default XP if the role isn't listed
+     */
+    public long getXp(int roleIndex) {
+        long[] table = xpByRole.get();
+        if (table == null) {
+            table = resolve();
+        }
+        long xp = roleIndex >= 0 && roleIndex < table.length ? table[roleIndex] : UNMAPPED;
+        return xp != UNMAPPED ? xp : definitions.get().getDefaultXp();
+    }
+
+    public double getAssistShare() {
+        return definitions.get().getAssistShare();
+    }
+
+    public double getMinAssistDamage() {
+        return definitions.get().getMinAssistDamage();
+    }
+
+    /**
+     * Build the role index table from the current definitions
+     * Published only if it is complete or NPC roles are loaded; otherwise the caller uses it once.
+     */
+    private synchronized long[] resolve() {
+        long[] table = xpByRole.get();
+        if (table != null) {
+            return table;
+        }
+
+        NPCPlugin npcPlugin = NPCPlugin.get();
+        boolean definitive = npcPlugin != null && rolesLoaded;
+        int unresolved = 0;
+        Map<String, Long> roles = definitions.get().getRoles();
+        int[] indices = new int[roles.size()];
+        long[] values = new long[roles.size()];
+        int count = 0;
+        int maxIndex = -1;
+        for (Map.Entry<String, Long> role : roles.entrySet()) {
+            int index = npcPlugin != null ? npcPlugin.getIndex(role.getKey()) : -1;
+            if (index < 0) {
+                if (definitive) {
+                    logger.log(Level.WARNING, "Unknown NPC role '" + role.getKey() + "' in " + CombatXpDefinitions.FILE_NAME);
+                }
+                unresolved++;
+                continue;
+            }
+            indices[count] = index;
+            values[count] = role.getValue();
+            count++;
+            maxIndex = Math.max(maxIndex, index);
+        }
+
+        table = new long[maxIndex + 1];
+        Arrays.fill(table, UNMAPPED);
+        for (int i = 0; i < count; i++) {
+            table[indices[i]] = values[i];
+        }
+        if (npcPlugin != null && (unresolved == 0 || definitive)) {
+            xpByRole.set(table);
+        }
+        return table;
+    }
+}
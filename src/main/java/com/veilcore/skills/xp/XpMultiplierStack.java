@@ -0,0 +1,149 @@
+package com.veilcore.skills.xp;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.veilcore.profile.Profile;
+import com.veilcore.skills.Skill;
+import com.veilcore.skills.trees.PlayerSkillTreeData;
+import com.veilcore.skills.trees.SkillTreeRegistry;
+
+/**
+ * Layered XP multipliers per player and skill
+ * Sources are skill tree XP boost nodes (their value from skill_trees.json), server-wide bonuses (events) and per-player bonuses (parties).
+ * Each source multiplies in as (1 + percent / 100). The product per skill is cached per player and only
+ * rebuilt when the player's profile, their tree nodes, the skill tree version or any bonus changes.
+ */
+public class XpMultiplierStack {
+
+    /**
+     * Tree node that boosts a skill's XP, e.g. "mining_xp_boost"; its declared value is the bonus in percent
+     */
+    public static final String XP_BOOST_NODE_SUFFIX = "_xp_boost";
+
+    private static final Skill[] SKILLS = Skill.values();
+
+    /**
+     * A bonus from one source; a null skill applies to every skill
+     */
+    private static final class Bonus {
+        @Nullable
+        private final Skill skill;
+        private final double percent;
+
+        private Bonus(@Nullable Skill skill, double percent) {
+            this.skill = skill;
+            this.percent = percent;
+        }
+
+        private double factor(Skill target) {
+            return skill == null || skill == target ? 1.0 + percent / 100.0 : 1.0;
+        }
+    }
+
+    private static final class Cached {
+        private final UUID profileId;
+        private final int version;
+        private final int treeVersion;
+        private final double[] multipliers = new double[SKILLS.length];
+
+        private Cached(UUID profileId, int version, int treeVersion) {
+            this.profileId = profileId;
+            this.version = version;
+            this.treeVersion = treeVersion;
+        }
+    }
+
+    private final Map<String, Bonus> globalBonuses = new ConcurrentHashMap<>();
+    private final Map<UUID, Map<String, Bonus>> playerBonuses = new ConcurrentHashMap<>();
+    private final Map<UUID, Cached> cache = new ConcurrentHashMap<>();
+    // Bumped whenever a server-wide bonus changes, which affects every cached entry
+    private final AtomicInteger globalVersion = new AtomicInteger();
+
+    /**
+     * Get the combined multiplier for a skill, rebuilding the player's cached stack if it is out of date
+     */
+    public double getMultiplier(@Nonnull UUID playerUuid, @Nonnull Profile profile, @Nonnull Skill skill) {
+        int version = globalVersion.get();
+        Cached cached = cache.get(playerUuid);
+        if (cached == null || cached.version != version || cached.treeVersion != SkillTreeRegistry.getInstance().getVersion()
+                || !cached.profileId.equals(profile.getProfileId())) {
+            cached = build(playerUuid, profile, version);
+            cache.put(playerUuid, cached);
+        }
+        return cached.multipliers[skill.ordinal()];
+    }
+
+    private Cached build(UUID playerUuid, Profile profile, int version) {
+        PlayerSkillTreeData treeData = profile.getSkills().getTreeData();
+        Cached cached = new Cached(profile.getProfileId(), version, treeData.getTreeVersion());
+        Map<String, Bonus> personal = playerBonuses.get(playerUuid);
+
+        for (Skill skill : SKILLS) {
+            double boostPercent = treeData.getNodeValue(skill.getId(), skill.getId() + XP_BOOST_NODE_SUFFIX);
+            double multiplier = 1.0 + boostPercent / 100.0;
+            for (Bonus bonus : globalBonuses.values()) {
+                multiplier *= bonus.factor(skill);
+            }
+            if (personal != null) {
+                for (Bonus bonus : personal.values()) {
+                    multiplier *= bonus.factor(skill);
+                }
+            }
+            cached.multipliers[skill.ordinal()] = Math.max(0.0, multiplier);
+        }
+        return cached;
+    }
+
+    /**
+     * Set or replace a server-wide bonus, e.g. a weekend XP event
+     * @param sourceId Unique source key, used to remove it later
+     * @param skill The skill boosted, or null for all skills
+     * @param percent Bonus in percent (50 = 1.5x)
+     */
+    public void setGlobalBonus(@Nonnull String sourceId, @Nullable Skill skill, double percent) {
+        globalBonuses.put(sourceId, new Bonus(skill, percent));
+        globalVersion.incrementAndGet();
+    }
+
+    public void removeGlobalBonus(@Nonnull String sourceId) {
+        if (globalBonuses.remove(sourceId) != null) {
+            globalVersion.incrementAndGet();
+        }
+    }
+
+    /**
+     * Set or replace a bonus for one player, e.g. a party bonus
+     */
+    public void setPlayerBonus(@Nonnull UUID playerUuid, @Nonnull String sourceId, @Nullable Skill skill, double percent) {
+        playerBonuses.computeIfAbsent(playerUuid, uuid -> new ConcurrentHashMap<>()).put(sourceId, new Bonus(skill, percent));
+        invalidate(playerUuid);
+    }
+
+    public void removePlayerBonus(@Nonnull UUID playerUuid, @Nonnull String sourceId) {
+        Map<String, Bonus> personal = playerBonuses.get(playerUuid);
+        if (personal != null && personal.remove(sourceId) != null) {
+            invalidate(playerUuid);
+        }
+    }
+
+    /**
+     * Drop a player's cached stack; call when their XP boost nodes change
+     */
+    public void invalidate(@Nonnull UUID playerUuid) {
+        cache.remove(playerUuid);
+    }
+
+    /**
+     * Forget everything held for a player, e.g. on disconnect
+     */
+    public void remove(@Nonnull UUID playerUuid) {
+        cache.remove(playerUuid);
+        playerBonuses.remove(playerUuid);
+    }
+}
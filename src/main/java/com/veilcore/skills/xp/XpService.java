@@ -0,0 +1,232 @@
+package com.veilcore.skills.xp;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.veilcore.profile.PlayerProfileManager;
+import com.veilcore.profile.Profile;
+import com.veilcore.skills.Skill;
+import com.veilcore.skills.notifications.XpNotificationQueue;
+
+/**
+ * Single entry point for skill XP
+ * Gathering code queues base XP with {@link #grant}; once per tick XpFlushSystem calls {@link #flush(UUID)}
+ * on the world thread that owns the player, which merges the player's grants per skill, applies the cached
+ * multiplier stack, adds the XP in one step, fires level-up listeners once per skill and batch, and marks the
+ * profile dirty so the periodic save picks it up. Flushing on the world thread keeps skill and tree changes on
+ * the same thread as the pages and transactions that read them; the profile's monitor is still held for the
+ * off-thread flushes on disconnect and shutdown.
+ * Also keeps a rolling XP/second rate per skill.
+ */
+public class XpService implements Runnable {
+
+    private static final Skill[] SKILLS = Skill.values();
+    private static final int RATE_WINDOW_SECONDS = 60;
+
+    /**
+     * Notified once per skill and batch when a player gains levels; tokens for those levels are already awarded
+     */
+    @FunctionalInterface
+    public interface LevelUpListener {
+        void onLevelUp(@Nonnull UUID playerUuid, @Nonnull Profile profile, @Nonnull Skill skill, int fromLevel, int toLevel);
+    }
+
+    /**
+     * Base XP queued for one skill since the last flush
+     */
+    private static final class PendingGrant {
+        private long xp;
+        private int actions;
+        private String unit;
+        @Nullable
+        private String detail;
+    }
+
+    private final PlayerProfileManager profileManager;
+    private final XpNotificationQueue notifications;
+    private final Logger logger;
+    private final XpMultiplierStack multipliers = new XpMultiplierStack();
+    private final Map<UUID, Map<Skill, PendingGrant>> pending = new ConcurrentHashMap<>();
+    private final List<LevelUpListener> levelUpListeners = new CopyOnWriteArrayList<>();
+
+    // XP applied per skill in each of the last RATE_WINDOW_SECONDS seconds
+    private final long[][] rateBuckets = new long[SKILLS.length][RATE_WINDOW_SECONDS];
+    private long rateSecond;
+
+    public XpService(@Nonnull PlayerProfileManager profileManager, @Nonnull XpNotificationQueue notifications, @Nonnull Logger logger) {
+        this.profileManager = profileManager;
+        this.notifications = notifications;
+        this.logger = logger;
+        addLevelUpListener((playerUuid, profile, skill, fromLevel, toLevel) ->
+            notifications.levelUp(playerUuid, skill, toLevel, toLevel - fromLevel));
+    }
+
+    @Nonnull
+    public XpMultiplierStack getMultipliers() {
+        return multipliers;
+    }
+
+    public void addLevelUpListener(@Nonnull LevelUpListener listener) {
+        levelUpListeners.add(listener);
+    }
+
+    /**
+     * Queue base XP for the next flush; multipliers are applied when it is flushed
+     * @param playerUuid The player
+     * @param skill The skill the XP goes to
+     * @param xp Base XP before multipliers
+     * @param actions How many gathering actions the XP is for (ores mined, trees felled...)
+     * @param unit Plural name of the action, shown when several are merged ("ores")
+     * @param detail Secondary line for the toast; the latest one is shown
+     */
+    public void grant(@Nonnull UUID playerUuid, @Nonnull Skill skill, long xp, int actions, @Nonnull String unit, @Nullable String detail) {
+        if (xp <= 0) {
+            return;
+        }
+        Map<Skill, PendingGrant> grants = pending.computeIfAbsent(playerUuid, uuid -> new EnumMap<>(Skill.class));
+        synchronized (grants) {
+            PendingGrant grant = grants.computeIfAbsent(skill, s -> new PendingGrant());
+            grant.xp += xp;
+            grant.actions += actions;
+            grant.unit = unit;
+            grant.detail = detail;
+        }
+    }
+
+    /**
+     * Apply an exact amount straight away, without multipliers (admin commands, rewards)
+     * @return Number of levels gained
+     */
+    public int applyNow(@Nonnull UUID playerUuid, @Nonnull Profile profile, @Nonnull Skill skill, long xp) {
+        synchronized (profile) {
+            return apply(playerUuid, profile, skill, xp);
+        }
+    }
+
+    /**
+     * Apply every player's queued grants, e.g. on shutdown after the worlds stopped ticking
+     */
+    @Override
+    public void run() {
+        try {
+            advanceRateWindow(System.currentTimeMillis() / 1000);
+
+            for (Map.Entry<UUID, Map<Skill, PendingGrant>> entry : pending.entrySet()) {
+                flush(entry.getKey(), entry.getValue());
+            }
+        } catch (Exception e) {
+            logger.log(Level.WARNING, "Error applying queued XP", e);
+        }
+    }
+
+    /**
+     * Apply one player's queued grants; called each tick from the player's world thread
+     */
+    public void flush(@Nonnull UUID playerUuid) {
+        Map<Skill, PendingGrant> grants = pending.get(playerUuid);
+        if (grants != null) {
+            flush(playerUuid, grants);
+        }
+    }
+
+    private void flush(UUID playerUuid, Map<Skill, PendingGrant> grants) {
+        PendingGrant[] batch;
+        synchronized (grants) {
+            if (grants.isEmpty()) {
+                return;
+            }
+            batch = new PendingGrant[SKILLS.length];
+            for (Map.Entry<Skill, PendingGrant> grant : grants.entrySet()) {
+                batch[grant.getKey().ordinal()] = grant.getValue();
+            }
+            grants.clear();
+        }
+
+        Profile profile = profileManager.getActiveProfile(playerUuid);
+        if (profile == null) {
+            logger.log(Level.WARNING, "Dropping queued XP for " + playerUuid + ": no active profile");
+            return;
+        }
+
+        synchronized (profile) {
+            for (Skill skill : SKILLS) {
+                PendingGrant grant = batch[skill.ordinal()];
+                if (grant == null) {
+                    continue;
+                }
+                long xp = Math.round(grant.xp * multipliers.getMultiplier(playerUuid, profile, skill));
+                apply(playerUuid, profile, skill, xp);
+                notifications.addXp(playerUuid, skill, xp, grant.actions, grant.unit, grant.detail);
+            }
+        }
+    }
+
+    private int apply(UUID playerUuid, Profile profile, Skill skill, long xp) {
+        if (xp <= 0) {
+            return 0;
+        }
+        int fromLevel = profile.getSkills().getLevel(skill);
+        int levelsGained = profile.getSkills().addXp(skill, xp);
+        profile.markDirty();
+        recordRate(skill, xp);
+
+        if (levelsGained > 0) {
+            for (LevelUpListener listener : levelUpListeners) {
+                listener.onLevelUp(playerUuid, profile, skill, fromLevel, fromLevel + levelsGained);
+            }
+        }
+        return levelsGained;
+    }
+
+    /**
+     * Apply a player's queued grants and forget them; call on disconnect before the profile is saved
+     */
+    public void remove(@Nonnull UUID playerUuid) {
+        Map<Skill, PendingGrant> grants = pending.remove(playerUuid);
+        if (grants != null) {
+            flush(playerUuid, grants);
+        }
+        multipliers.remove(playerUuid);
+    }
+
+    /**
+     * @return Average XP applied per second to a skill over the last minute, across all players
+     */
+    public synchronized double getXpPerSecond(@Nonnull Skill skill) {
+        advanceRateWindow(System.currentTimeMillis() / 1000);
+        long total = 0;
+        for (long xp : rateBuckets[skill.ordinal()]) {
+            total += xp;
+        }
+        return (double) total / RATE_WINDOW_SECONDS;
+    }
+
+    private synchronized void recordRate(Skill skill, long xp) {
+        advanceRateWindow(System.currentTimeMillis() / 1000);
+        rateBuckets[skill.ordinal()][(int) (rateSecond % RATE_WINDOW_SECONDS)] += xp;
+    }
+
+    private synchronized void advanceRateWindow(long second) {
+        if (second <= rateSecond) {
+            return;
+        }
+        // Clear the buckets of the seconds skipped since the last update
+        long cleared = Math.min(second - rateSecond, RATE_WINDOW_SECONDS);
+        for (long s = second - cleared + 1; s <= second; s++) {
+            int bucket = (int) (s % RATE_WINDOW_SECONDS);
+            for (long[] buckets : rateBuckets) {
+                buckets[bucket] = 0;
+            }
+        }
+        rateSecond = second;
+    }
+}
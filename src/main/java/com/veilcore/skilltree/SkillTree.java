@@ -1,6 +1,7 @@
 package com.veilcore.skilltree;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -10,8 +11,11 @@ import java.util.Set;
 /**
  * Represents a player's skill tree progress for a specific skill
  * Now uses tier-based system with multiple reward choices per tier
+ * The tier list is built once per skill and shared by every instance; only claims are per player
  */
 public class SkillTree {
+    private static final List<SkillTreeTier> MINING_TIERS = Collections.unmodifiableList(buildMiningTiers());
+
     private final String skillName;
     private final List<SkillTreeTier> tiers;
     private final Map<Integer, Set<String>> claimedRewards; // Tier -> Set of claimed reward IDs
@@ -19,21 +23,21 @@ public class SkillTree {
     
     public SkillTree(String skillName) {
         this.skillName = skillName;
-        this.tiers = new ArrayList<>();
+        this.tiers = tiersFor(skillName);
         this.claimedRewards = new HashMap<>();
         this.skillLevel = 1;
-        
-        // Initialize tiers
-        initializeTiers();
     }
     
-    private void initializeTiers() {
+    private static List<SkillTreeTier> tiersFor(String skillName) {
         if ("mining".equalsIgnoreCase(skillName)) {
-            initializeMiningTiers();
+            return MINING_TIERS;
         }
+        return Collections.emptyList();
     }
     
-    private void initializeMiningTiers() {
+    private static List<SkillTreeTier> buildMiningTiers() {
+        List<SkillTreeTier> tiers = new ArrayList<>();
+        
         // Tier 1 - Level 5 (2 rewards, select 1)
         SkillTreeTier tier1 = new SkillTreeTier(1, 5, 1);
         tier1.addReward(new SkillTreeReward("t1_fortune1", "Lucky Strike I", "+2 Mining Fortune", SkillTreeReward.RewardType.MINING_FORTUNE, 2));
@@ -112,6 +116,7 @@ public class SkillTree {
         tier10.addReward(new SkillTreeReward("t10_defense4", "Legendary Stone Skin", "+8 Defense", SkillTreeReward.RewardType.DEFENSE, 8));
         tier10.addReward(new SkillTreeReward("t10_xp6", "Mining Grandmaster", "+40% Mining XP", SkillTreeReward.RewardType.XP_BOOST, 0.40));
         tiers.add(tier10);
+        return tiers;
     }
     
     public String getSkillName() {
@@ -131,10 +136,12 @@ public class SkillTree {
     }
     
     public SkillTreeTier getTier(int tierNumber) {
-        return tiers.stream()
-                .filter(t -> t.getTierNumber() == tierNumber)
-                .findFirst()
-                .orElse(null);
+        for (SkillTreeTier tier : tiers) {
+            if (tier.getTierNumber() == tierNumber) {
+                return tier;
+            }
+        }
+        return null;
     }
     
     /**
@@ -152,7 +159,7 @@ public class SkillTree {
         SkillTreeTier tier = getTier(tierNumber);
         if (tier == null) return false;
         
-        Set<String> claimed = claimedRewards.getOrDefault(tierNumber, new HashSet<>());
+        Set<String> claimed = claimedRewards.getOrDefault(tierNumber, Collections.emptySet());
         return claimed.size() >= tier.getRequiredSelections();
     }
     
@@ -173,7 +180,7 @@ public class SkillTree {
      * Check if a specific reward is claimed
      */
     public boolean isRewardClaimed(int tierNumber, String rewardId) {
-        Set<String> claimed = claimedRewards.getOrDefault(tierNumber, new HashSet<>());
+        Set<String> claimed = claimedRewards.getOrDefault(tierNumber, Collections.emptySet());
         return claimed.contains(rewardId);
     }
     
@@ -243,7 +250,7 @@ public class SkillTree {
      * Get number of claimed rewards in a tier
      */
     public int getClaimedCount(int tierNumber) {
-        return claimedRewards.getOrDefault(tierNumber, new HashSet<>()).size();
+        return claimedRewards.getOrDefault(tierNumber, Collections.emptySet()).size();
     }
     
     public enum TierStatus {
@@ -0,0 +1,245 @@
+package com.veilcore.telemetry;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.hypixel.hytale.codec.Codec;
+import com.hypixel.hytale.metrics.MetricResults;
+import com.hypixel.hytale.metrics.MetricsRegistry;
+
+/**
+ * Lock-free combat counters for balance tuning
+ * Tracks damage and heal totals per player and per NPC role, damage/heal histograms,
+ * crit and lifesteal proc rates and a rolling DPS window.
+ * Recording a hit only touches LongAdders and atomic arrays.
+ */
+public class CombatTelemetry {
+
+    /** Amounts are stored in hundredths so fractional damage is not lost */
+    private static final double AMOUNT_SCALE = 100.0;
+    private static final int DPS_WINDOW_SECONDS = 60;
+
+    private static final MetricsRegistry<CombatTelemetry> METRICS_REGISTRY = new MetricsRegistry<CombatTelemetry>()
+        .register("MeleeHits", t -> t.meleeHits.sum(), Codec.LONG)
+        .register("RangedHits", t -> t.rangedHits.sum(), Codec.LONG)
+        .register("CriticalHits", t -> t.criticalHits.sum(), Codec.LONG)
+        .register("CriticalRate", CombatTelemetry::getCriticalRate, Codec.DOUBLE)
+        .register("LifestealProcs", t -> t.lifestealProcs.sum(), Codec.LONG)
+        .register("LifestealRate", CombatTelemetry::getLifestealRate, Codec.DOUBLE)
+        .register("DamageDealt", CombatTelemetry::getTotalDamage, Codec.DOUBLE)
+        .register("LifestealHealed", CombatTelemetry::getTotalHealed, Codec.DOUBLE)
+        .register("DamagePerSecond", CombatTelemetry::getDamagePerSecond, Codec.DOUBLE)
+        .register("DamageP50", t -> t.damageHistogram.getPercentile(50), Codec.DOUBLE)
+        .register("DamageP95", t -> t.damageHistogram.getPercentile(95), Codec.DOUBLE)
+        .register("DamageP99", t -> t.damageHistogram.getPercentile(99), Codec.DOUBLE)
+        .register("DamageHistogram", t -> t.damageHistogram.getBucketCounts(), Codec.LONG_ARRAY)
+        .register("HealHistogram", t -> t.healHistogram.getBucketCounts(), Codec.LONG_ARRAY)
+        .register("TrackedPlayers", t -> t.playerCounters.size(), Codec.INTEGER)
+        .register("TrackedRoles", t -> t.roleCounters.size(), Codec.INTEGER);
+
+    private final LongAdder meleeHits = new LongAdder();
+    private final LongAdder rangedHits = new LongAdder();
+    private final LongAdder criticalHits = new LongAdder();
+    private final LongAdder lifestealProcs = new LongAdder();
+    private final LongAdder damageDealt = new LongAdder();
+    private final LongAdder healed = new LongAdder();
+    private final DamageHistogram damageHistogram = new DamageHistogram(AMOUNT_SCALE);
+    private final DamageHistogram healHistogram = new DamageHistogram(AMOUNT_SCALE);
+    private final RateWindow damageWindow = new RateWindow(DPS_WINDOW_SECONDS);
+    private final Map<UUID, CombatCounters> playerCounters = new ConcurrentHashMap<>();
+    private final Map<String, CombatCounters> roleCounters = new ConcurrentHashMap<>();
+
+    /**
+     * Record a player hit after damage bonuses have been applied
+     * @param attacker UUID of the attacking player
+     * @param targetRole NPC role of the target, or null if the target is not an NPC
+     * @param amount Final damage amount
+     * @param melee true for melee, false for ranged
+     * @param critical true if the hit was a critical hit
+     */
+    public void recordHit(@Nonnull UUID attacker, @Nullable String targetRole, float amount, boolean melee, boolean critical) {
+        long scaled = (long) (amount * AMOUNT_SCALE);
+
+        (melee ? meleeHits : rangedHits).increment();
+        if (critical) {
+            criticalHits.increment();
+        }
+        damageDealt.add(scaled);
+        damageHistogram.record(amount);
+        damageWindow.add(scaled);
+
+        playerCounters.computeIfAbsent(attacker, k -> new CombatCounters()).recordHit(scaled, critical);
+        if (targetRole != null) {
+            roleCounters.computeIfAbsent(targetRole, k -> new CombatCounters()).recordHit(scaled, critical);
+        }
+    }
+
+    /**
+     * Record a lifesteal heal
+     * @param attacker UUID of the healed player
+     * @param amount Health restored
+     */
+    public void recordLifesteal(@Nonnull UUID attacker, float amount) {
+        long scaled = (long) (amount * AMOUNT_SCALE);
+
+        lifestealProcs.increment();
+        healed.add(scaled);
+        healHistogram.record(amount);
+
+        playerCounters.computeIfAbsent(attacker, k -> new CombatCounters()).recordHeal(scaled);
+    }
+
+    /**
+     * Drop the counters of a player who left
+     * @param playerUUID The player's UUID
+     */
+    public void removePlayer(@Nonnull UUID playerUUID) {
+        playerCounters.remove(playerUUID);
+    }
+
+    /**
+     * Clear every counter
+     */
+    public void reset() {
+        meleeHits.reset();
+        rangedHits.reset();
+        criticalHits.reset();
+        lifestealProcs.reset();
+        damageDealt.reset();
+        healed.reset();
+        damageHistogram.reset();
+        healHistogram.reset();
+        playerCounters.clear();
+        roleCounters.clear();
+    }
+
+    @Nonnull
+    public MetricResults toMetricResults() {
+        return METRICS_REGISTRY.toMetricResults(this);
+    }
+
+    public long getMeleeHits() {
+        return meleeHits.sum();
+    }
+
+    public long getRangedHits() {
+        return rangedHits.sum();
+    }
+
+    public long getCriticalHits() {
+        return criticalHits.sum();
+    }
+
+    public long getLifestealProcs() {
+        return lifestealProcs.sum();
+    }
+
+    /**
+     * @return Critical hits as a percentage of melee hits
+     */
+    public double getCriticalRate() {
+        long melee = meleeHits.sum();
+        return melee == 0 ? 0.0 : criticalHits.sum() * 100.0 / melee;
+    }
+
+    /**
+     * @return Lifesteal procs as a percentage of melee hits
+     */
+    public double getLifestealRate() {
+        long melee = meleeHits.sum();
+        return melee == 0 ? 0.0 : lifestealProcs.sum() * 100.0 / melee;
+    }
+
+    public double getTotalDamage() {
+        return damageDealt.sum() / AMOUNT_SCALE;
+    }
+
+    public double getTotalHealed() {
+        return healed.sum() / AMOUNT_SCALE;
+    }
+
+    /**
+     * @return Server-wide player damage per second over the rolling window
+     */
+    public double getDamagePerSecond() {
+        return damageWindow.getRatePerSecond() / AMOUNT_SCALE;
+    }
+
+    public int getDpsWindowSeconds() {
+        return damageWindow.getSeconds();
+    }
+
+    @Nonnull
+    public DamageHistogram getDamageHistogram() {
+        return damageHistogram;
+    }
+
+    @Nonnull
+    public DamageHistogram getHealHistogram() {
+        return healHistogram;
+    }
+
+    @Nullable
+    public CombatCounters getPlayerCounters(@Nonnull UUID playerUUID) {
+        return playerCounters.get(playerUUID);
+    }
+
+    @Nonnull
+    public Map<String, CombatCounters> getRoleCounters() {
+        return roleCounters;
+    }
+
+    /**
+     * Hit, crit, damage and heal totals for one player or NPC role
+     */
+    public static final class CombatCounters {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder crits = new LongAdder();
+        private final LongAdder damage = new LongAdder();
+        private final LongAdder heals = new LongAdder();
+        private final LongAdder healed = new LongAdder();
+
+        private void recordHit(long scaledDamage, boolean critical) {
+            hits.increment();
+            if (critical) {
+                crits.increment();
+            }
+            damage.add(scaledDamage);
+        }
+
+        private void recordHeal(long scaledAmount) {
+            heals.increment();
+            healed.add(scaledAmount);
+        }
+
+        public long getHits() {
+            return hits.sum();
+        }
+
+        public long getCrits() {
+            return crits.sum();
+        }
+
+        public long getHeals() {
+            return heals.sum();
+        }
+
+        public double getDamage() {
+            return damage.sum() / AMOUNT_SCALE;
+        }
+
+        public double getHealed() {
+            return healed.sum() / AMOUNT_SCALE;
+        }
+
+        public double getCriticalRate() {
+            long total = hits.sum();
+            return total == 0 ? 0.0 : crits.sum() * 100.0 / total;
+        }
+    }
+}
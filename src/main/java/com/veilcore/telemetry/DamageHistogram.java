@@ -0,0 +1,109 @@
+package com.veilcore.telemetry;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-bucket histogram for damage and heal amounts
+ * Buckets are log-linear (four linear sub-buckets per power of two), similar to HDR histograms,
+ * so recording a value is one bucket computation and one LongAdder increment.
+ */
+public class DamageHistogram {
+
+    private static final int SUB_BUCKETS = 4;
+    private static final int MAX_EXPONENT = 24;
+    private static final int BUCKET_COUNT = SUB_BUCKETS + (MAX_EXPONENT - 1) * SUB_BUCKETS;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+    private final double scale;
+
+    /**
+     * @param scale Units per point recorded, e.g. 10 stores amounts with 0.1 precision
+     */
+    public DamageHistogram(double scale) {
+        this.scale = scale;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Record a single amount
+     * @param amount The damage or heal amount
+     */
+    public void record(float amount) {
+        buckets[bucketIndex((long) (amount * scale))].increment();
+    }
+
+    /**
+     * Estimate a percentile from the current bucket counts
+     * @param percentile Percentile in the range 0-100
+     * @return The upper bound of the bucket containing the percentile, in points
+     */
+    public double getPercentile(double percentile) {
+        long[] counts = getBucketCounts();
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0.0;
+        }
+
+        long target = (long) Math.ceil(total * (percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return bucketUpperBound(i) / scale;
+            }
+        }
+        return bucketUpperBound(counts.length - 1) / scale;
+    }
+
+    /**
+     * @return A snapshot of every bucket count
+     */
+    public long[] getBucketCounts() {
+        long[] counts = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    public long getTotalCount() {
+        long total = 0;
+        for (LongAdder bucket : buckets) {
+            total += bucket.sum();
+        }
+        return total;
+    }
+
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+    }
+
+    private static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) Math.max(value, 0);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent >= MAX_EXPONENT + 1) {
+            return BUCKET_COUNT - 1;
+        }
+        // value >> (exponent - 2) is in [4, 8), the low two bits pick the sub-bucket
+        int subBucket = (int) (value >> (exponent - 2)) - SUB_BUCKETS;
+        return SUB_BUCKETS + (exponent - 2) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index + 1;
+        }
+        int exponent = (index - SUB_BUCKETS) / SUB_BUCKETS + 2;
+        int subBucket = (index - SUB_BUCKETS) % SUB_BUCKETS;
+        return (long) (SUB_BUCKETS + subBucket + 1) << (exponent - 2);
+    }
+}
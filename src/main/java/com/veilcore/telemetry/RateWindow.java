@@ -0,0 +1,63 @@
+package com.veilcore.telemetry;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Sliding per-second totals kept in a fixed-size ring buffer
+ * Used for rolling rates such as damage per second without allocating per hit.
+ */
+public class RateWindow {
+
+    private final int seconds;
+    private final AtomicLongArray totals;
+    private final AtomicLongArray stamps;
+
+    /**
+     * @param seconds Length of the window in seconds
+     */
+    public RateWindow(int seconds) {
+        this.seconds = seconds;
+        this.totals = new AtomicLongArray(seconds);
+        this.stamps = new AtomicLongArray(seconds);
+    }
+
+    /**
+     * Add an amount to the current second's slot
+     * @param amount The amount to add
+     */
+    public void add(long amount) {
+        long now = System.currentTimeMillis() / 1000L;
+        int slot = (int) (now % seconds);
+        long stamp = stamps.get(slot);
+        if (stamp != now && stamps.compareAndSet(slot, stamp, now)) {
+            // First write into a recycled slot, drop the stale total
+            totals.set(slot, 0L);
+        }
+        totals.addAndGet(slot, amount);
+    }
+
+    /**
+     * @return Sum of every slot still inside the window
+     */
+    public long getTotal() {
+        long now = System.currentTimeMillis() / 1000L;
+        long total = 0;
+        for (int i = 0; i < seconds; i++) {
+            if (now - stamps.get(i) < seconds) {
+                total += totals.get(i);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * @return Average amount per second across the window
+     */
+    public double getRatePerSecond() {
+        return getTotal() / (double) seconds;
+    }
+
+    public int getSeconds() {
+        return seconds;
+    }
+}
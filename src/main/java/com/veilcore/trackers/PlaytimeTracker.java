@@ -1,6 +1,7 @@
 package com.veilcore.trackers;
 
 import com.veilcore.VeilCorePlugin;
+import com.veilcore.listeners.SurvivalNeedsSystem;
 import com.veilcore.profile.Profile;
 
 import java.util.UUID;
@@ -8,13 +9,18 @@ import java.util.logging.Level;
 
 /**
  * Tracks and updates player playtime for active profiles.
- * Runs every second to increment playtime, saves every 60 seconds to avoid log spam.
+ * Runs every second to increment playtime. Every 60 seconds it saves the profiles marked dirty (XP, kills,
+ * tree changes); playtime alone doesn't mark a profile dirty, so clean profiles are only rewritten every
+ * 10 minutes. Each save first copies the player's hunger state in on their world thread.
+ * Disconnect and shutdown save every active profile regardless.
  */
 public class PlaytimeTracker implements Runnable {
     
     private final VeilCorePlugin plugin;
     private int tickCounter = 0;
-    private static final int SAVE_INTERVAL = 60; // Save every 60 seconds
+    private int saveCounter = 0;
+    private static final int SAVE_INTERVAL = 60; // Save dirty profiles every 60 seconds
+    private static final int FULL_SAVE_SAVES = 10; // Save every profile every 10th save, for playtime
     
     public PlaytimeTracker(VeilCorePlugin plugin) {
         this.plugin = plugin;
@@ -25,6 +31,7 @@ public class PlaytimeTracker implements Runnable {
         try {
             tickCounter++;
             boolean shouldSave = (tickCounter >= SAVE_INTERVAL);
+            boolean fullSave = shouldSave && saveCounter + 1 >= FULL_SAVE_SAVES;
             
             // Get all players with active profiles and increment their playtime
             for (UUID playerUUID : plugin.getProfileManager().getActivePlayers()) {
@@ -35,9 +42,9 @@ public class PlaytimeTracker implements Runnable {
                         // Increment playtime by 1 second (in memory)
                         profile.getStats().incrementPlayTime(1);
                         
-                        // Save to disk every 60 seconds
-                        if (shouldSave) {
-                            plugin.getProfileManager().saveProfile(profile);
+                        // Save to disk every 60 seconds if something changed besides playtime
+                        if (shouldSave && (fullSave || profile.isDirty())) {
+                            SurvivalNeedsSystem.saveWithNeeds(plugin, playerUUID, profile);
                         }
                     }
                 }
@@ -46,6 +53,7 @@ public class PlaytimeTracker implements Runnable {
             // Reset counter after save
             if (shouldSave) {
                 tickCounter = 0;
+                saveCounter = fullSave ? 0 : saveCounter + 1;
             }
         } catch (Exception e) {
             plugin.getLogger().at(Level.WARNING).log("Error tracking playtime: " + e.getMessage());
@@ -0,0 +1,42 @@
+package com.veilcore.world;
+
+/**
+ * Packs block coordinates into a single long so scans can track positions without allocating
+ * Layout: x (26 bits, signed) | z (26 bits, signed) | y (12 bits, signed)
+ * That covers +/-33 million blocks horizontally and the full 0-319 build height.
+ */
+public final class BlockPos {
+
+    private static final int XZ_BITS = 26;
+    private static final int Y_BITS = 12;
+    private static final long XZ_MASK = (1L << XZ_BITS) - 1;
+    private static final long Y_MASK = (1L << Y_BITS) - 1;
+    private static final int Z_SHIFT = Y_BITS;
+    private static final int X_SHIFT = Y_BITS + XZ_BITS;
+
+    private BlockPos() {
+    }
+
+    public static long pack(int x, int y, int z) {
+        return ((x & XZ_MASK) << X_SHIFT) | ((z & XZ_MASK) << Z_SHIFT) | (y & Y_MASK);
+    }
+
+    public static int x(long packed) {
+        return (int) (packed >> X_SHIFT);
+    }
+
+    public static int y(long packed) {
+        return (int) (packed << (64 - Y_BITS) >> (64 - Y_BITS));
+    }
+
+    public static int z(long packed) {
+        return (int) (packed << (64 - X_SHIFT) >> (64 - XZ_BITS));
+    }
+
+    /**
+     * Offset a packed position without unpacking it to the caller
+     */
+    public static long offset(long packed, int dx, int dy, int dz) {
+        return pack(x(packed) + dx, y(packed) + dy, z(packed) + dz);
+    }
+}
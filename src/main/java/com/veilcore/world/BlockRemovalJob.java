@@ -0,0 +1,233 @@
+package com.veilcore.world;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.hypixel.hytale.math.util.ChunkUtil;
+import com.hypixel.hytale.math.vector.Vector3d;
+import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockBreakingDropType;
+import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockGathering;
+import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+import com.hypixel.hytale.server.core.modules.interaction.BlockHarvestUtils;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.chunk.WorldChunk;
+import com.veilcore.resources.ResourceSnapshot;
+
+/**
+ * A set of blocks to remove from one world, applied a chunk section at a time
+ * Positions are re-encoded as section-major sort keys and sorted once, so every block in a section is
+ * removed in the same tick and the section is only re-sent to clients once. Removed blocks are tallied
+ * by block ID and turned into merged drops when the job completes. Blocks placed by players are never removed.
+ */
+public final class BlockRemovalJob {
+
+    /**
+     * Decides at removal time whether the block currently at a position should still be removed
+     */
+    @FunctionalInterface
+    public interface Filter {
+        boolean matches(@Nonnull ResourceSnapshot resources, int blockId);
+    }
+
+    // setBlock settings bit that suppresses break particles; only the first block of each section shows them
+    private static final int SETTINGS_NO_PARTICLES = 4;
+
+    // Sort key layout: chunkX (21 bits) | chunkZ (21 bits) | sectionY (4 bits) | local x, z, y (5 bits each)
+    private static final int LOCAL_BITS = 15;
+    private static final long CHUNK_MASK = (1L << 21) - 1;
+
+    private final World world;
+    private final long[] keys;
+    private final Filter filter;
+    private final Vector3d dropPosition;
+    private final Map<Integer, Integer> removedCounts = new LinkedHashMap<>();
+    @Nullable
+    private Consumer<BlockRemovalJob> onComplete;
+    private int cursor;
+    private int removed;
+
+    /**
+     * @param world The world the blocks are in
+     * @param positions Packed positions (see {@link BlockPos}) to remove
+     * @param filter Re-checked against each block before removing it, since the world may have changed;
+     *               blocks placed by players since the scan are skipped as well
+     * @param dropPosition Where the merged drops are spawned
+     */
+    public BlockRemovalJob(@Nonnull World world, @Nonnull long[] positions, @Nonnull Filter filter, @Nonnull Vector3d dropPosition) {
+        this.world = world;
+        this.filter = filter;
+        this.dropPosition = dropPosition;
+        this.keys = new long[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            keys[i] = sortKey(BlockPos.x(positions[i]), BlockPos.y(positions[i]), BlockPos.z(positions[i]));
+        }
+        Arrays.sort(keys);
+    }
+
+    /**
+     * Remove blocks, whole sections at a time, until the budget is used up
+     * A section is only started if it fits in the remaining budget, except for the first section of
+     * the call so that a section larger than the budget still makes progress.
+     *
+     * @param resources Block classification tables for the filter
+     * @param budget Maximum blocks to process in this call
+     * @return Number of positions processed (removed or skipped)
+     */
+    public int process(@Nonnull ResourceSnapshot resources, int budget) {
+        int processed = 0;
+        while (cursor < keys.length) {
+            long section = keys[cursor] >>> LOCAL_BITS;
+            int end = cursor + 1;
+            while (end < keys.length && (keys[end] >>> LOCAL_BITS) == section) {
+                end++;
+            }
+            int sectionSize = end - cursor;
+            if (processed > 0 && processed + sectionSize > budget) {
+                break;
+            }
+
+            removeSection(resources, end);
+            processed += sectionSize;
+            if (processed >= budget) {
+                break;
+            }
+        }
+        return processed;
+    }
+
+    private void removeSection(ResourceSnapshot resources, int end) {
+        long first = keys[cursor];
+        WorldChunk chunk = world.getChunkIfLoaded(ChunkUtil.indexChunk(chunkX(first), chunkZ(first)));
+        if (chunk == null) {
+            cursor = end; // Chunk unloaded since the scan; leave those blocks alone
+            return;
+        }
+
+        PlacedBlocks placed = chunk.getReference() != null
+            ? world.getChunkStore().getStore().getComponent(chunk.getReference(), PlacedBlocks.getComponentType())
+            : null;
+        int settings = 0;
+        for (; cursor < end; cursor++) {
+            long key = keys[cursor];
+            int x = (chunkX(key) << 5) | (int) ((key >>> 10) & 31);
+            int z = (chunkZ(key) << 5) | (int) ((key >>> 5) & 31);
+            int y = (sectionY(key) << 5) | (int) (key & 31);
+
+            int blockId = chunk.getBlock(x, y, z);
+            if (blockId == 0 || !filter.matches(resources, blockId)) {
+                continue;
+            }
+            if (placed != null && placed.isPlaced(x, y, z)) {
+                continue;
+            }
+            if (chunk.breakBlock(x, y, z, settings)) {
+                removedCounts.merge(blockId, 1, Integer::sum);
+                removed++;
+                settings = SETTINGS_NO_PARTICLES;
+            }
+        }
+    }
+
+    /**
+     * Run a callback on the world thread once every block has been processed and the drops spawned
+     * @return This job
+     */
+    @Nonnull
+    public BlockRemovalJob onComplete(@Nonnull Consumer<BlockRemovalJob> callback) {
+        this.onComplete = callback;
+        return this;
+    }
+
+    /**
+     * Called by BlockRemovalSystem when the job is finished
+     */
+    public void complete() {
+        if (onComplete != null) {
+            onComplete.accept(this);
+        }
+    }
+
+    public boolean isDone() {
+        return cursor >= keys.length;
+    }
+
+    @Nonnull
+    public World getWorld() {
+        return world;
+    }
+
+    @Nonnull
+    public Vector3d getDropPosition() {
+        return dropPosition;
+    }
+
+    /**
+     * @return Number of blocks actually removed so far; placed blocks are skipped, so all of them are natural
+     */
+    public int getRemovedNatural() {
+        return removed;
+    }
+
+    /**
+     * Count the removed blocks that match a filter, e.g. only the logs of a felled tree
+     * @return Number of matching blocks removed so far
+     */
+    public int getRemovedNatural(@Nonnull ResourceSnapshot resources, @Nonnull Filter filter) {
+        int count = 0;
+        for (Map.Entry<Integer, Integer> entry : removedCounts.entrySet()) {
+            if (filter.matches(resources, entry.getKey())) {
+                count += entry.getValue();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Build the drops for everything removed, one drop lookup per block type rather than per block
+     * Stacks are split at the item's max stack size.
+     */
+    @Nonnull
+    public List<ItemStack> collectDrops() {
+        List<ItemStack> drops = new ArrayList<>();
+        for (Map.Entry<Integer, Integer> entry : removedCounts.entrySet()) {
+            BlockType blockType = BlockType.getAssetMap().getAsset(entry.getKey());
+            if (blockType == null) {
+                continue;
+            }
+            BlockGathering gathering = blockType.getGathering();
+            BlockBreakingDropType breaking = gathering != null ? gathering.getBreaking() : null;
+            String itemId = breaking != null ? breaking.getItemId() : null;
+            String dropListId = breaking != null ? breaking.getDropListId() : null;
+
+            for (ItemStack stack : BlockHarvestUtils.getDrops(blockType, entry.getValue(), itemId, dropListId)) {
+                DropAggregator.addSplit(drops, stack);
+            }
+        }
+        return drops;
+    }
+
+    private static long sortKey(int x, int y, int z) {
+        long local = ((long) (x & 31) << 10) | ((long) (z & 31) << 5) | (y & 31);
+        return ((x >> 5) & CHUNK_MASK) << 40 | ((z >> 5) & CHUNK_MASK) << 19 | (long) ((y >> 5) & 15) << LOCAL_BITS | local;
+    }
+
+    private static int chunkX(long key) {
+        return (int) (key << 3 >> 43);
+    }
+
+    private static int chunkZ(long key) {
+        return (int) (key << 24 >> 43);
+    }
+
+    private static int sectionY(long key) {
+        return (int) ((key >>> LOCAL_BITS) & 15);
+    }
+}
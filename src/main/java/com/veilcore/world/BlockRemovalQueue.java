@@ -0,0 +1,53 @@
+package com.veilcore.world;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.hypixel.hytale.component.Resource;
+import com.hypixel.hytale.component.ResourceType;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.veilcore.VeilCorePlugin;
+
+/**
+ * Per-world queue of pending block removal jobs, stored as an EntityStore resource
+ * Only touched from the world thread: jobs are queued from block events and drained by BlockRemovalSystem.
+ */
+public class BlockRemovalQueue implements Resource<EntityStore> {
+
+    private final Deque<BlockRemovalJob> jobs = new ArrayDeque<>();
+
+    public static ResourceType<EntityStore, BlockRemovalQueue> getResourceType() {
+        return VeilCorePlugin.getInstance().getBlockRemovalQueueResourceType();
+    }
+
+    public void add(@Nonnull BlockRemovalJob job) {
+        jobs.add(job);
+    }
+
+    @Nullable
+    public BlockRemovalJob peek() {
+        return jobs.peek();
+    }
+
+    public void removeFirst() {
+        jobs.poll();
+    }
+
+    public boolean isEmpty() {
+        return jobs.isEmpty();
+    }
+
+    public int size() {
+        return jobs.size();
+    }
+
+    @Nonnull
+    @Override
+    public Resource<EntityStore> clone() {
+        // Pending jobs reference live chunks and aren't carried over to copies
+        return new BlockRemovalQueue();
+    }
+}
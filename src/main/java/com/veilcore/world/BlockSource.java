@@ -0,0 +1,18 @@
+package com.veilcore.world;
+
+/**
+ * Where a ConnectedBlockSearch reads blocks from
+ * ChunkBlockCache reads a live world; benchmarks supply synthetic blocks so scans can run without a server.
+ */
+public interface BlockSource {
+
+    /**
+     * @return The block ID at the position, or 0 for air and unloaded chunks
+     */
+    int getBlock(int x, int y, int z);
+
+    /**
+     * @return Whether the block at the position was placed by a player
+     */
+    boolean isPlaced(int x, int y, int z);
+}
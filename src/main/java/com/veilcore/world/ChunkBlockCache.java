@@ -0,0 +1,81 @@
+package com.veilcore.world;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.hypixel.hytale.math.util.ChunkUtil;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.chunk.BlockChunk;
+import com.hypixel.hytale.server.core.universe.world.chunk.WorldChunk;
+
+/**
+ * Reads block IDs from a world while remembering the last BlockChunk looked up
+ * Neighbouring blocks almost always share a chunk, so a flood fill only resolves a chunk when it crosses a border.
+ * The chunk's PlacedBlocks component is cached alongside it, so placed-block checks cost a bit test.
+ * Must be used from the world thread and bound to a world with {@link #bind(World)} before each scan.
+ */
+public final class ChunkBlockCache implements BlockSource {
+
+    @Nullable
+    private World world;
+    private long cachedChunkIndex = ChunkUtil.NOT_FOUND;
+    @Nullable
+    private BlockChunk cachedChunk;
+    @Nullable
+    private PlacedBlocks cachedPlaced;
+
+    /**
+     * Start reading from a world, dropping any chunk cached from a previous scan
+     */
+    public void bind(@Nonnull World world) {
+        this.world = world;
+        this.cachedChunkIndex = ChunkUtil.NOT_FOUND;
+        this.cachedChunk = null;
+        this.cachedPlaced = null;
+    }
+
+    /**
+     * Release the world and cached chunk so a pooled cache doesn't keep them alive
+     */
+    public void unbind() {
+        this.world = null;
+        this.cachedChunkIndex = ChunkUtil.NOT_FOUND;
+        this.cachedChunk = null;
+        this.cachedPlaced = null;
+    }
+
+    /**
+     * @return The block ID at the position, or 0 for air, out-of-range Y and unloaded chunks
+     */
+    @Override
+    public int getBlock(int x, int y, int z) {
+        BlockChunk blockChunk = getBlockChunk(x, z);
+        return blockChunk != null ? blockChunk.getBlock(x, y, z) : 0;
+    }
+
+    /**
+     * @return Whether the block was placed by a player; false for unloaded chunks
+     */
+    @Override
+    public boolean isPlaced(int x, int y, int z) {
+        getBlockChunk(x, z);
+        return cachedPlaced != null && cachedPlaced.isPlaced(x, y, z);
+    }
+
+    /**
+     * @return The BlockChunk containing the column, or null if that chunk is not loaded
+     */
+    @Nullable
+    public BlockChunk getBlockChunk(int x, int z) {
+        long chunkIndex = ChunkUtil.indexChunkFromBlock(x, z);
+        if (chunkIndex != cachedChunkIndex) {
+            WorldChunk worldChunk = world != null ? world.getChunkIfLoaded(chunkIndex) : null;
+            cachedChunk = worldChunk != null ? worldChunk.getBlockChunk() : null;
+            cachedPlaced = worldChunk != null && worldChunk.getReference() != null
+                ? world.getChunkStore().getStore().getComponent(worldChunk.getReference(), PlacedBlocks.getComponentType())
+                : null;
+            cachedChunkIndex = chunkIndex;
+        }
+        return cachedChunk;
+    }
+}
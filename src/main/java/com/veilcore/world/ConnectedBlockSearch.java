@@ -0,0 +1,208 @@
+package com.veilcore.world;
+
+import java.util.Arrays;
+
+import javax.annotation.Nonnull;
+
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.veilcore.resources.ResourceSnapshot;
+
+/**
+ * Breadth-first search over face-connected blocks, shared by tree felling and vein mining
+ * Positions are packed longs (see {@link BlockPos}) in a primitive visited set and ring queue, block reads go
+ * through a ChunkBlockCache (or any other {@link BlockSource}), and matching is done against ResourceSnapshot lookup tables. With matchers and
+ * bounds held in constants a reused search allocates nothing once its buffers have grown.
+ * Player-placed blocks (see {@link PlacedBlocks}) never join a search, so builds touching a tree or vein are left alone.
+ *
+ * Usage: {@link #begin}, {@link #seed} the origin, one or more {@link #flood} passes, then {@link #end}.
+ * Positions recorded by the floods stay available until the next {@link #begin}.
+ * Not thread-safe; keep one per thread.
+ */
+public final class ConnectedBlockSearch {
+
+    /**
+     * Decides whether a block joins the search
+     */
+    @FunctionalInterface
+    public interface Matcher {
+        /**
+         * @param resources Block classification tables
+         * @param blockId The candidate block
+         * @param originId The block the search started from
+         */
+        boolean matches(@Nonnull ResourceSnapshot resources, int blockId, int originId);
+    }
+
+    /**
+     * Limits how far the search spreads, relative to the origin
+     */
+    @FunctionalInterface
+    public interface Bounds {
+        boolean contains(int dx, int dy, int dz);
+    }
+
+    public static final Bounds UNBOUNDED = (dx, dy, dz) -> true;
+
+    private static final int[] DX = {0, 0, 1, -1, 0, 0};
+    private static final int[] DY = {1, -1, 0, 0, 0, 0};
+    private static final int[] DZ = {0, 0, 0, 0, 1, -1};
+
+    private final LongHashSet visited = new LongHashSet(2048);
+    private final LongRingQueue queue = new LongRingQueue(512);
+    private final ChunkBlockCache cache = new ChunkBlockCache();
+
+    private BlockSource blocks = cache;
+
+    private long[] found = new long[512];
+    private int foundCount;
+    private int originX;
+    private int originY;
+    private int originZ;
+    private int originId;
+
+    /**
+     * Start a new search in a world around an origin block
+     * @param world The world to search (must be called on its thread)
+     */
+    public void begin(@Nonnull World world, int x, int y, int z) {
+        cache.bind(world);
+        begin(cache, x, y, z);
+    }
+
+    /**
+     * Start a new search reading from any block source
+     */
+    public void begin(@Nonnull BlockSource source, int x, int y, int z) {
+        blocks = source;
+        visited.clear();
+        queue.clear();
+        foundCount = 0;
+        originX = x;
+        originY = y;
+        originZ = z;
+        originId = blocks.getBlock(x, y, z);
+    }
+
+    /**
+     * Release the world and reset the working buffers; recorded positions are kept
+     */
+    public void end() {
+        cache.unbind();
+        blocks = cache;
+        visited.clear();
+        queue.clear();
+    }
+
+    /**
+     * Read a block through the chunk cache
+     * @return The block ID, or 0 for air and unloaded chunks
+     */
+    public int getBlock(int x, int y, int z) {
+        return blocks.getBlock(x, y, z);
+    }
+
+    /**
+     * @return Whether the block was placed by a player
+     */
+    public boolean isPlaced(int x, int y, int z) {
+        return blocks.isPlaced(x, y, z);
+    }
+
+    /**
+     * Override the origin's block ID, e.g. when the block has already been broken
+     */
+    public void setOriginId(int blockId) {
+        this.originId = blockId;
+    }
+
+    /**
+     * Queue a position to expand from on the next flood and mark it visited
+     */
+    public void seed(long packed) {
+        visited.add(packed);
+        queue.add(packed);
+    }
+
+    /**
+     * Seed the next flood with the origin and everything recorded so far
+     */
+    public void seedOriginAndFound() {
+        queue.clear();
+        queue.add(BlockPos.pack(originX, originY, originZ));
+        for (int i = 0; i < foundCount; i++) {
+            queue.add(found[i]);
+        }
+    }
+
+    /**
+     * Expand from the queued positions through matching blocks, recording each one found
+     * Only matching blocks are marked visited, so a later pass with a different matcher can still reach
+     * blocks this pass rejected.
+     *
+     * @param resources Block classification tables
+     * @param matcher Which blocks join the search
+     * @param bounds How far from the origin the search may go
+     * @param limit Maximum number of blocks to record in this pass
+     * @param maxDepth Maximum steps from the seeds, or Integer.MAX_VALUE
+     * @return Number of blocks recorded in this pass
+     */
+    public int flood(@Nonnull ResourceSnapshot resources, @Nonnull Matcher matcher, @Nonnull Bounds bounds, int limit, int maxDepth) {
+        int recorded = 0;
+        for (int depth = 0; depth < maxDepth && !queue.isEmpty(); depth++) {
+            for (int remaining = queue.size(); remaining > 0; remaining--) {
+                long current = queue.poll();
+                int x = BlockPos.x(current);
+                int y = BlockPos.y(current);
+                int z = BlockPos.z(current);
+
+                for (int dir = 0; dir < DX.length; dir++) {
+                    int nx = x + DX[dir];
+                    int ny = y + DY[dir];
+                    int nz = z + DZ[dir];
+
+                    if (!bounds.contains(nx - originX, ny - originY, nz - originZ)) continue;
+                    if (!matcher.matches(resources, blocks.getBlock(nx, ny, nz), originId)) continue;
+                    if (blocks.isPlaced(nx, ny, nz)) continue;
+
+                    long neighbour = BlockPos.pack(nx, ny, nz);
+                    if (!visited.add(neighbour)) continue;
+
+                    record(neighbour);
+                    queue.add(neighbour);
+                    if (++recorded >= limit) {
+                        queue.clear();
+                        return recorded;
+                    }
+                }
+            }
+        }
+        queue.clear();
+        return recorded;
+    }
+
+    public int getOriginId() {
+        return originId;
+    }
+
+    /**
+     * @return Number of positions recorded since {@link #begin}, excluding the origin
+     */
+    public int getFoundCount() {
+        return foundCount;
+    }
+
+    /**
+     * Copy out the recorded packed positions in the order they were found
+     */
+    @Nonnull
+    public long[] copyFound() {
+        return Arrays.copyOf(found, foundCount);
+    }
+
+    private void record(long packed) {
+        if (foundCount == found.length) {
+            found = Arrays.copyOf(found, found.length << 1);
+        }
+        found[foundCount++] = packed;
+    }
+}
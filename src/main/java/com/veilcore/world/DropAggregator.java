@@ -0,0 +1,217 @@
+package com.veilcore.world;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Resource;
+import com.hypixel.hytale.component.ResourceType;
+import com.hypixel.hytale.math.util.ChunkUtil;
+import com.hypixel.hytale.math.vector.Vector3d;
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.veilcore.VeilCorePlugin;
+
+/**
+ * Per-world buffer for bonus drops, stored as an EntityStore resource
+ * Drops of the same item from one player that land in the same grid cell within the merge window are
+ * combined into one pending stack, so a burst of fortune procs becomes a single item entity. The item
+ * entities spawned from it are tracked per chunk so DropAggregatorSystem can cap them.
+ * Only touched from the world thread.
+ */
+public class DropAggregator implements Resource<EntityStore> {
+
+    /**
+     * Bonus items waiting for the merge window to close
+     */
+    public static final class PendingDrop {
+        private final Ref<EntityStore> owner;
+        private final UUID ownerId;
+        private final String itemId;
+        private final Vector3d position;
+        private int quantity;
+        private float age;
+
+        private PendingDrop(Ref<EntityStore> owner, UUID ownerId, String itemId, Vector3d position) {
+            this.owner = owner;
+            this.ownerId = ownerId;
+            this.itemId = itemId;
+            this.position = position;
+        }
+
+        /**
+         * @return The player the drop belongs to; may no longer be valid
+         */
+        @Nonnull
+        public Ref<EntityStore> getOwner() {
+            return owner;
+        }
+
+        @Nonnull
+        public String getItemId() {
+            return itemId;
+        }
+
+        /**
+         * @return Where the first drop of the merged stack happened
+         */
+        @Nonnull
+        public Vector3d getPosition() {
+            return position;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+    }
+
+    private static final class Key {
+        private final UUID ownerId;
+        private final String itemId;
+        private final long cell;
+
+        private Key(UUID ownerId, String itemId, long cell) {
+            this.ownerId = ownerId;
+            this.itemId = itemId;
+            this.cell = cell;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return cell == other.cell && ownerId.equals(other.ownerId) && itemId.equals(other.itemId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(ownerId, itemId, cell);
+        }
+    }
+
+    private final Map<Key, PendingDrop> pending = new LinkedHashMap<>();
+    private final Map<Long, List<Ref<EntityStore>>> liveByChunk = new HashMap<>();
+
+    public static ResourceType<EntityStore, DropAggregator> getResourceType() {
+        return VeilCorePlugin.getInstance().getDropAggregatorResourceType();
+    }
+
+    /**
+     * Add bonus items for a player, merging with a pending stack of the same item in the same cell
+     *
+     * @param owner The player's entity
+     * @param ownerId The player's UUID
+     * @param stack The items to drop
+     * @param position Where the items would drop
+     * @param mergeRadius Size in blocks of the merge grid cell
+     */
+    public void offer(@Nonnull Ref<EntityStore> owner, @Nonnull UUID ownerId, @Nonnull ItemStack stack, @Nonnull Vector3d position, int mergeRadius) {
+        if (stack.getQuantity() <= 0) {
+            return;
+        }
+        long cell = BlockPos.pack(
+            Math.floorDiv((int) Math.floor(position.getX()), mergeRadius),
+            Math.floorDiv((int) Math.floor(position.getY()), mergeRadius),
+            Math.floorDiv((int) Math.floor(position.getZ()), mergeRadius));
+        PendingDrop drop = pending.computeIfAbsent(new Key(ownerId, stack.getItemId(), cell),
+            key -> new PendingDrop(owner, ownerId, key.itemId, position));
+        drop.quantity += stack.getQuantity();
+    }
+
+    /**
+     * Age the pending drops and move those whose merge window has closed into the output list
+     *
+     * @param dt Seconds since the last call
+     * @param window Merge window in seconds
+     * @param out Receives the drops that are due
+     */
+    public void pollDue(float dt, double window, @Nonnull List<PendingDrop> out) {
+        Iterator<PendingDrop> it = pending.values().iterator();
+        while (it.hasNext()) {
+            PendingDrop drop = it.next();
+            drop.age += dt;
+            if (drop.age >= window) {
+                out.add(drop);
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Put back what is left of a drop that couldn't be placed yet; it waits another full window
+     */
+    public void requeue(@Nonnull PendingDrop drop, int remaining, int mergeRadius) {
+        offer(drop.owner, drop.ownerId, new ItemStack(drop.itemId, remaining), drop.position, mergeRadius);
+    }
+
+    /**
+     * Get the bonus drop entities still alive in a chunk, forgetting any that were picked up or despawned
+     *
+     * @param chunkIndex See {@link ChunkUtil#indexChunk}
+     */
+    @Nonnull
+    public List<Ref<EntityStore>> getLiveDrops(long chunkIndex) {
+        List<Ref<EntityStore>> live = liveByChunk.get(chunkIndex);
+        if (live == null) {
+            return List.of();
+        }
+        live.removeIf(ref -> !ref.isValid());
+        if (live.isEmpty()) {
+            liveByChunk.remove(chunkIndex);
+            return List.of();
+        }
+        return live;
+    }
+
+    /**
+     * Start counting a spawned bonus drop entity against its chunk's cap
+     */
+    public void track(long chunkIndex, @Nonnull Ref<EntityStore> ref) {
+        liveByChunk.computeIfAbsent(chunkIndex, index -> new ArrayList<>()).add(ref);
+    }
+
+    public boolean isEmpty() {
+        return pending.isEmpty();
+    }
+
+    /**
+     * Split a stack into stacks no larger than the item's max stack size
+     */
+    public static void addSplit(@Nonnull List<ItemStack> out, @Nonnull ItemStack stack) {
+        int maxStack = getMaxStack(stack);
+        int quantity = stack.getQuantity();
+        if (quantity <= maxStack) {
+            out.add(stack);
+            return;
+        }
+        while (quantity > 0) {
+            int size = Math.min(quantity, maxStack);
+            out.add(new ItemStack(stack.getItemId(), size));
+            quantity -= size;
+        }
+    }
+
+    /**
+     * @return The item's max stack size, or Integer.MAX_VALUE if the item is unknown
+     */
+    public static int getMaxStack(@Nullable ItemStack stack) {
+        return stack != null && stack.getItem() != null ? Math.max(1, stack.getItem().getMaxStack()) : Integer.MAX_VALUE;
+    }
+
+    @Nonnull
+    @Override
+    public Resource<EntityStore> clone() {
+        // Pending drops reference live entities and aren't carried over to copies
+        return new DropAggregator();
+    }
+}
@@ -0,0 +1,62 @@
+package com.veilcore.world;
+
+/**
+ * FIFO queue of primitive longs backed by a growable power-of-two ring buffer
+ * Reusable across scans via clear(), which only resets the indices.
+ */
+public final class LongRingQueue {
+
+    private long[] buffer;
+    private int mask;
+    private int head;
+    private int tail;
+
+    public LongRingQueue(int initialCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(16, initialCapacity) - 1) << 1;
+        buffer = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    public void add(long value) {
+        buffer[tail] = value;
+        tail = (tail + 1) & mask;
+        if (tail == head) {
+            grow();
+        }
+    }
+
+    /**
+     * Remove and return the oldest value; only call when not empty
+     */
+    public long poll() {
+        long value = buffer[head];
+        head = (head + 1) & mask;
+        return value;
+    }
+
+    public boolean isEmpty() {
+        return head == tail;
+    }
+
+    public int size() {
+        return (tail - head) & mask;
+    }
+
+    public void clear() {
+        head = 0;
+        tail = 0;
+    }
+
+    private void grow() {
+        // Buffer is exactly full (head == tail); unroll it into a buffer twice the size
+        long[] old = buffer;
+        long[] grown = new long[old.length << 1];
+        int firstPart = old.length - head;
+        System.arraycopy(old, head, grown, 0, firstPart);
+        System.arraycopy(old, 0, grown, firstPart, head);
+        buffer = grown;
+        mask = grown.length - 1;
+        head = 0;
+        tail = old.length;
+    }
+}
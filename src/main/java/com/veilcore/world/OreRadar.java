@@ -0,0 +1,221 @@
+package com.veilcore.world;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.math.util.ChunkUtil;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.chunk.ChunkColumn;
+import com.hypixel.hytale.server.core.universe.world.chunk.WorldChunk;
+import com.hypixel.hytale.server.core.universe.world.chunk.section.BlockSection;
+import com.hypixel.hytale.server.core.universe.world.storage.ChunkStore;
+import com.veilcore.resources.ResourceSnapshot;
+
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+
+/**
+ * Finds the ores in a sphere around a point, grouped by ore definition
+ * Each section in range is first checked against its cached OreSummary; sections whose palette holds no
+ * ore are skipped without reading a single block, so scanning an ore-free area costs one lookup per
+ * section. Only sections that do hold ore are searched, and then only for the ore block IDs.
+ * Must be called on the world thread. Not thread-safe; use one instance per scan.
+ */
+public class OreRadar {
+
+    /**
+     * Ores of one definition found in range
+     */
+    public static class Hit {
+        private final int oreGroup;
+        private int count;
+        private int nearestX;
+        private int nearestY;
+        private int nearestZ;
+        private long nearestDistanceSquared = Long.MAX_VALUE;
+
+        private Hit(int oreGroup) {
+            this.oreGroup = oreGroup;
+        }
+
+        /**
+         * @return Index of the ore definition in gathering.json
+         */
+        public int getOreGroup() {
+            return oreGroup;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public int getNearestX() {
+            return nearestX;
+        }
+
+        public int getNearestY() {
+            return nearestY;
+        }
+
+        public int getNearestZ() {
+            return nearestZ;
+        }
+
+        public double getNearestDistance() {
+            return Math.sqrt(nearestDistanceSquared);
+        }
+    }
+
+    private final IntOpenHashSet paletteIdHolder = new IntOpenHashSet();
+    private final List<Hit> hits = new ArrayList<>();
+    private int sectionsChecked;
+    private int sectionsSearched;
+
+    // Scan state shared with the per-block callback
+    private ResourceSnapshot resources;
+    private BlockSection section;
+    private int baseX;
+    private int baseY;
+    private int baseZ;
+    private int centerX;
+    private int centerY;
+    private int centerZ;
+    private long radiusSquared;
+
+    /**
+     * Scan loaded chunks around a point; unloaded chunks are skipped
+     * @param world The world to scan
+     * @param resources The current classification tables
+     * @param x Center X
+     * @param y Center Y
+     * @param z Center Z
+     * @param radius Scan radius in blocks
+     * @return One hit per ore group found, nearest first; valid until the next scan
+     */
+    @Nonnull
+    public List<Hit> scan(@Nonnull World world, @Nonnull ResourceSnapshot resources, int x, int y, int z, int radius) {
+        hits.clear();
+        sectionsChecked = 0;
+        sectionsSearched = 0;
+        if (radius <= 0 || resources.getOreBlockIds().isEmpty()) {
+            return hits;
+        }
+
+        this.resources = resources;
+        this.centerX = x;
+        this.centerY = y;
+        this.centerZ = z;
+        this.radiusSquared = (long) radius * radius;
+
+        Store<ChunkStore> chunkStore = world.getChunkStore().getStore();
+        int minSection = Math.max(0, ChunkUtil.indexSection(y - radius));
+        int maxSection = Math.min(ChunkUtil.HEIGHT_SECTIONS - 1, ChunkUtil.indexSection(y + radius));
+
+        for (int cx = ChunkUtil.chunkCoordinate(x - radius); cx <= ChunkUtil.chunkCoordinate(x + radius); cx++) {
+            for (int cz = ChunkUtil.chunkCoordinate(z - radius); cz <= ChunkUtil.chunkCoordinate(z + radius); cz++) {
+                WorldChunk chunk = world.getChunkIfLoaded(ChunkUtil.indexChunk(cx, cz));
+                if (chunk == null) {
+                    continue;
+                }
+                Ref<ChunkStore> chunkRef = chunk.getReference();
+                if (chunkRef == null || !chunkRef.isValid()) {
+                    continue;
+                }
+                ChunkColumn column = chunkStore.getComponent(chunkRef, ChunkColumn.getComponentType());
+                if (column == null) {
+                    continue;
+                }
+                OreSummary summary = chunkStore.getComponent(chunkRef, OreSummary.getComponentType());
+
+                for (int sectionIndex = minSection; sectionIndex <= maxSection; sectionIndex++) {
+                    // Sections are their own entities in the chunk store, one per column slot
+                    Ref<ChunkStore> sectionRef = column.getSection(sectionIndex);
+                    BlockSection blockSection = sectionRef != null && sectionRef.isValid()
+                        ? chunkStore.getComponent(sectionRef, BlockSection.getComponentType())
+                        : null;
+                    if (blockSection == null) {
+                        continue;
+                    }
+                    sectionsChecked++;
+                    boolean mayContainOre = summary != null
+                        ? summary.mayContainOre(sectionIndex, blockSection, resources)
+                        : blockSection.containsAny(resources.getOreBlockIds());
+                    if (!mayContainOre) {
+                        continue;
+                    }
+
+                    sectionsSearched++;
+                    this.section = blockSection;
+                    this.baseX = cx << 5;
+                    this.baseY = sectionIndex << 5;
+                    this.baseZ = cz << 5;
+                    // The palette adds its internal IDs to the holder without clearing it first
+                    paletteIdHolder.clear();
+                    blockSection.find(resources.getOreBlockIds(), paletteIdHolder, this::visit);
+                }
+            }
+        }
+
+        this.resources = null;
+        this.section = null;
+        hits.sort((a, b) -> Long.compare(a.nearestDistanceSquared, b.nearestDistanceSquared));
+        return hits;
+    }
+
+    private void visit(int index) {
+        int bx = baseX + (index & 31);
+        int bz = baseZ + ((index >> 5) & 31);
+        int by = baseY + ((index >> 10) & 31);
+
+        long dx = bx - centerX;
+        long dy = by - centerY;
+        long dz = bz - centerZ;
+        long distanceSquared = dx * dx + dy * dy + dz * dz;
+        if (distanceSquared > radiusSquared) {
+            return;
+        }
+
+        int group = resources.getOreGroup(section.get(index));
+        if (group < 0) {
+            return;
+        }
+
+        Hit hit = getHit(group);
+        hit.count++;
+        if (distanceSquared < hit.nearestDistanceSquared) {
+            hit.nearestDistanceSquared = distanceSquared;
+            hit.nearestX = bx;
+            hit.nearestY = by;
+            hit.nearestZ = bz;
+        }
+    }
+
+    private Hit getHit(int group) {
+        // Only a handful of ore definitions exist, a linear search beats a map here
+        for (Hit hit : hits) {
+            if (hit.oreGroup == group) {
+                return hit;
+            }
+        }
+        Hit hit = new Hit(group);
+        hits.add(hit);
+        return hit;
+    }
+
+    /**
+     * @return Sections in range during the last scan
+     */
+    public int getSectionsChecked() {
+        return sectionsChecked;
+    }
+
+    /**
+     * @return Sections whose blocks had to be searched during the last scan
+     */
+    public int getSectionsSearched() {
+        return sectionsSearched;
+    }
+}
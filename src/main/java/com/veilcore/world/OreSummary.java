@@ -0,0 +1,67 @@
+package com.veilcore.world;
+
+import java.util.Arrays;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.hypixel.hytale.component.Component;
+import com.hypixel.hytale.component.ComponentType;
+import com.hypixel.hytale.math.util.ChunkUtil;
+import com.hypixel.hytale.server.core.universe.world.chunk.section.BlockSection;
+import com.hypixel.hytale.server.core.universe.world.storage.ChunkStore;
+import com.veilcore.VeilCorePlugin;
+import com.veilcore.resources.ResourceSnapshot;
+
+/**
+ * Chunk component caching, per section, whether the section's block palette holds any ore
+ * A cached answer is reused until the section's change counter moves (any block set in the section bumps
+ * it) or the ore tables are rebuilt, so repeated scans of an unchanged area never touch the palettes.
+ * Not persisted; rebuilt lazily after a chunk loads.
+ */
+public class OreSummary implements Component<ChunkStore> {
+
+    private static final byte UNKNOWN = 0;
+    private static final byte NO_ORE = 1;
+    private static final byte HAS_ORE = 2;
+
+    private final byte[] states = new byte[ChunkUtil.HEIGHT_SECTIONS];
+    private final short[] counters = new short[ChunkUtil.HEIGHT_SECTIONS];
+    @Nullable
+    private ResourceSnapshot snapshot;
+
+    public static ComponentType<ChunkStore, OreSummary> getComponentType() {
+        return VeilCorePlugin.getInstance().getOreSummaryComponentType();
+    }
+
+    /**
+     * Check whether a section may contain ore, from the cache or else from its palette
+     * @param sectionIndex Section index within the chunk (Y >> 5)
+     * @param section The section's block data
+     * @param resources The current classification tables
+     * @return false only if no defined ore is in the section's palette
+     */
+    public boolean mayContainOre(int sectionIndex, @Nonnull BlockSection section, @Nonnull ResourceSnapshot resources) {
+        if (resources != snapshot) {
+            Arrays.fill(states, UNKNOWN);
+            snapshot = resources;
+        }
+
+        short counter = section.getLocalChangeCounter();
+        if (states[sectionIndex] != UNKNOWN && counters[sectionIndex] == counter) {
+            return states[sectionIndex] == HAS_ORE;
+        }
+
+        boolean hasOre = section.containsAny(resources.getOreBlockIds());
+        states[sectionIndex] = hasOre ? HAS_ORE : NO_ORE;
+        counters[sectionIndex] = counter;
+        return hasOre;
+    }
+
+    @Nonnull
+    @Override
+    public Component<ChunkStore> clone() {
+        // Cached answers are cheap to rebuild and tied to live sections
+        return new OreSummary();
+    }
+}
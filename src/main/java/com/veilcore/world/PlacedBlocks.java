@@ -0,0 +1,218 @@
+package com.veilcore.world;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.hypixel.hytale.codec.Codec;
+import com.hypixel.hytale.codec.KeyedCodec;
+import com.hypixel.hytale.codec.builder.BuilderCodec;
+import com.hypixel.hytale.component.Component;
+import com.hypixel.hytale.component.ComponentType;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.math.util.ChunkUtil;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.ChunkStore;
+import com.veilcore.VeilCorePlugin;
+
+/**
+ * Chunk component remembering which blocks in the chunk were placed by players
+ * Each 32-block section that contains a placed block gets a 32768-bit bitset (4 KB); sections without any
+ * stay null, so memory follows the sections players actually built in. Lookups are a single bit test.
+ * Saved and loaded with the chunk; only the non-zero words of each bitset are written.
+ */
+public class PlacedBlocks implements Component<ChunkStore> {
+
+    private static final long SERIALIZATION_VERSION = 1;
+
+    public static final BuilderCodec<PlacedBlocks> CODEC = BuilderCodec.builder(PlacedBlocks.class, PlacedBlocks::new)
+        .append(new KeyedCodec<>("Words", Codec.LONG_ARRAY), PlacedBlocks::deserialize, PlacedBlocks::serialize)
+        .add()
+        .build();
+
+    private static final int WORDS_PER_SECTION = ChunkUtil.SIZE_BLOCKS >> 6;
+
+    private final long[][] sections = new long[ChunkUtil.HEIGHT_SECTIONS][];
+    private final int[] counts = new int[ChunkUtil.HEIGHT_SECTIONS];
+
+    public static ComponentType<ChunkStore, PlacedBlocks> getComponentType() {
+        return VeilCorePlugin.getInstance().getPlacedBlocksComponentType();
+    }
+
+    /**
+     * Look up the placed-block bitsets of the chunk containing a block
+     * @return The component, or null if the chunk isn't loaded
+     */
+    @Nullable
+    public static PlacedBlocks get(@Nonnull World world, int x, int z) {
+        ChunkStore chunkStore = world.getChunkStore();
+        Ref<ChunkStore> chunkRef = chunkStore.getChunkReference(ChunkUtil.indexChunkFromBlock(x, z));
+        if (chunkRef == null || !chunkRef.isValid()) {
+            return null;
+        }
+        return chunkStore.getStore().getComponent(chunkRef, getComponentType());
+    }
+
+    /**
+     * Check whether a block in a loaded chunk was placed by a player
+     */
+    public static boolean isPlaced(@Nonnull World world, int x, int y, int z) {
+        PlacedBlocks placed = get(world, x, z);
+        return placed != null && placed.isPlaced(x, y, z);
+    }
+
+    /**
+     * @param x World or chunk-local X; only the low 5 bits are used
+     * @param y World Y
+     * @param z World or chunk-local Z; only the low 5 bits are used
+     */
+    public boolean isPlaced(int x, int y, int z) {
+        if (y < 0 || y >= ChunkUtil.HEIGHT) {
+            return false;
+        }
+        long[] bits = sections[y >> 5];
+        if (bits == null) {
+            return false;
+        }
+        int index = index(x, y, z);
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Mark a block as player-placed
+     */
+    public void set(int x, int y, int z) {
+        if (y < 0 || y >= ChunkUtil.HEIGHT) {
+            return;
+        }
+        int section = y >> 5;
+        long[] bits = sections[section];
+        if (bits == null) {
+            bits = sections[section] = new long[WORDS_PER_SECTION];
+        }
+        int index = index(x, y, z);
+        long mask = 1L << index;
+        if ((bits[index >>> 6] & mask) == 0) {
+            bits[index >>> 6] |= mask;
+            counts[section]++;
+        }
+    }
+
+    /**
+     * Forget a block, releasing its section's bitset once the section has no placed blocks left
+     */
+    public void clear(int x, int y, int z) {
+        if (y < 0 || y >= ChunkUtil.HEIGHT) {
+            return;
+        }
+        int section = y >> 5;
+        long[] bits = sections[section];
+        if (bits == null) {
+            return;
+        }
+        int index = index(x, y, z);
+        long mask = 1L << index;
+        if ((bits[index >>> 6] & mask) != 0) {
+            bits[index >>> 6] &= ~mask;
+            if (--counts[section] == 0) {
+                sections[section] = null;
+            }
+        }
+    }
+
+    /**
+     * @return Number of placed blocks recorded in this chunk
+     */
+    public int size() {
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    private static int index(int x, int y, int z) {
+        return (y & 31) << 10 | (z & 31) << 5 | (x & 31);
+    }
+
+    /**
+     * Layout: version, then per section a header (section Y << 32 | non-zero word count) and (word index, word) pairs
+     */
+    @Nonnull
+    public long[] serialize() {
+        int size = 1;
+        for (long[] bits : sections) {
+            if (bits != null) {
+                size += 1 + 2 * nonZeroWords(bits);
+            }
+        }
+
+        long[] data = new long[size];
+        int pos = 0;
+        data[pos++] = SERIALIZATION_VERSION;
+        for (int section = 0; section < sections.length; section++) {
+            long[] bits = sections[section];
+            if (bits == null) {
+                continue;
+            }
+            data[pos++] = (long) section << 32 | nonZeroWords(bits);
+            for (int word = 0; word < bits.length; word++) {
+                if (bits[word] != 0) {
+                    data[pos++] = word;
+                    data[pos++] = bits[word];
+                }
+            }
+        }
+        return data;
+    }
+
+    public void deserialize(@Nonnull long[] data) {
+        for (int section = 0; section < sections.length; section++) {
+            sections[section] = null;
+            counts[section] = 0;
+        }
+
+        // data[0] is the version; only one layout so far
+        int pos = 1;
+        while (pos < data.length) {
+            int section = (int) (data[pos] >>> 32);
+            int words = (int) data[pos++];
+            long[] bits = new long[WORDS_PER_SECTION];
+            int count = 0;
+            for (int w = 0; w < words && pos + 1 < data.length; w++) {
+                int wordIndex = (int) data[pos++];
+                long word = data[pos++];
+                if (wordIndex >= 0 && wordIndex < WORDS_PER_SECTION) {
+                    bits[wordIndex] = word;
+                    count += Long.bitCount(word);
+                }
+            }
+            if (section >= 0 && section < sections.length && count > 0) {
+                sections[section] = bits;
+                counts[section] = count;
+            }
+        }
+    }
+
+    private static int nonZeroWords(long[] bits) {
+        int words = 0;
+        for (long word : bits) {
+            if (word != 0) {
+                words++;
+            }
+        }
+        return words;
+    }
+
+    @Nonnull
+    @Override
+    public Component<ChunkStore> clone() {
+        PlacedBlocks copy = new PlacedBlocks();
+        for (int section = 0; section < sections.length; section++) {
+            if (sections[section] != null) {
+                copy.sections[section] = sections[section].clone();
+                copy.counts[section] = counts[section];
+            }
+        }
+        return copy;
+    }
+}
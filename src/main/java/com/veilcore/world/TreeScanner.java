@@ -0,0 +1,102 @@
+package com.veilcore.world;
+
+import javax.annotation.Nonnull;
+
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.veilcore.resources.ResourceSnapshot;
+
+/**
+ * Finds the logs that collapse when a log block is broken
+ * Searches face-connected natural logs at or above the broken block within a horizontal radius, then optionally
+ * the leaves reachable from them, using a ConnectedBlockSearch that is reused between scans.
+ * The positions found by the last scan (excluding the broken block) can be copied out for felling.
+ * Not thread-safe; keep one per thread.
+ */
+public final class TreeScanner {
+
+    public static final int MAX_LOGS = 500;
+    public static final int MAX_LEAVES = 2000;
+    public static final int MAX_HORIZONTAL_DISTANCE = 8; // Limit tree scan to 8 blocks radius horizontally
+
+    private static final ConnectedBlockSearch.Matcher LOGS = (resources, blockId, originId) -> resources.isLog(blockId);
+    private static final ConnectedBlockSearch.Matcher LEAVES = (resources, blockId, originId) -> resources.isLeaves(blockId);
+    // Only blocks at or above the break level, within the radius (avoids walking into neighbouring trees)
+    private static final ConnectedBlockSearch.Bounds TREE_BOUNDS = (dx, dy, dz) ->
+        dy >= 0 && dx * dx + dz * dz <= MAX_HORIZONTAL_DISTANCE * MAX_HORIZONTAL_DISTANCE;
+
+    private static final int[] SIDE_DX = {1, -1, 0, 0};
+    private static final int[] SIDE_DZ = {0, 0, 1, -1};
+
+    private final ConnectedBlockSearch search = new ConnectedBlockSearch();
+
+    /**
+     * Count the logs that will fall if the log at the given position is broken
+     * If the log still has a log next to it on the same Y level (multi-block trunk base) the tree
+     * stays grounded and only the broken block counts.
+     *
+     * @param world The world to scan (must be called on its thread)
+     * @param resources Block classification tables
+     * @return Number of logs including the broken one, at most {@link #MAX_LOGS}
+     */
+    public int scan(@Nonnull World world, @Nonnull ResourceSnapshot resources, int breakX, int breakY, int breakZ) {
+        return scan(world, resources, breakX, breakY, breakZ, 0);
+    }
+
+    /**
+     * Count the logs that will fall, also collecting the leaves attached to them
+     *
+     * @param leafReach How many leaves away from a log to follow the canopy; 0 collects no leaves
+     * @return Number of logs including the broken one, at most {@link #MAX_LOGS}
+     */
+    public int scan(@Nonnull World world, @Nonnull ResourceSnapshot resources, int breakX, int breakY, int breakZ, int leafReach) {
+        search.begin(world, breakX, breakY, breakZ);
+        return scanBegun(resources, breakX, breakY, breakZ, leafReach);
+    }
+
+    /**
+     * Count the logs that will fall, reading blocks from any source instead of a world
+     */
+    public int scan(@Nonnull BlockSource blocks, @Nonnull ResourceSnapshot resources, int breakX, int breakY, int breakZ, int leafReach) {
+        search.begin(blocks, breakX, breakY, breakZ);
+        return scanBegun(resources, breakX, breakY, breakZ, leafReach);
+    }
+
+    private int scanBegun(ResourceSnapshot resources, int breakX, int breakY, int breakZ, int leafReach) {
+        try {
+            // Sideways support from a natural log at the break level means the tree stays up
+            for (int dir = 0; dir < SIDE_DX.length; dir++) {
+                int sideX = breakX + SIDE_DX[dir];
+                int sideZ = breakZ + SIDE_DZ[dir];
+                if (resources.isLog(search.getBlock(sideX, breakY, sideZ)) && !search.isPlaced(sideX, breakY, sideZ)) {
+                    return 1;
+                }
+            }
+
+            search.seed(BlockPos.pack(breakX, breakY, breakZ));
+            int logCount = 1 + search.flood(resources, LOGS, TREE_BOUNDS, MAX_LOGS - 1, Integer.MAX_VALUE);
+
+            if (leafReach > 0) {
+                search.seedOriginAndFound();
+                search.flood(resources, LEAVES, TREE_BOUNDS, MAX_LEAVES, leafReach);
+            }
+            return logCount;
+        } finally {
+            search.end();
+        }
+    }
+
+    /**
+     * @return Number of positions found by the last scan, excluding the broken block
+     */
+    public int getFoundCount() {
+        return search.getFoundCount();
+    }
+
+    /**
+     * Copy out the packed positions (see {@link BlockPos}) found by the last scan, logs first
+     */
+    @Nonnull
+    public long[] copyFound() {
+        return search.copyFound();
+    }
+}